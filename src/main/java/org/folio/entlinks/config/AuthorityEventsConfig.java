@@ -0,0 +1,37 @@
+package org.folio.entlinks.config;
+
+import org.folio.entlinks.config.properties.AuthorityEventsProperties;
+import org.folio.entlinks.config.properties.ConsortiumFanOutProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AuthorityEventsConfig {
+
+  /**
+   * Executor for authority events of different tenants from one poll, used when tenant parallelism is enabled.
+   * Not a default candidate, so it doesn't replace the application task executor used by {@code @Async}.
+   */
+  @Bean(defaultCandidate = false)
+  public ThreadPoolTaskExecutor authorityEventsTaskExecutor(AuthorityEventsProperties authorityEventsProperties) {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(authorityEventsProperties.getTenantPoolSize());
+    executor.setMaxPoolSize(authorityEventsProperties.getTenantPoolSize());
+    executor.setThreadNamePrefix("authority-events-tenant-");
+    return executor;
+  }
+
+  /**
+   * Executor for authority changes of shadow copies in consortium member tenants.
+   * Not a default candidate, so it doesn't replace the application task executor used by {@code @Async}.
+   */
+  @Bean(defaultCandidate = false)
+  public ThreadPoolTaskExecutor shadowAuthoritiesTaskExecutor(ConsortiumFanOutProperties fanOutProperties) {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(fanOutProperties.getParallelism());
+    executor.setMaxPoolSize(fanOutProperties.getParallelism());
+    executor.setThreadNamePrefix("shadow-authorities-");
+    return executor;
+  }
+}
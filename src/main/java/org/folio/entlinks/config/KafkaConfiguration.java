@@ -6,6 +6,7 @@ import static org.apache.kafka.clients.consumer.ConsumerConfig.VALUE_DESERIALIZE
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.HashMap;
 import java.util.Map;
+import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.folio.entlinks.domain.dto.LinkUpdateReport;
@@ -13,6 +14,7 @@ import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
 import org.folio.entlinks.integration.dto.event.DomainEvent;
 import org.folio.entlinks.integration.kafka.AuthorityChangeFilterStrategy;
+import org.folio.entlinks.integration.kafka.AuthorityDomainEventDeserializer;
 import org.folio.entlinks.integration.kafka.EventProducer;
 import org.folio.rspec.domain.dto.SpecificationUpdatedEvent;
 import org.folio.rspec.domain.dto.UpdateRequestEvent;
@@ -62,7 +64,9 @@ public class KafkaConfiguration {
    */
   @Bean
   public ConsumerFactory<String, AuthorityDomainEvent> authorityConsumerFactory(KafkaProperties kafkaProperties) {
-    return consumerFactoryForEvent(kafkaProperties, AuthorityDomainEvent.class);
+    var deserializer = new AuthorityDomainEventDeserializer(
+      new JsonDeserializer<>(AuthorityDomainEvent.class, objectMapper, false), objectMapper.getFactory());
+    return consumerFactory(kafkaProperties, deserializer);
   }
 
   /**
@@ -221,7 +225,11 @@ public class KafkaConfiguration {
   }
 
   private <T> ConsumerFactory<String, T> consumerFactoryForEvent(KafkaProperties kafkaProperties, Class<T> eventClass) {
-    var deserializer = new JsonDeserializer<>(eventClass, objectMapper, false);
+    return consumerFactory(kafkaProperties, new JsonDeserializer<>(eventClass, objectMapper, false));
+  }
+
+  private <T> ConsumerFactory<String, T> consumerFactory(KafkaProperties kafkaProperties,
+                                                         Deserializer<T> deserializer) {
     Map<String, Object> config = new HashMap<>(kafkaProperties.buildConsumerProperties(null));
     config.put(KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
     config.put(VALUE_DESERIALIZER_CLASS_CONFIG, deserializer);
@@ -0,0 +1,23 @@
+package org.folio.entlinks.config;
+
+import org.folio.entlinks.config.properties.ReindexProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ReindexConfig {
+
+  /**
+   * Executor for reindex partitions shared by all reindex jobs.
+   * Not a default candidate, so it doesn't replace the application task executor used by {@code @Async}.
+   */
+  @Bean(defaultCandidate = false)
+  public ThreadPoolTaskExecutor reindexTaskExecutor(ReindexProperties reindexProperties) {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(reindexProperties.getWorkers());
+    executor.setMaxPoolSize(reindexProperties.getWorkers());
+    executor.setThreadNamePrefix("authority-reindex-");
+    return executor;
+  }
+}
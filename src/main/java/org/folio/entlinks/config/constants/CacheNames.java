@@ -10,4 +10,5 @@ public class CacheNames {
   public static final String AUTHORITY_LINKING_RULES_CACHE = "authority-linking-rules-cache";
   public static final String CONSORTIUM_TENANTS_CACHE = "consortium-tenants-cache";
   public static final String CONSORTIUM_CENTRAL_TENANT = "consortium-central-tenant-cache";
+  public static final String AUTHORITY_SOURCE_FILES_CACHE = "authority-source-files-cache";
 }
@@ -13,4 +13,10 @@ public class AuthorityArchiveProperties {
   @Min(1)
   private int retentionPeriodInDays;
 
+  /**
+   * Number of expired archives deleted in one transaction.
+   */
+  @Min(1)
+  private int chunkSize = 1000;
+
 }
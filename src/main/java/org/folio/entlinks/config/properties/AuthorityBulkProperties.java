@@ -0,0 +1,26 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.authority-bulk")
+public class AuthorityBulkProperties {
+
+  /**
+   * Number of authorities read from the bulk file and upserted in a single transaction.
+   */
+  @Min(1)
+  private int chunkSize = 1000;
+
+  /**
+   * Upsert chunks by copying them to a staging table and applying them with a single statement,
+   * authorities failed the optimistic locking check are rejected one by one instead of failing the whole chunk.
+   */
+  private boolean copyEnabled = false;
+}
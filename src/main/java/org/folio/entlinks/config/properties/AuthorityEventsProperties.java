@@ -0,0 +1,37 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.authority-events")
+public class AuthorityEventsProperties {
+
+  /**
+   * Defines if authority events of different tenants from one poll are processed concurrently.
+   */
+  private boolean tenantParallelism = false;
+
+  /**
+   * Max number of tenants processed concurrently when tenant parallelism is enabled.
+   */
+  @Min(1)
+  private int tenantPoolSize = 4;
+
+  /**
+   * Defines if repeated updates of the same authority from one poll are merged into one net change.
+   */
+  private boolean coalescing = false;
+
+  /**
+   * Max time in milliseconds between the first and the last merged update of an authority.
+   * 0 means that all updates of an authority from one poll are merged.
+   */
+  @Min(0)
+  private long coalescingWindowMs = 0;
+}
@@ -0,0 +1,20 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.authority-outbox")
+public class AuthorityOutboxProperties {
+
+  /**
+   * Number of outbox events sent to Kafka as one batch, the sent events are removed from the outbox after every batch.
+   */
+  @Min(1)
+  private int batchSize = 1000;
+}
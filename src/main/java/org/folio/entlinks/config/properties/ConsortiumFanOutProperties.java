@@ -0,0 +1,27 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.consortium.fan-out")
+public class ConsortiumFanOutProperties {
+
+  /**
+   * Max number of consortium member tenants processed concurrently.
+   */
+  @Min(1)
+  private int parallelism = 4;
+
+  /**
+   * Time after which a member tenant that is still processed is reported, counted from the moment its processing
+   * is started. The processing is not interrupted.
+   */
+  @Min(1)
+  private long tenantTimeoutMs = 300_000;
+}
@@ -0,0 +1,39 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.reindex")
+public class ReindexProperties {
+
+  /**
+   * Number of id-range partitions the authority table is split into for reindex.
+   */
+  @Min(1)
+  private int partitions = 16;
+
+  /**
+   * Number of partitions processed in parallel by all reindex jobs.
+   */
+  @Min(1)
+  private int workers = 4;
+
+  /**
+   * Number of records read per keyset page, the partition checkpoint is moved after every page.
+   */
+  @Min(1)
+  private int batchSize = 1000;
+
+  /**
+   * Minimum interval between stored checkpoints of the job partitions, checkpoints of completed partitions
+   * are always stored. Pages published after the last stored checkpoint are published again on resume.
+   */
+  @Min(0)
+  private long checkpointIntervalMs = 5_000;
+}
@@ -63,17 +63,33 @@ public class AuthorityController implements AuthorityStorageApi {
 
   @Override
   public ResponseEntity retrieveAuthorities(Boolean deleted, Boolean idOnly, Integer offset, Integer limit,
-                                            String query, @RequestHeader(value = "Accept", required = false,
-                                                                         defaultValue = "application/json")
+                                            String query, String cursor, String totalRecords,
+                                            @RequestHeader(value = "Accept", required = false,
+                                                           defaultValue = "application/json")
                                             List<String> acceptingMediaTypes) {
     validateGetParams(idOnly, acceptingMediaTypes);
-    var collectionDto = Boolean.TRUE.equals(deleted)
-                        ? authorityArchiveServiceDelegate.retrieveAuthorityArchives(offset, limit, query, idOnly)
-                        : delegate.retrieveAuthorityCollection(offset, limit, query, idOnly);
+    var collectionDto = cursor == null
+                        ? retrieveAuthoritiesByOffset(deleted, idOnly, offset, limit, query)
+                        : retrieveAuthoritiesByCursor(deleted, idOnly, cursor, limit, query, totalRecords);
 
     return getAuthoritiesCollectionResponse(collectionDto, acceptingMediaTypes, idOnly);
   }
 
+  private AuthorityFullDtoCollection retrieveAuthoritiesByOffset(Boolean deleted, Boolean idOnly, Integer offset,
+                                                                 Integer limit, String query) {
+    return Boolean.TRUE.equals(deleted)
+           ? authorityArchiveServiceDelegate.retrieveAuthorityArchives(offset, limit, query, idOnly)
+           : delegate.retrieveAuthorityCollection(offset, limit, query, idOnly);
+  }
+
+  private AuthorityFullDtoCollection retrieveAuthoritiesByCursor(Boolean deleted, Boolean idOnly, String cursor,
+                                                                 Integer limit, String query, String totalRecords) {
+    return Boolean.TRUE.equals(deleted)
+           ? authorityArchiveServiceDelegate.retrieveAuthorityArchivesByCursor(cursor, limit, query, idOnly,
+               totalRecords)
+           : delegate.retrieveAuthorityCollectionByCursor(cursor, limit, query, idOnly, totalRecords);
+  }
+
   @Override
   public ResponseEntity<Void> updateAuthority(UUID id, AuthorityDto authority) {
     delegate.updateAuthority(id, authority);
@@ -95,6 +111,18 @@ public class AuthorityController implements AuthorityStorageApi {
     return ResponseEntity.status(HttpStatus.ACCEPTED).build();
   }
 
+  /**
+   * POST /authority-storage/outbox/relay.
+   *
+   * @return Authority domain events relayed from outbox (status code 204)
+   *   or Internal server error. (status code 500)
+   */
+  @PostMapping(value = "/authority-storage/outbox/relay")
+  public ResponseEntity<Void> relayDomainEvents() {
+    delegate.relayDomainEvents();
+    return ResponseEntity.noContent().build();
+  }
+
   private ResponseEntity<Object> getAuthoritiesCollectionResponse(AuthorityFullDtoCollection collectionDto,
                                                                   List<String> acceptingMediaTypes,
                                                                   Boolean idOnly) {
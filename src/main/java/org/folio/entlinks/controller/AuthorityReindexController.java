@@ -28,6 +28,11 @@ public class AuthorityReindexController implements AuthorityStorageReindexApi {
     return ResponseEntity.status(HttpStatus.CREATED).body(reindexServiceDelegate.startAuthoritiesReindex());
   }
 
+  @Override
+  public ResponseEntity<ReindexJobDto> resumeReindexJob(UUID id) {
+    return ResponseEntity.ok(reindexServiceDelegate.resumeAuthoritiesReindex(id));
+  }
+
   @Override
   public ResponseEntity<Void> deleteReindexJob(UUID id) {
     reindexServiceDelegate.deleteReindexJob(id);
@@ -8,6 +8,7 @@ import org.folio.entlinks.domain.dto.LinksCountDtoCollection;
 import org.folio.entlinks.domain.dto.UuidCollection;
 import org.folio.entlinks.rest.resource.InstanceLinksApi;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -22,6 +23,18 @@ public class InstanceLinksController implements InstanceLinksApi {
     return ResponseEntity.ok(counts);
   }
 
+  /**
+   * POST /links/authorities/count/verify.
+   *
+   * @return Link counts verified (status code 204)
+   *   or Internal server error. (status code 500)
+   */
+  @PostMapping(value = "/links/authorities/count/verify")
+  public ResponseEntity<Void> verifyLinkCounts() {
+    linkingServiceDelegate.verifyLinkCounts();
+    return ResponseEntity.noContent().build();
+  }
+
   @Override
   public ResponseEntity<InstanceLinkDtoCollection> getInstanceLinks(UUID instanceId) {
     var links = linkingServiceDelegate.getLinks(instanceId);
@@ -12,6 +12,7 @@ import org.folio.entlinks.domain.entity.AuthorityBase;
 import org.folio.entlinks.domain.entity.AuthorityIdentifier;
 import org.folio.entlinks.domain.entity.AuthorityNote;
 import org.folio.entlinks.domain.entity.AuthoritySourceFile;
+import org.folio.entlinks.domain.repository.CursorPage;
 import org.folio.entlinks.utils.DateUtils;
 import org.mapstruct.AfterMapping;
 import org.mapstruct.Builder;
@@ -58,7 +59,15 @@ public interface AuthorityMapper {
   default AuthorityDtoCollection toAuthorityCollection(
       Page<AuthorityBase> authorityStorageIterable) {
     var authorityDtos = toDtoList(authorityStorageIterable.getContent());
-    return new AuthorityDtoCollection(authorityDtos, (int) authorityStorageIterable.getTotalElements());
+    return new AuthorityDtoCollection(authorityDtos).totalRecords((int) authorityStorageIterable.getTotalElements());
+  }
+
+  default AuthorityDtoCollection toAuthorityCollection(CursorPage<? extends AuthorityBase> cursorPage,
+                                                      Integer totalRecords) {
+    var authorityDtos = toDtoList(cursorPage.content().stream().map(AuthorityBase.class::cast).toList());
+    return new AuthorityDtoCollection(authorityDtos)
+      .totalRecords(totalRecords)
+      .nextCursor(cursorPage.nextCursor());
   }
 
   default AuthoritySourceFile toAuthoritySourceFile(AuthorityDto dto) {
@@ -1,8 +1,9 @@
 package org.folio.entlinks.controller.delegate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.client.SettingsClient;
@@ -16,13 +17,16 @@ import org.folio.entlinks.domain.entity.AuthorityBase;
 import org.folio.entlinks.domain.repository.AuthorityArchiveRepository;
 import org.folio.entlinks.exception.FolioIntegrationException;
 import org.folio.entlinks.integration.SettingsService;
+import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
 import org.folio.entlinks.service.authority.AuthorityArchiveService;
-import org.folio.entlinks.service.authority.AuthorityDomainEventPublisher;
+import org.folio.entlinks.service.authority.AuthorityDomainEventOutboxService;
+import org.folio.entlinks.service.authority.TotalRecords;
 import org.folio.entlinks.service.consortium.propagation.ConsortiumAuthorityArchivePropagationService;
 import org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService;
 import org.folio.spring.FolioExecutionContext;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Log4j2
 @Service
@@ -30,22 +34,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthorityArchiveServiceDelegate {
 
   private static final String CONSORTIUM_SOURCE_PREFIX = "CONSORTIUM-";
+  private static final UUID FIRST_CHUNK_LAST_ID = new UUID(0, 0);
 
   private final AuthorityArchiveService authorityArchiveService;
   private final SettingsService settingsService;
   private final AuthorityArchiveRepository authorityArchiveRepository;
   private final AuthorityArchiveProperties authorityArchiveProperties;
-  private final AuthorityDomainEventPublisher eventPublisher;
+  private final AuthorityDomainEventOutboxService outboxService;
   private final ConsortiumAuthorityArchivePropagationService propagationService;
   private final AuthorityMapper authorityMapper;
   private final FolioExecutionContext context;
+  private final TransactionTemplate transactionTemplate;
 
   public AuthorityFullDtoCollection retrieveAuthorityArchives(Integer offset, Integer limit, String cqlQuery,
                                                               Boolean idOnly) {
     if (Boolean.TRUE.equals(idOnly)) {
       var idsPage = authorityArchiveService.getAllIds(offset, limit, cqlQuery);
       var ids = idsPage.map(id -> new AuthorityIdDto().id(id)).toList();
-      return new AuthorityIdDtoCollection(ids, (int) idsPage.getTotalElements());
+      return new AuthorityIdDtoCollection(ids).totalRecords((int) idsPage.getTotalElements());
     }
 
     var entitiesPage = authorityArchiveService.getAll(offset, limit, cqlQuery)
@@ -53,7 +59,23 @@ public class AuthorityArchiveServiceDelegate {
     return authorityMapper.toAuthorityCollection(entitiesPage);
   }
 
-  @Transactional(readOnly = true)
+  public AuthorityFullDtoCollection retrieveAuthorityArchivesByCursor(String cursor, Integer limit, String cqlQuery,
+                                                                      Boolean idOnly, String totalRecords) {
+    var total = authorityArchiveService.count(cqlQuery, TotalRecords.fromValue(totalRecords));
+    if (Boolean.TRUE.equals(idOnly)) {
+      var idsPage = authorityArchiveService.getAllIdsAfter(cursor, limit, cqlQuery);
+      var ids = idsPage.content().stream().map(id -> new AuthorityIdDto().id(id)).toList();
+      return new AuthorityIdDtoCollection(ids).totalRecords(total).nextCursor(idsPage.nextCursor());
+    }
+
+    return authorityMapper.toAuthorityCollection(authorityArchiveService.getAllAfter(cursor, limit, cqlQuery), total);
+  }
+
+  /**
+   * Deletes expired authority archives in keyset ordered chunks.
+   * Every chunk is deleted in its own transaction together with storing its hard-delete events in the outbox,
+   * so the expiration stops between chunks without leaving a chunk partially processed.
+   */
   public void expire() {
     var retention = fetchAuthoritiesRetentionDuration();
 
@@ -62,17 +84,39 @@ public class AuthorityArchiveServiceDelegate {
     }
 
     var tillDate = LocalDateTime.now().minusDays(retention.get());
-    try (Stream<AuthorityArchive> archives = authorityArchiveRepository.streamByUpdatedTillDateAndSourcePrefix(
-        tillDate, CONSORTIUM_SOURCE_PREFIX)) {
-      archives.forEach(this::process);
-    }
+    var chunkSize = authorityArchiveProperties.getChunkSize();
+    var lastId = FIRST_CHUNK_LAST_ID;
+    var expired = 0;
+    List<AuthorityArchive> chunk;
+    do {
+      if (Thread.currentThread().isInterrupted()) {
+        log.warn("expire:: Authority archives expiration is interrupted [expired: {}]", expired);
+        return;
+      }
+      chunk = authorityArchiveRepository.findChunkByUpdatedTillDateAndSourcePrefix(tillDate,
+        CONSORTIUM_SOURCE_PREFIX, lastId, PageRequest.of(0, chunkSize));
+      if (chunk.isEmpty()) {
+        break;
+      }
+      expireChunk(chunk);
+      expired += chunk.size();
+      lastId = chunk.get(chunk.size() - 1).getId();
+      log.info("expire:: Authority archives chunk expired [expired: {}, lastId: {}]", expired, lastId);
+    } while (chunk.size() == chunkSize);
+
+    log.info("expire:: Authority archives expiration completed [expired: {}]", expired);
   }
 
-  private void process(AuthorityArchive archive) {
-    authorityArchiveService.delete(archive);
-    var dto = authorityMapper.toDto(archive);
-    eventPublisher.publishHardDeleteEvent(dto);
-    propagationService.propagate(archive, ConsortiumPropagationService.PropagationType.DELETE, context.getTenantId());
+  private void expireChunk(List<AuthorityArchive> chunk) {
+    var tenantId = context.getTenantId();
+    transactionTemplate.executeWithoutResult(status -> {
+      authorityArchiveService.deleteByIds(chunk.stream().map(AuthorityArchive::getId).toList());
+      outboxService.saveEvents(chunk.stream()
+        .map(archive -> AuthorityDomainEvent.hardDeleteEvent(archive.getId(), authorityMapper.toDto(archive),
+          tenantId))
+        .toList());
+    });
+    propagationService.propagate(chunk, ConsortiumPropagationService.PropagationType.DELETE, tenantId);
   }
 
   private Optional<Integer> fetchAuthoritiesRetentionDuration() {
@@ -5,10 +5,9 @@ import static org.folio.entlinks.service.consortium.propagation.ConsortiumPropag
 import static org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.PropagationType.UPDATE;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.function.BiConsumer;
-import java.util.function.Consumer;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.controller.converter.AuthorityMapper;
@@ -21,17 +20,24 @@ import org.folio.entlinks.domain.dto.AuthorityIdDtoCollection;
 import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.entity.AuthorityBase;
 import org.folio.entlinks.exception.RequestBodyValidationException;
+import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
+import org.folio.entlinks.integration.dto.event.DomainEvent;
 import org.folio.entlinks.service.authority.AuthoritiesBulkContext;
-import org.folio.entlinks.service.authority.AuthorityDomainEventPublisher;
+import org.folio.entlinks.service.authority.AuthorityBulkUpsertService;
+import org.folio.entlinks.service.authority.AuthorityDomainEventOutboxRelay;
+import org.folio.entlinks.service.authority.AuthorityDomainEventOutboxService;
 import org.folio.entlinks.service.authority.AuthorityS3Service;
 import org.folio.entlinks.service.authority.AuthorityService;
+import org.folio.entlinks.service.authority.AuthorityUpdateResult;
+import org.folio.entlinks.service.authority.TotalRecords;
 import org.folio.entlinks.service.consortium.UserTenantsService;
+import org.folio.entlinks.service.consortium.propagation.ConsortiumAuthorityBulkPropagationService;
 import org.folio.entlinks.service.consortium.propagation.ConsortiumAuthorityPropagationService;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.tenant.domain.dto.Parameter;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.context.annotation.RequestScope;
 
 @Log4j2
@@ -40,27 +46,39 @@ import org.springframework.web.context.annotation.RequestScope;
 public class AuthorityServiceDelegate {
 
   private final AuthorityService service;
+  private final AuthorityBulkUpsertService bulkUpsertService;
   private final AuthorityMapper mapper;
   private final FolioExecutionContext context;
-  private final AuthorityDomainEventPublisher eventPublisher;
+  private final AuthorityDomainEventOutboxService outboxService;
+  private final AuthorityDomainEventOutboxRelay outboxRelay;
   private final ConsortiumAuthorityPropagationService propagationService;
+  private final ConsortiumAuthorityBulkPropagationService bulkPropagationService;
   private final AuthorityS3Service authorityS3Service;
+  private final TransactionTemplate transactionTemplate;
 
   public AuthorityServiceDelegate(@Qualifier("authorityService") AuthorityService service,
                                   @Qualifier("consortiumAuthorityService") AuthorityService consortiumService,
+                                  AuthorityBulkUpsertService bulkUpsertService,
                                   AuthorityMapper mapper, FolioExecutionContext context,
-                                  AuthorityDomainEventPublisher eventPublisher,
+                                  AuthorityDomainEventOutboxService outboxService,
+                                  AuthorityDomainEventOutboxRelay outboxRelay,
                                   ConsortiumAuthorityPropagationService propagationService,
+                                  ConsortiumAuthorityBulkPropagationService bulkPropagationService,
                                   AuthorityS3Service authorityS3Service,
-                                  UserTenantsService userTenantsService) {
+                                  UserTenantsService userTenantsService,
+                                  TransactionTemplate transactionTemplate) {
     this.service = userTenantsService.getCentralTenant(context.getTenantId()).isEmpty()
                    ? service
                    : consortiumService;
+    this.bulkUpsertService = bulkUpsertService;
     this.mapper = mapper;
     this.context = context;
-    this.eventPublisher = eventPublisher;
+    this.outboxService = outboxService;
+    this.outboxRelay = outboxRelay;
     this.propagationService = propagationService;
+    this.bulkPropagationService = bulkPropagationService;
     this.authorityS3Service = authorityS3Service;
+    this.transactionTemplate = transactionTemplate;
   }
 
   public AuthorityFullDtoCollection retrieveAuthorityCollection(Integer offset, Integer limit, String cqlQuery,
@@ -68,7 +86,7 @@ public class AuthorityServiceDelegate {
     if (Boolean.TRUE.equals(idOnly)) {
       var idsPage = service.getAllIds(offset, limit, cqlQuery);
       var ids = idsPage.map(id -> new AuthorityIdDto().id(id)).toList();
-      return new AuthorityIdDtoCollection(ids, (int) idsPage.getTotalElements());
+      return new AuthorityIdDtoCollection(ids).totalRecords((int) idsPage.getTotalElements());
     }
 
     var entitiesPage = service.getAll(offset, limit, cqlQuery)
@@ -76,6 +94,18 @@ public class AuthorityServiceDelegate {
     return mapper.toAuthorityCollection(entitiesPage);
   }
 
+  public AuthorityFullDtoCollection retrieveAuthorityCollectionByCursor(String cursor, Integer limit, String cqlQuery,
+                                                                        Boolean idOnly, String totalRecords) {
+    var total = service.count(cqlQuery, TotalRecords.fromValue(totalRecords));
+    if (Boolean.TRUE.equals(idOnly)) {
+      var idsPage = service.getAllIdsAfter(cursor, limit, cqlQuery);
+      var ids = idsPage.content().stream().map(id -> new AuthorityIdDto().id(id)).toList();
+      return new AuthorityIdDtoCollection(ids).totalRecords(total).nextCursor(idsPage.nextCursor());
+    }
+
+    return mapper.toAuthorityCollection(service.getAllAfter(cursor, limit, cqlQuery), total);
+  }
+
   public AuthorityDto getAuthorityById(UUID id) {
     var entity = service.getById(id);
     return mapper.toDto(entity);
@@ -83,8 +113,12 @@ public class AuthorityServiceDelegate {
 
   public AuthorityDto createAuthority(AuthorityDto authorityDto) {
     var entity = mapper.toEntity(authorityDto);
-    var created = service.create(entity);
-    createConsumer().accept(created);
+    var created = transactionTemplate.execute(status -> {
+      var saved = service.create(entity);
+      outboxService.saveEvents(List.of(toCreateEvent(saved)));
+      return saved;
+    });
+    propagationService.propagate(created, CREATE, context.getTenantId());
     return mapper.toDto(created);
   }
 
@@ -94,16 +128,31 @@ public class AuthorityServiceDelegate {
         List.of(new Parameter("id").value(String.valueOf(authorityDto.getId()))));
     }
     var modifiedEntity = mapper.toEntity(authorityDto);
-    var updateResult = service.update(modifiedEntity, false);
-    updateConsumer().accept(updateResult.newEntity(), updateResult.oldEntity());
+    var updateResult = transactionTemplate.execute(status -> {
+      var result = service.update(modifiedEntity, false);
+      outboxService.saveEvents(List.of(toUpdateEvent(result)));
+      return result;
+    });
+    propagationService.propagate(updateResult.newEntity(), UPDATE, context.getTenantId());
   }
 
   public void deleteAuthorityById(UUID id) {
-    var authority = service.deleteById(id);
-    eventPublisher.publishSoftDeleteEvent(mapper.toDto(authority));
+    var authority = transactionTemplate.execute(status -> {
+      var deleted = service.deleteById(id);
+      var dto = mapper.toDto(deleted);
+      outboxService.saveEvents(List.of(AuthorityDomainEvent.softDeleteEvent(id, dto, context.getTenantId())));
+      return deleted;
+    });
     propagationService.propagate(authority, DELETE, context.getTenantId());
   }
 
+  /**
+   * Sends authority domain events left in the tenant outbox, e.g. when the relay after commit was interrupted.
+   */
+  public void relayDomainEvents() {
+    outboxRelay.relay();
+  }
+
   @SneakyThrows
   public AuthorityBulkResponse createAuthorities(AuthorityBulkRequest createRequest) {
     var bulkContext = new AuthoritiesBulkContext(createRequest.getRecordsFileName());
@@ -119,30 +168,32 @@ public class AuthorityServiceDelegate {
     return authorityBulkCreateResponse;
   }
 
-  private void upsertAuthorities(List<Authority> authorities) {
-    service.upsert(authorities).forEach(authorityUpdateResult -> {
-      if (authorityUpdateResult.oldEntity() == null) {
-        createConsumer().accept(authorityUpdateResult.newEntity());
-      } else {
-        updateConsumer().accept(authorityUpdateResult.newEntity(), authorityUpdateResult.oldEntity());
-      }
+  private Map<UUID, ? extends Exception> upsertAuthorities(List<Authority> authorities) {
+    var upsertResult = transactionTemplate.execute(status -> {
+      var result = bulkUpsertService.upsert(authorities);
+      outboxService.saveEvents(result.updateResults().stream()
+        .map(updateResult -> updateResult.oldEntity() == null
+                             ? toCreateEvent(updateResult.newEntity())
+                             : toUpdateEvent(updateResult))
+        .toList());
+      return result;
     });
+    var updateResults = upsertResult.updateResults();
+    if (!updateResults.isEmpty()) {
+      var upserted = updateResults.stream().map(AuthorityUpdateResult::newEntity).toList();
+      bulkPropagationService.propagate(upserted, UPDATE, context.getTenantId());
+    }
+    return upsertResult.rejected();
   }
 
-  @NotNull
-  private Consumer<Authority> createConsumer() {
-    return authority -> {
-      eventPublisher.publishCreateEvent(mapper.toDto(authority));
-      propagationService.propagate(authority, CREATE, context.getTenantId());
-    };
+  private DomainEvent<AuthorityDto> toCreateEvent(Authority authority) {
+    return DomainEvent.createEvent(authority.getId(), mapper.toDto(authority), context.getTenantId());
   }
 
-  @NotNull
-  private BiConsumer<Authority, Authority> updateConsumer() {
-    return (newAuthority, oldAuthority) -> {
-      eventPublisher.publishUpdateEvent(mapper.toDto(oldAuthority), mapper.toDto(newAuthority));
-      propagationService.propagate(newAuthority, UPDATE, context.getTenantId());
-    };
+  private DomainEvent<AuthorityDto> toUpdateEvent(AuthorityUpdateResult updateResult) {
+    var newAuthority = updateResult.newEntity();
+    return DomainEvent.updateEvent(newAuthority.getId(), mapper.toDto(updateResult.oldEntity()),
+      mapper.toDto(newAuthority), context.getTenantId());
   }
 
 }
@@ -16,7 +16,7 @@ import org.folio.entlinks.domain.dto.AuthorityStatsDto;
 import org.folio.entlinks.domain.dto.AuthorityStatsDtoCollection;
 import org.folio.entlinks.domain.dto.LinkAction;
 import org.folio.entlinks.domain.entity.AuthorityDataStat;
-import org.folio.entlinks.domain.repository.AuthoritySourceFileRepository;
+import org.folio.entlinks.service.authority.AuthoritySourceFileRegistry;
 import org.folio.entlinks.service.links.AuthorityDataStatService;
 import org.folio.entlinks.utils.DateUtils;
 import org.folio.spring.client.UsersClient;
@@ -32,7 +32,7 @@ public class InstanceAuthorityStatServiceDelegate {
   private final AuthorityDataStatService dataStatService;
   private final DataStatsMapper dataStatMapper;
   private final UsersClient usersClient;
-  private final AuthoritySourceFileRepository sourceFileRepository;
+  private final AuthoritySourceFileRegistry sourceFileRegistry;
 
   public AuthorityStatsDtoCollection fetchAuthorityLinksStats(OffsetDateTime fromDate, OffsetDateTime toDate,
                                                               LinkAction action, Integer limit) {
@@ -102,7 +102,7 @@ public class InstanceAuthorityStatServiceDelegate {
 
   private String getSourceFileName(String uuid) {
     if (isNotBlank(uuid)) {
-      var sourceFile = sourceFileRepository.findById(UUID.fromString(uuid)).orElse(null);
+      var sourceFile = sourceFileRegistry.findById(UUID.fromString(uuid)).orElse(null);
       if (sourceFile != null) {
         return sourceFile.getName();
       }
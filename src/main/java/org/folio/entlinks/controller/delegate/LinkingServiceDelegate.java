@@ -86,6 +86,10 @@ public class LinkingServiceDelegate {
     return new LinksCountDtoCollection(mapper.convert(linkCountMap));
   }
 
+  public void verifyLinkCounts() {
+    linkingService.verifyLinkCounts();
+  }
+
   private Map<UUID, Integer> fillInMissingIdsWithZeros(Map<UUID, Integer> linksCountMap, HashSet<UUID> ids) {
     var result = new HashMap<>(linksCountMap);
     for (UUID id : ids) {
@@ -27,6 +27,12 @@ public class ReindexServiceDelegate {
     return jobMapper.toDto(reindexJob);
   }
 
+  public ReindexJobDto resumeAuthoritiesReindex(UUID id) {
+    var reindexJob = service.resumeReindex(id);
+    jobRunner.startReindex(reindexJob);
+    return jobMapper.toDto(reindexJob);
+  }
+
   public ReindexJobDtoCollection retrieveReindexJobs(String query, Integer offset, Integer limit) {
     var jobs = service.getAllReindexJobs(query, offset, limit);
     return jobMapper.toReindexJobCollection(jobs);
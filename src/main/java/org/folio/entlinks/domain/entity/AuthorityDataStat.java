@@ -9,7 +9,10 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.sql.Timestamp;
 import java.util.Objects;
 import java.util.UUID;
@@ -24,6 +27,7 @@ import org.hibernate.Hibernate;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
 
 @Builder
 @AllArgsConstructor
@@ -33,7 +37,7 @@ import org.springframework.data.annotation.CreatedDate;
 @Setter
 @ToString
 @Table(name = "authority_data_stat")
-public class AuthorityDataStat extends AuditableEntity implements Identifiable<UUID> {
+public class AuthorityDataStat extends AuditableEntity implements Persistable<UUID>, Identifiable<UUID> {
 
   @Id
   @Column(name = "id", nullable = false)
@@ -100,6 +104,11 @@ public class AuthorityDataStat extends AuditableEntity implements Identifiable<U
   @Column(name = "completed_at")
   private Timestamp completedAt;
 
+  @Transient
+  @Builder.Default
+  @ToString.Exclude
+  private boolean isNew = true;
+
   @Override
   public int hashCode() {
     return getClass().hashCode();
@@ -116,4 +125,10 @@ public class AuthorityDataStat extends AuditableEntity implements Identifiable<U
     AuthorityDataStat that = (AuthorityDataStat) o;
     return id != null && Objects.equals(id, that.id);
   }
+
+  @PostLoad
+  @PrePersist
+  void markNotNew() {
+    this.isNew = false;
+  }
 }
@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,6 +17,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.With;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Getter
 @Setter
@@ -46,4 +49,8 @@ public class ReindexJob {
   @Column(name = "submitted_date")
   private OffsetDateTime submittedDate;
 
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(name = "partitions")
+  private List<ReindexJobPartition> partitions;
+
 }
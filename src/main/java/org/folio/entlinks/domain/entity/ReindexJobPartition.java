@@ -0,0 +1,28 @@
+package org.folio.entlinks.domain.entity;
+
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Id-range partition of a reindex job with its keyset checkpoint.
+ * Partition covers ids from {@code lowerBound} (inclusive) to {@code upperBound} (exclusive, open if null).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReindexJobPartition implements Serializable {
+
+  private int index;
+  private UUID lowerBound;
+  private UUID upperBound;
+  private UUID lastId;
+  private int published;
+  private boolean completed;
+
+  public ReindexJobPartition copy() {
+    return new ReindexJobPartition(index, lowerBound, upperBound, lastId, published, completed);
+  }
+}
@@ -15,6 +15,11 @@ public class AuthorityArchiveCqlRepositoryImpl extends AuthorityBaseCqlRepositor
     return AuthorityArchive.class;
   }
 
+  @Override
+  protected String getTableName() {
+    return "authority_archive";
+  }
+
   @Override
   protected Boolean deleted() {
     return Boolean.TRUE;
@@ -1,16 +1,14 @@
 package org.folio.entlinks.domain.repository;
 
-import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
-import java.util.stream.Stream;
 import org.folio.entlinks.domain.entity.AuthorityArchive;
-import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,10 +16,24 @@ import org.springframework.stereotype.Repository;
 public interface AuthorityArchiveRepository extends JpaRepository<AuthorityArchive, UUID>,
   AuthorityArchiveCqlRepository {
 
-  @Query("select aa from AuthorityArchive aa where aa.updatedDate <= :tillDate and aa.source not like :sourcePrefix%")
-  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "25"))
-  Stream<AuthorityArchive> streamByUpdatedTillDateAndSourcePrefix(
-      @Param("tillDate") LocalDateTime tillDate, @Param("sourcePrefix") String sourcePrefix);
+  /**
+   * Finds the next keyset ordered chunk of archives updated till the given date.
+   *
+   * @param lastId   id of the last archive of the previous chunk, the nil UUID for the first chunk
+   * @param pageable chunk size, the page number is always 0
+   */
+  @Query("""
+    select aa from AuthorityArchive aa
+    where aa.updatedDate <= :tillDate and aa.source not like :sourcePrefix% and aa.id > :lastId
+    order by aa.id""")
+  List<AuthorityArchive> findChunkByUpdatedTillDateAndSourcePrefix(@Param("tillDate") LocalDateTime tillDate,
+                                                                  @Param("sourcePrefix") String sourcePrefix,
+                                                                  @Param("lastId") UUID lastId,
+                                                                  Pageable pageable);
+
+  @Modifying
+  @Query(value = "DELETE FROM authority_archive WHERE id = ANY(:ids)", nativeQuery = true)
+  int deleteAllByIds(@Param("ids") UUID[] ids);
 
   @Query("select a.id as id from AuthorityArchive a")
   Page<UUID> findAllIds(Pageable pageable);
@@ -11,4 +11,28 @@ public interface AuthorityBaseCqlRepository<T extends AuthorityBase> {
 
   Page<UUID> findIdsByCql(String cqlQuery, Pageable pageable);
 
+  /**
+   * Retrieves records following the cursor, ordered by the CQL sort key and id.
+   * Only sorting by {@code id}, {@code createdDate} or {@code updatedDate} is supported.
+   *
+   * @param cqlQuery CQL query, may be blank
+   * @param cursor   cursor of the previous page or {@link AuthorityCursor#FIRST_PAGE}
+   * @param limit    maximum number of records
+   */
+  CursorPage<T> findByCqlAfter(String cqlQuery, String cursor, int limit);
+
+  /**
+   * Retrieves ids of records following the cursor, see {@link #findByCqlAfter(String, String, int)}.
+   */
+  CursorPage<UUID> findIdsByCqlAfter(String cqlQuery, String cursor, int limit);
+
+  long countByCql(String cqlQuery);
+
+  /**
+   * Estimates number of records from table statistics when the query doesn't filter records,
+   * filtered queries and tables without statistics are counted exactly.
+   * Rows of the other deleted state are counted exactly and subtracted from the estimate.
+   */
+  long estimateCountByCql(String cqlQuery);
+
 }
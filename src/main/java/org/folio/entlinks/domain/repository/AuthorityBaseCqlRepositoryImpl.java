@@ -1,17 +1,44 @@
 package org.folio.entlinks.domain.repository;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.entlinks.domain.entity.AuthorityBase;
 import org.folio.spring.cql.Cql2JpaCriteria;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.z3950.zing.cql.CQLNode;
+import org.z3950.zing.cql.CQLParseException;
+import org.z3950.zing.cql.CQLParser;
+import org.z3950.zing.cql.CQLSortNode;
+import org.z3950.zing.cql.CQLTermNode;
 
 public abstract class AuthorityBaseCqlRepositoryImpl<T extends AuthorityBase> implements AuthorityBaseCqlRepository<T> {
 
+  private static final String ID_FIELD = "id";
+  private static final String CREATED_DATE_FIELD = "createdDate";
+  private static final String UPDATED_DATE_FIELD = "updatedDate";
+  private static final Set<String> CURSOR_SORT_FIELDS = Set.of(ID_FIELD, CREATED_DATE_FIELD, UPDATED_DATE_FIELD);
+  private static final String SORT_DESCENDING = "sort.descending";
+  private static final String ALL_RECORDS_INDEX = "cql.allRecords";
+  private static final String ESTIMATE_COUNT_QUERY = "SELECT reltuples FROM pg_class WHERE oid = to_regclass(:table)";
+
   private final EntityManager em;
   private final Cql2JpaCriteria<T> cql2JpaCriteria;
 
@@ -55,8 +82,75 @@ public abstract class AuthorityBaseCqlRepositoryImpl<T extends AuthorityBase> im
     return PageableExecutionUtils.getPage(resultList, pageable, () -> count(countBy));
   }
 
+  @Override
+  public CursorPage<T> findByCqlAfter(String cqlQuery, String cursor, int limit) {
+    var cursorQuery = toCursorQuery(cqlQuery);
+    var after = AuthorityCursor.decode(cursor);
+
+    var cb = em.getCriteriaBuilder();
+    var query = cb.createQuery(getClassType());
+    var root = query.from(getClassType());
+    query.where(cursorPredicate(cursorQuery, after, root, query, cb));
+    query.orderBy(cursorOrders(cursorQuery, root, cb));
+
+    var resultList = em.createQuery(query)
+      .setMaxResults(limit + 1)
+      .getResultList();
+    return toCursorPage(resultList, cursor, limit,
+      authority -> new AuthorityCursor(sortValue(cursorQuery, authority), authority.getId()));
+  }
+
+  @Override
+  public CursorPage<UUID> findIdsByCqlAfter(String cqlQuery, String cursor, int limit) {
+    var cursorQuery = toCursorQuery(cqlQuery);
+    var after = AuthorityCursor.decode(cursor);
+
+    var cb = em.getCriteriaBuilder();
+    var query = cb.createTupleQuery();
+    var root = query.from(getClassType());
+    if (cursorQuery.sortField() == null) {
+      query.multiselect(root.get(ID_FIELD));
+    } else {
+      query.multiselect(root.get(ID_FIELD), root.get(cursorQuery.sortField()));
+    }
+    query.where(cursorPredicate(cursorQuery, after, root, query, cb));
+    query.orderBy(cursorOrders(cursorQuery, root, cb));
+
+    var resultList = em.createQuery(query)
+      .setMaxResults(limit + 1)
+      .getResultList();
+    var page = toCursorPage(resultList, cursor, limit, tuple -> new AuthorityCursor(
+      cursorQuery.sortField() == null ? null : toSortValue(tuple.get(1, Timestamp.class)),
+      tuple.get(0, UUID.class)));
+    return new CursorPage<>(page.content().stream().map(tuple -> tuple.get(0, UUID.class)).toList(),
+      page.nextCursor());
+  }
+
+  @Override
+  public long countByCql(String cqlQuery) {
+    return count(StringUtils.isBlank(cqlQuery) ? deletedIs(deleted()) : countByQuery(cqlQuery));
+  }
+
+  @Override
+  public long estimateCountByCql(String cqlQuery) {
+    if (toCursorQuery(cqlQuery).filter() == null) {
+      var estimates = em.createNativeQuery(ESTIMATE_COUNT_QUERY)
+        .setParameter("table", getTableName())
+        .getResultList();
+      // reltuples is negative for tables that were never vacuumed or analyzed
+      if (!estimates.isEmpty() && ((Number) estimates.get(0)).longValue() >= 0) {
+        // reltuples counts rows of both deleted states, the other state is counted exactly by the deleted index
+        var estimate = ((Number) estimates.get(0)).longValue() - count(deletedIs(!deleted()));
+        return Math.max(estimate, 0);
+      }
+    }
+    return countByCql(cqlQuery);
+  }
+
   protected abstract Class<T> getClassType();
 
+  protected abstract String getTableName();
+
   protected abstract Boolean deleted();
 
   private long count(Specification<T> specification) {
@@ -76,4 +170,119 @@ public abstract class AuthorityBaseCqlRepositoryImpl<T extends AuthorityBase> im
     return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get(AuthorityBase.DELETED_COLUMN), deleted);
   }
 
+  private Predicate cursorPredicate(CursorQuery cursorQuery, AuthorityCursor after, Root<T> root,
+                                    CriteriaQuery<?> query, CriteriaBuilder cb) {
+    var predicates = new ArrayList<Predicate>();
+    predicates.add(deletedIs(deleted()).toPredicate(root, query, cb));
+    if (cursorQuery.filter() != null) {
+      predicates.add(cql2JpaCriteria.createCollectSpecification(cursorQuery.filter().toCQL())
+        .toPredicate(root, query, cb));
+    }
+    if (after != null) {
+      predicates.add(keysetPredicate(cursorQuery, after, root, cb));
+    }
+    return cb.and(predicates.toArray(Predicate[]::new));
+  }
+
+  /**
+   * Builds {@code (key, id) > (:key, :id)} condition, records with equal sort key values are ordered by id.
+   */
+  private Predicate keysetPredicate(CursorQuery cursorQuery, AuthorityCursor after, Root<T> root,
+                                    CriteriaBuilder cb) {
+    Path<UUID> id = root.get(ID_FIELD);
+    var idPredicate = cursorQuery.descending() ? cb.lessThan(id, after.id()) : cb.greaterThan(id, after.id());
+    if (cursorQuery.sortField() == null) {
+      return idPredicate;
+    }
+
+    Path<Timestamp> key = root.get(cursorQuery.sortField());
+    var value = toTimestamp(after.sortValue());
+    var keyPredicate = cursorQuery.descending() ? cb.lessThan(key, value) : cb.greaterThan(key, value);
+    return cb.or(keyPredicate, cb.and(cb.equal(key, value), idPredicate));
+  }
+
+  private List<Order> cursorOrders(CursorQuery cursorQuery, Root<T> root, CriteriaBuilder cb) {
+    Function<Path<?>, Order> order = cursorQuery.descending() ? cb::desc : cb::asc;
+    return cursorQuery.sortField() == null
+           ? List.of(order.apply(root.get(ID_FIELD)))
+           : List.of(order.apply(root.get(cursorQuery.sortField())), order.apply(root.get(ID_FIELD)));
+  }
+
+  private static <R> CursorPage<R> toCursorPage(List<R> records, String cursor, int limit,
+                                                Function<R, AuthorityCursor> cursorFunction) {
+    if (records.size() <= limit) {
+      return new CursorPage<>(records, null);
+    }
+    var content = records.subList(0, limit);
+    var nextCursor = limit == 0 ? cursor : cursorFunction.apply(content.get(limit - 1)).encode();
+    return new CursorPage<>(content, nextCursor);
+  }
+
+  private static String sortValue(CursorQuery cursorQuery, AuthorityBase authority) {
+    if (cursorQuery.sortField() == null) {
+      return null;
+    }
+    return toSortValue(CREATED_DATE_FIELD.equals(cursorQuery.sortField())
+                       ? authority.getCreatedDate()
+                       : authority.getUpdatedDate());
+  }
+
+  private static String toSortValue(Timestamp timestamp) {
+    return timestamp.toInstant().toString();
+  }
+
+  private static Timestamp toTimestamp(String sortValue) {
+    if (sortValue == null) {
+      throw new IllegalArgumentException("Cursor doesn't match the query sort key");
+    }
+    try {
+      return Timestamp.from(Instant.parse(sortValue));
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Cursor doesn't match the query sort key", e);
+    }
+  }
+
+  /**
+   * Splits CQL query into the filter and the sort key supported by cursor pagination.
+   */
+  private static CursorQuery toCursorQuery(String cqlQuery) {
+    if (StringUtils.isBlank(cqlQuery)) {
+      return new CursorQuery(null, null, false);
+    }
+
+    CQLNode node;
+    try {
+      node = new CQLParser().parse(cqlQuery);
+    } catch (CQLParseException | IOException e) {
+      throw new IllegalArgumentException("Invalid CQL query: " + cqlQuery, e);
+    }
+    if (!(node instanceof CQLSortNode sortNode)) {
+      return new CursorQuery(toFilter(node), null, false);
+    }
+
+    var sortIndexes = sortNode.getSortIndexes();
+    if (sortIndexes.size() != 1 || !CURSOR_SORT_FIELDS.contains(sortIndexes.get(0).getBase())) {
+      throw new IllegalArgumentException("Cursor pagination supports sorting only by one of " + CURSOR_SORT_FIELDS);
+    }
+    var sortIndex = sortIndexes.get(0);
+    var descending = sortIndex.getModifiers().stream()
+      .anyMatch(modifier -> SORT_DESCENDING.equalsIgnoreCase(modifier.getType()));
+    var sortField = ID_FIELD.equals(sortIndex.getBase()) ? null : sortIndex.getBase();
+    return new CursorQuery(toFilter(sortNode.getSubtree()), sortField, descending);
+  }
+
+  private static CQLNode toFilter(CQLNode node) {
+    var allRecords = node instanceof CQLTermNode termNode && ALL_RECORDS_INDEX.equalsIgnoreCase(termNode.getIndex());
+    return allRecords ? null : node;
+  }
+
+  /**
+   * CQL query prepared for cursor pagination.
+   *
+   * @param filter     query without sorting, null if all records are requested
+   * @param sortField  entity field records are sorted by before id, null if records are sorted by id only
+   * @param descending whether records are sorted in descending order
+   */
+  private record CursorQuery(CQLNode filter, String sortField, boolean descending) { }
+
 }
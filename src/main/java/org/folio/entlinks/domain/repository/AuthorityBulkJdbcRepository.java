@@ -0,0 +1,263 @@
+package org.folio.entlinks.domain.repository;
+
+import static org.folio.entlinks.domain.entity.AuthorityBase.DELETED_COLUMN;
+import static org.folio.entlinks.domain.entity.AuthorityBase.HEADING_COLUMN;
+import static org.folio.entlinks.domain.entity.AuthorityBase.HEADING_TYPE_COLUMN;
+import static org.folio.entlinks.domain.entity.AuthorityBase.IDENTIFIERS_COLUMN;
+import static org.folio.entlinks.domain.entity.AuthorityBase.ID_COLUMN;
+import static org.folio.entlinks.domain.entity.AuthorityBase.NATURAL_ID_COLUMN;
+import static org.folio.entlinks.domain.entity.AuthorityBase.NOTES_COLUMN;
+import static org.folio.entlinks.domain.entity.AuthorityBase.SAFT_HEADINGS_COLUMN;
+import static org.folio.entlinks.domain.entity.AuthorityBase.SFT_HEADINGS_COLUMN;
+import static org.folio.entlinks.domain.entity.AuthorityBase.SOURCE_COLUMN;
+import static org.folio.entlinks.domain.entity.AuthorityBase.SOURCE_FILE_COLUMN;
+import static org.folio.entlinks.domain.entity.AuthorityBase.SUBJECT_HEADING_CODE_COLUMN;
+import static org.folio.entlinks.domain.entity.AuthorityBase.VERSION_COLUMN;
+import static org.folio.entlinks.domain.entity.MetadataEntity.CREATED_BY_USER_COLUMN;
+import static org.folio.entlinks.domain.entity.MetadataEntity.CREATED_DATE_COLUMN;
+import static org.folio.entlinks.domain.entity.MetadataEntity.UPDATED_BY_USER_COLUMN;
+import static org.folio.entlinks.domain.entity.MetadataEntity.UPDATED_DATE_COLUMN;
+import static org.folio.entlinks.utils.JdbcUtils.getFullPath;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.folio.entlinks.domain.entity.Authority;
+import org.folio.entlinks.domain.entity.AuthorityIdentifier;
+import org.folio.entlinks.domain.entity.AuthorityNote;
+import org.folio.entlinks.domain.entity.AuthoritySourceFile;
+import org.folio.entlinks.domain.entity.HeadingRef;
+import org.folio.spring.FolioExecutionContext;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Upserts authorities in bulk through a staging table.
+ *
+ * <p>Authorities are streamed into a temporary staging table with {@code COPY} and applied to the authority table
+ * by a single {@code INSERT ... ON CONFLICT (id) DO UPDATE} statement. Stored authorities are updated only when
+ * they are not deleted and their {@code _version} is not greater than the requested one, the rows that were not
+ * applied are returned together with the stored row, so the caller can reject them one by one.</p>
+ *
+ * <p>The staging table lives in the session temporary schema, it is not WAL-logged and is emptied on commit,
+ * so the upsert must be executed in a transaction. Its columns are copied from the authority table, so staged
+ * values have the same types and length limits as the stored ones.</p>
+ */
+@Repository
+public class AuthorityBulkJdbcRepository {
+
+  private static final String AUTHORITY_TABLE = "authority";
+  private static final String STAGING_TABLE = "authority_upsert_staging";
+  private static final String OLD_PREFIX = "old_";
+  private static final List<String> STAGED_COLUMNS = List.of(ID_COLUMN, NATURAL_ID_COLUMN, SOURCE_FILE_COLUMN,
+    SOURCE_COLUMN, HEADING_COLUMN, HEADING_TYPE_COLUMN, VERSION_COLUMN, SUBJECT_HEADING_CODE_COLUMN,
+    SFT_HEADINGS_COLUMN, SAFT_HEADINGS_COLUMN, IDENTIFIERS_COLUMN, NOTES_COLUMN);
+  private static final List<String> UPDATED_COLUMNS = List.of(NATURAL_ID_COLUMN, SOURCE_FILE_COLUMN, SOURCE_COLUMN,
+    HEADING_COLUMN, HEADING_TYPE_COLUMN, SUBJECT_HEADING_CODE_COLUMN, SFT_HEADINGS_COLUMN, SAFT_HEADINGS_COLUMN,
+    IDENTIFIERS_COLUMN, NOTES_COLUMN, UPDATED_DATE_COLUMN, UPDATED_BY_USER_COLUMN);
+  private static final List<String> RETURNED_COLUMNS = Stream.concat(STAGED_COLUMNS.stream(),
+    Stream.of(DELETED_COLUMN, CREATED_DATE_COLUMN, UPDATED_DATE_COLUMN, CREATED_BY_USER_COLUMN,
+      UPDATED_BY_USER_COLUMN)).toList();
+
+  private static final String CREATE_STAGING_SQL = """
+    CREATE TEMP TABLE IF NOT EXISTS %s ON COMMIT DELETE ROWS AS
+    SELECT %s FROM %s WITH NO DATA;""";
+  private static final String COPY_SQL = "COPY %s (%s) FROM STDIN WITH (FORMAT csv)"
+    .formatted(STAGING_TABLE, String.join(", ", STAGED_COLUMNS));
+  private static final String LOCK_EXISTING_SQL = """
+    SELECT a.id FROM %s a JOIN %s s ON s.id = a.id ORDER BY a.id FOR UPDATE OF a;""";
+  private static final String UPSERT_SQL = """
+    WITH existing AS (
+      SELECT a.* FROM %1$s a JOIN %2$s s ON s.id = a.id
+    ), upserted AS (
+      INSERT INTO %1$s AS authority (%3$s, deleted, created_date, updated_date, created_by_user_id, updated_by_user_id)
+      SELECT %3$s, false, now(), now(), ?, ? FROM %2$s
+      ON CONFLICT (id) DO UPDATE SET %4$s, _version = authority._version + 1
+      WHERE authority.deleted = false AND authority._version <= EXCLUDED._version
+      RETURNING authority.*
+    )
+    SELECT s.id AS staged_id, s._version AS staged_version, %5$s, %6$s
+    FROM %2$s s
+    LEFT JOIN upserted u ON u.id = s.id
+    LEFT JOIN existing e ON e.id = s.id;""";
+
+  private static final TypeReference<List<HeadingRef>> HEADING_REFS_TYPE = new TypeReference<>() { };
+  private static final TypeReference<List<AuthorityIdentifier>> IDENTIFIERS_TYPE = new TypeReference<>() { };
+  private static final TypeReference<List<AuthorityNote>> NOTES_TYPE = new TypeReference<>() { };
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioExecutionContext folioExecutionContext;
+  private final AuditorAware<UUID> auditorAware;
+  private final ObjectMapper objectMapper;
+
+  public AuthorityBulkJdbcRepository(JdbcTemplate jdbcTemplate, FolioExecutionContext folioExecutionContext,
+                                     AuditorAware<UUID> auditorAware, ObjectMapper objectMapper) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.folioExecutionContext = folioExecutionContext;
+    this.auditorAware = auditorAware;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Upserts authorities, the authority ids are expected to be assigned and unique within the list.
+   *
+   * @return one row per requested authority, see {@link UpsertRow}
+   */
+  public List<UpsertRow> upsert(List<Authority> authorities) {
+    if (authorities.isEmpty()) {
+      return List.of();
+    }
+
+    var authorityTable = getFullPath(folioExecutionContext, AUTHORITY_TABLE);
+    jdbcTemplate.execute(CREATE_STAGING_SQL.formatted(STAGING_TABLE, String.join(", ", STAGED_COLUMNS),
+      authorityTable));
+    copyToStaging(authorities);
+
+    // stored rows are locked by a separate statement, so the upsert snapshot already has their latest versions
+    // and the existing rows are read by a plain select that doesn't depend on the order of sub-statements
+    jdbcTemplate.query(LOCK_EXISTING_SQL.formatted(authorityTable, STAGING_TABLE), rs -> { });
+
+    var userId = auditorAware.getCurrentAuditor().orElse(null);
+    var sql = UPSERT_SQL.formatted(authorityTable, STAGING_TABLE,
+      String.join(", ", STAGED_COLUMNS),
+      UPDATED_COLUMNS.stream().map(column -> column + " = EXCLUDED." + column).collect(Collectors.joining(", ")),
+      RETURNED_COLUMNS.stream().map(column -> "u." + column).collect(Collectors.joining(", ")),
+      RETURNED_COLUMNS.stream().map(column -> "e." + column + " AS " + OLD_PREFIX + column)
+        .collect(Collectors.joining(", ")));
+    return jdbcTemplate.query(sql, (rs, rowNum) -> new UpsertRow(rs.getObject("staged_id", UUID.class),
+      rs.getInt("staged_version"), toAuthority(rs, OLD_PREFIX), toAuthority(rs, "")), userId, userId);
+  }
+
+  private void copyToStaging(List<Authority> authorities) {
+    jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+      var copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+      try {
+        for (var authority : authorities) {
+          var row = toCsvRow(authority).getBytes(StandardCharsets.UTF_8);
+          copyIn.writeToCopy(row, 0, row.length);
+        }
+        return copyIn.endCopy();
+      } finally {
+        cancelIfActive(copyIn);
+      }
+    });
+  }
+
+  private String toCsvRow(Authority authority) {
+    var values = new ArrayList<String>(STAGED_COLUMNS.size());
+    values.add(authority.getId().toString());
+    values.add(authority.getNaturalId());
+    values.add(Optional.ofNullable(authority.getAuthoritySourceFile())
+      .map(AuthoritySourceFile::getId)
+      .map(UUID::toString)
+      .orElse(null));
+    values.add(authority.getSource());
+    values.add(authority.getHeading());
+    values.add(authority.getHeadingType());
+    values.add(String.valueOf(authority.getVersion()));
+    values.add(authority.getSubjectHeadingCode() == null ? null : authority.getSubjectHeadingCode().toString());
+    values.add(toJson(authority.getSftHeadings()));
+    values.add(toJson(authority.getSaftHeadings()));
+    values.add(toJson(authority.getIdentifiers()));
+    values.add(toJson(authority.getNotes()));
+    return values.stream().map(AuthorityBulkJdbcRepository::toCsvValue).collect(Collectors.joining(",", "", "\n"));
+  }
+
+  /**
+   * Quotes every non-null value, so an unquoted empty value is read by {@code COPY} as null
+   * and a quoted one as an empty string.
+   */
+  private static String toCsvValue(String value) {
+    return value == null ? "" : '"' + value.replace("\"", "\"\"") + '"';
+  }
+
+  private String toJson(List<?> value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize authority field", e);
+    }
+  }
+
+  private Authority toAuthority(ResultSet rs, String prefix) throws SQLException {
+    var id = rs.getObject(prefix + ID_COLUMN, UUID.class);
+    if (id == null) {
+      return null;
+    }
+
+    var authority = new Authority();
+    authority.setId(id);
+    authority.setNaturalId(rs.getString(prefix + NATURAL_ID_COLUMN));
+    Optional.ofNullable(rs.getObject(prefix + SOURCE_FILE_COLUMN, UUID.class))
+      .ifPresent(sourceFileId -> {
+        var sourceFile = new AuthoritySourceFile();
+        sourceFile.setId(sourceFileId);
+        authority.setAuthoritySourceFile(sourceFile);
+      });
+    authority.setSource(rs.getString(prefix + SOURCE_COLUMN));
+    authority.setHeading(rs.getString(prefix + HEADING_COLUMN));
+    authority.setHeadingType(rs.getString(prefix + HEADING_TYPE_COLUMN));
+    authority.setVersion(rs.getInt(prefix + VERSION_COLUMN));
+    var subjectHeadingCode = rs.getString(prefix + SUBJECT_HEADING_CODE_COLUMN);
+    authority.setSubjectHeadingCode(subjectHeadingCode != null ? subjectHeadingCode.charAt(0) : null);
+    authority.setSftHeadings(fromJson(rs.getString(prefix + SFT_HEADINGS_COLUMN), HEADING_REFS_TYPE));
+    authority.setSaftHeadings(fromJson(rs.getString(prefix + SAFT_HEADINGS_COLUMN), HEADING_REFS_TYPE));
+    authority.setIdentifiers(fromJson(rs.getString(prefix + IDENTIFIERS_COLUMN), IDENTIFIERS_TYPE));
+    authority.setNotes(fromJson(rs.getString(prefix + NOTES_COLUMN), NOTES_TYPE));
+    authority.setDeleted(rs.getBoolean(prefix + DELETED_COLUMN));
+    authority.setCreatedDate(rs.getTimestamp(prefix + CREATED_DATE_COLUMN));
+    authority.setUpdatedDate(rs.getTimestamp(prefix + UPDATED_DATE_COLUMN));
+    authority.setCreatedByUserId(rs.getObject(prefix + CREATED_BY_USER_COLUMN, UUID.class));
+    authority.setUpdatedByUserId(rs.getObject(prefix + UPDATED_BY_USER_COLUMN, UUID.class));
+    authority.setNew(false);
+    return authority;
+  }
+
+  private <T> T fromJson(String value, TypeReference<T> type) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return objectMapper.readValue(value, type);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to deserialize authority field", e);
+    }
+  }
+
+  private static void cancelIfActive(CopyIn copyIn) throws SQLException {
+    if (copyIn.isActive()) {
+      copyIn.cancelCopy();
+    }
+  }
+
+  /**
+   * Result of the upsert for a single requested authority.
+   *
+   * @param id             id of the requested authority
+   * @param requestVersion {@code _version} of the requested authority
+   * @param existing       authority stored before the upsert, null if there was no authority with the id
+   * @param upserted       inserted or updated authority, null if the requested authority was not applied
+   */
+  public record UpsertRow(UUID id, int requestVersion, Authority existing, Authority upserted) {
+
+    public boolean isApplied() {
+      return upserted != null;
+    }
+  }
+}
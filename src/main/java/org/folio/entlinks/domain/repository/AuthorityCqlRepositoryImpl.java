@@ -15,6 +15,11 @@ public class AuthorityCqlRepositoryImpl extends AuthorityBaseCqlRepositoryImpl<A
     return Authority.class;
   }
 
+  @Override
+  protected String getTableName() {
+    return "authority";
+  }
+
   @Override
   protected Boolean deleted() {
     return Boolean.FALSE;
@@ -0,0 +1,51 @@
+package org.folio.entlinks.domain.repository;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last returned record in cursor (keyset) pagination, passed to clients as an opaque string.
+ *
+ * @param sortValue value of the sort key of the record, null when records are sorted by id only
+ * @param id        id of the record
+ */
+public record AuthorityCursor(String sortValue, UUID id) {
+
+  /**
+   * Cursor value requesting the first page.
+   */
+  public static final String FIRST_PAGE = "*";
+
+  private static final char SEPARATOR = '|';
+
+  public String encode() {
+    var raw = (sortValue == null ? "" : sortValue) + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+  }
+
+  /**
+   * Decodes a cursor received from a client.
+   *
+   * @return decoded cursor, null for {@link #FIRST_PAGE}
+   * @throws IllegalArgumentException if the cursor is malformed
+   */
+  public static AuthorityCursor decode(String cursor) {
+    if (FIRST_PAGE.equals(cursor)) {
+      return null;
+    }
+    try {
+      var raw = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+      var separatorIndex = raw.lastIndexOf(SEPARATOR);
+      if (separatorIndex < 0) {
+        throw new IllegalArgumentException("Cursor has no id");
+      }
+      var sortValue = raw.substring(0, separatorIndex);
+      return new AuthorityCursor(sortValue.isEmpty() ? null : sortValue,
+        UUID.fromString(raw.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+    }
+  }
+}
@@ -7,6 +7,7 @@ import org.folio.entlinks.domain.entity.AuthorityDataStat;
 import org.folio.entlinks.domain.entity.AuthorityDataStatAction;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -21,4 +22,36 @@ public interface AuthorityDataStatRepository extends JpaRepository<AuthorityData
   List<AuthorityDataStat> findActualByActionAndDate(@Param("action") AuthorityDataStatAction action,
                                                     @Param("startedAtStart") Timestamp startedAtStart,
                                                     @Param("startedAtEnd") Timestamp startedAtEnd, Pageable pageable);
+
+  /**
+   * Atomically adds processed links to the stat counters, so concurrent report consumers don't lose updates.
+   *
+   * @param allFailed if true, all links of the job are counted as failed
+   * @return number of updated stats
+   */
+  @Modifying
+  @Query(value = """
+    update authority_data_stat
+    set lb_updated = lb_updated + :updated,
+        lb_failed = case when :allFailed then lb_total else lb_failed + :failed end
+    where id = :id""", nativeQuery = true)
+  int incrementLinksCounters(@Param("id") UUID id, @Param("updated") int updated, @Param("failed") int failed,
+                             @Param("allFailed") boolean allFailed);
+
+  /**
+   * Completes the stat and resolves its final status if all links of the job have been processed.
+   *
+   * @return number of completed stats
+   */
+  @Modifying
+  @Query(value = """
+    update authority_data_stat
+    set completed_at = :completedAt,
+        status = (case when lb_failed = 0 then 'COMPLETED_SUCCESS'
+                       when lb_failed = lb_total then 'FAILED'
+                       else 'COMPLETED_WITH_ERRORS' end)::authoritydatastatstatus,
+        fail_cause = case when lb_failed > 0 then coalesce(cast(:failCause as text), fail_cause) else fail_cause end
+    where id = :id and completed_at is null and lb_updated + lb_failed = lb_total""", nativeQuery = true)
+  int completeIfAllProcessed(@Param("id") UUID id, @Param("completedAt") Timestamp completedAt,
+                             @Param("failCause") String failCause);
 }
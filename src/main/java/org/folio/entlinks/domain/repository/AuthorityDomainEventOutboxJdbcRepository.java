@@ -0,0 +1,80 @@
+package org.folio.entlinks.domain.repository;
+
+import static org.folio.entlinks.utils.JdbcUtils.getFullPath;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.folio.entlinks.integration.dto.event.DomainEventType;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class AuthorityDomainEventOutboxJdbcRepository {
+
+  private static final String OUTBOX_TABLE = "authority_domain_event_outbox";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioExecutionContext folioExecutionContext;
+
+  public AuthorityDomainEventOutboxJdbcRepository(JdbcTemplate jdbcTemplate,
+                                                  FolioExecutionContext folioExecutionContext) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.folioExecutionContext = folioExecutionContext;
+  }
+
+  public void insert(List<OutboxEvent> events) {
+    var sql = "INSERT INTO %s (authority_id, event_type, payload) VALUES (?, ?, ?::jsonb);";
+    jdbcTemplate.batchUpdate(sql.formatted(getFullPath(folioExecutionContext, OUTBOX_TABLE)), events, events.size(),
+      (ps, event) -> {
+        ps.setObject(1, event.authorityId());
+        ps.setString(2, event.type().name());
+        ps.setString(3, event.payload());
+      });
+  }
+
+  /**
+   * Takes transaction-level lock of the tenant outbox, so only one relay drains it at a time.
+   *
+   * @return true if the lock is taken, false if the outbox is drained by another transaction
+   */
+  public boolean tryLock() {
+    var locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(hashtext(?));", Boolean.class,
+      getFullPath(folioExecutionContext, OUTBOX_TABLE));
+    return Boolean.TRUE.equals(locked);
+  }
+
+  public List<OutboxEvent> findFirst(int limit) {
+    var sql = "SELECT id, authority_id, event_type, payload FROM %s ORDER BY id LIMIT ?;";
+    return jdbcTemplate.query(sql.formatted(getFullPath(folioExecutionContext, OUTBOX_TABLE)),
+      (rs, rowNum) -> new OutboxEvent(rs.getLong("id"), rs.getObject("authority_id", UUID.class),
+        DomainEventType.valueOf(rs.getString("event_type")), rs.getString("payload")),
+      limit);
+  }
+
+  public boolean hasEvents() {
+    var sql = "SELECT EXISTS (SELECT 1 FROM %s);";
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+      sql.formatted(getFullPath(folioExecutionContext, OUTBOX_TABLE)), Boolean.class));
+  }
+
+  public void deleteByIds(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    var sql = "DELETE FROM %s WHERE id = ANY(?);";
+    jdbcTemplate.update(sql.formatted(getFullPath(folioExecutionContext, OUTBOX_TABLE)),
+      ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())));
+  }
+
+  /**
+   * Serialized authority domain event waiting to be sent.
+   *
+   * @param id          position of the event in the outbox, null for not stored events
+   * @param authorityId id of the authority, used as the record key
+   * @param type        domain event type
+   * @param payload     event serialized to JSON
+   */
+  public record OutboxEvent(Long id, UUID authorityId, DomainEventType type, String payload) { }
+}
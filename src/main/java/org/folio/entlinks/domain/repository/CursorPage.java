@@ -0,0 +1,11 @@
+package org.folio.entlinks.domain.repository;
+
+import java.util.List;
+
+/**
+ * Page of records retrieved by cursor pagination.
+ *
+ * @param content    records of the page
+ * @param nextCursor cursor of the next page, null if there are no more records
+ */
+public record CursorPage<R>(List<R> content, String nextCursor) { }
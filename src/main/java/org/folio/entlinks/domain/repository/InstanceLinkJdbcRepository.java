@@ -0,0 +1,64 @@
+package org.folio.entlinks.domain.repository;
+
+import static org.folio.entlinks.utils.JdbcUtils.getFullPath;
+
+import java.util.Collection;
+import java.util.Comparator;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class InstanceLinkJdbcRepository {
+
+  private static final String INSTANCE_AUTHORITY_LINK_TABLE = "instance_authority_link";
+  private static final String LINK_STATUS_TYPE = "linkstatus";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioExecutionContext folioExecutionContext;
+
+  public InstanceLinkJdbcRepository(JdbcTemplate jdbcTemplate, FolioExecutionContext folioExecutionContext) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.folioExecutionContext = folioExecutionContext;
+  }
+
+  /**
+   * Sets status and error cause of all given links with a single set-based update.
+   * Links are locked in id order, so concurrent updates of overlapping links don't deadlock.
+   *
+   * @return number of updated links
+   */
+  public int updateStatuses(Collection<LinkStatusUpdate> updates) {
+    if (updates.isEmpty()) {
+      return 0;
+    }
+
+    var linkTable = getFullPath(folioExecutionContext, INSTANCE_AUTHORITY_LINK_TABLE);
+    var sql = """
+                WITH locked AS (
+                  SELECT id FROM %s WHERE id = ANY(?::bigint[]) ORDER BY id FOR UPDATE
+                )
+                UPDATE %s l
+                SET status = u.status::%s, error_cause = u.error_cause, updated_at = now()
+                FROM unnest(?::bigint[], ?::text[], ?::text[]) AS u(id, status, error_cause)
+                WHERE l.id = u.id AND l.id IN (SELECT id FROM locked);
+        """.formatted(linkTable, linkTable, getFullPath(folioExecutionContext, LINK_STATUS_TYPE));
+
+    var sortedUpdates = updates.stream().sorted(Comparator.comparing(LinkStatusUpdate::linkId)).toList();
+    var ids = sortedUpdates.stream().map(LinkStatusUpdate::linkId).toArray(Long[]::new);
+    var statuses = sortedUpdates.stream().map(update -> update.status().name()).toArray(String[]::new);
+    var errorCauses = sortedUpdates.stream().map(LinkStatusUpdate::errorCause).toArray(String[]::new);
+
+    return jdbcTemplate.update(sql, ps -> {
+      var connection = ps.getConnection();
+      var idsArray = connection.createArrayOf("bigint", ids);
+      ps.setArray(1, idsArray);
+      ps.setArray(2, idsArray);
+      ps.setArray(3, connection.createArrayOf("text", statuses));
+      ps.setArray(4, connection.createArrayOf("text", errorCauses));
+    });
+  }
+
+  public record LinkStatusUpdate(Long linkId, InstanceAuthorityLinkStatus status, String errorCause) { }
+}
@@ -23,11 +23,30 @@ public interface InstanceLinkRepository extends JpaRepository<InstanceAuthorityL
   @Query("select l from InstanceAuthorityLink l where l.authority.id = :id order by l.id")
   Page<InstanceAuthorityLink> findByAuthorityId(@Param("id") UUID id, Pageable pageable);
 
-  @Query("select l.authority.id as id, count(distinct l.instanceId) as totalLinks"
-    + " from InstanceAuthorityLink l where l.authority.id in :authorityIds"
-    + " group by id")
+  /**
+   * Reads next partition of authority links ordered by id, starting after the given link id (keyset pagination).
+   */
+  @Query("select l from InstanceAuthorityLink l where l.authority.id = :id and l.id > :lastId order by l.id")
+  List<InstanceAuthorityLink> findByAuthorityIdAfter(@Param("id") UUID id, @Param("lastId") Long lastId,
+                                                     Pageable pageable);
+
+  /**
+   * Reads number of linked instances from authority_link_count table that is maintained by database triggers.
+   */
+  @Query(value = """
+    select c.authority_id as id, c.links_count as "totalLinks" from authority_link_count c
+    where c.authority_id in :authorityIds and c.links_count > 0""", nativeQuery = true)
   List<LinkCountView> countLinksByAuthorityIds(@Param("authorityIds") Set<UUID> authorityIds);
 
+  /**
+   * Compares authority_link_count table with actual links and rebuilds counters that drifted.
+   * Counters are locked the same way as by link changes, so concurrent changes are not overwritten.
+   *
+   * @return number of rebuilt counters
+   */
+  @Query(value = "select rebuild_authority_link_counts()", nativeQuery = true)
+  int rebuildLinkCounts();
+
   @Modifying
   @Query("""
     update InstanceAuthorityLink i set i.status = :status, i.errorCause = :errorCause
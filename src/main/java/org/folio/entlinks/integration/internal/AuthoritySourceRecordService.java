@@ -1,18 +1,23 @@
 package org.folio.entlinks.integration.internal;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.entlinks.client.SourceStorageClient;
-import org.folio.entlinks.domain.dto.SourceParsedRecord;
-import org.folio.entlinks.domain.dto.SourceRecord;
+import org.folio.entlinks.domain.dto.FieldContentValue;
+import org.folio.entlinks.domain.dto.StrippedParsedRecord;
 import org.folio.entlinks.exception.FolioIntegrationException;
 import org.folio.entlinks.integration.dto.AuthoritySourceRecord;
-import org.marc4j.MarcJsonReader;
+import org.folio.entlinks.service.links.InstanceAuthorityLinkingRulesService;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.MarcFactory;
 import org.marc4j.marc.Record;
 import org.springframework.stereotype.Service;
 
@@ -21,29 +26,69 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class AuthoritySourceRecordService {
 
+  private static final char BLANK_INDICATOR = ' ';
+
   private final SourceStorageClient sourceStorageClient;
-  private final ObjectMapper objectMapper;
+  private final InstanceAuthorityLinkingRulesService linkingRulesService;
+  private final MarcFactory marcFactory = MarcFactory.newInstance();
+
+  /**
+   * Fetches source records of authorities in one batch request.
+   * Records contain only fields from the linkable authority fields range.
+   *
+   * @param authorityIds authority ids
+   * @return source records by authority id, authorities without source record are absent
+   */
+  public Map<UUID, AuthoritySourceRecord> getAuthoritySourceRecordsByIds(Set<UUID> authorityIds) {
+    if (authorityIds.isEmpty()) {
+      return emptyMap();
+    }
 
-  public AuthoritySourceRecord getAuthoritySourceRecordById(UUID authorityId) {
-    log.info("Fetching source record [authorityId: {}]", authorityId);
-    SourceRecord sourceRecord = fetchSourceRecord(authorityId);
-    var content = extractMarcRecord(sourceRecord.getParsedRecord());
-    return new AuthoritySourceRecord(authorityId, sourceRecord.getSnapshotId(), content);
+    log.info("Fetching source records [authorityIds: {}]", authorityIds.size());
+    var parsedRecords = fetchParsedRecords(authorityIds);
+    var sourceRecords = new HashMap<UUID, AuthoritySourceRecord>(parsedRecords.size());
+    for (var parsedRecord : parsedRecords) {
+      var authorityId = parsedRecord.getExternalIdsHolder().getAuthorityId();
+      sourceRecords.put(authorityId, new AuthoritySourceRecord(authorityId, null, toMarcRecord(parsedRecord)));
+    }
+    return sourceRecords;
   }
 
-  private SourceRecord fetchSourceRecord(UUID authorityId) {
+  private List<StrippedParsedRecord> fetchParsedRecords(Set<UUID> authorityIds) {
     try {
-      return sourceStorageClient.getMarcAuthorityById(authorityId);
+      var fetchRequest = sourceStorageClient.buildBatchFetchRequestForAuthority(authorityIds,
+        linkingRulesService.getMinAuthorityField(), linkingRulesService.getMaxAuthorityField());
+      return sourceStorageClient.fetchParsedRecordsInBatch(fetchRequest).getRecords();
     } catch (Exception e) {
-      throw new FolioIntegrationException("Failed to fetch source record [id: " + authorityId + "]", e);
+      throw new FolioIntegrationException("Failed to fetch source records [ids: " + authorityIds + "]", e);
     }
   }
 
-  private Record extractMarcRecord(SourceParsedRecord parsedRecord) {
-    try (var input = IOUtils.toInputStream(objectMapper.writeValueAsString(parsedRecord), UTF_8)) {
-      return new MarcJsonReader(input).next();
+  private Record toMarcRecord(StrippedParsedRecord parsedRecord) {
+    try {
+      var content = parsedRecord.getParsedRecord().getContent();
+      var marcRecord = marcFactory.newRecord(content.getLeader());
+      for (var field : content.getFields()) {
+        field.forEach((tag, fieldContent) -> marcRecord.addVariableField(toDataField(tag, fieldContent)));
+      }
+      return marcRecord;
     } catch (Exception e) {
       throw new FolioIntegrationException("Failed to get content of source record", e);
     }
   }
+
+  private DataField toDataField(String tag, FieldContentValue fieldContent) {
+    var dataField = marcFactory.newDataField(tag,
+      toIndicator(fieldContent.getInd1()), toIndicator(fieldContent.getInd2()));
+    if (fieldContent.getSubfields() != null) {
+      for (var subfield : fieldContent.getSubfields()) {
+        subfield.forEach((code, value) -> dataField.addSubfield(marcFactory.newSubfield(code.charAt(0), value)));
+      }
+    }
+    return dataField;
+  }
+
+  private char toIndicator(String indicator) {
+    return StringUtils.isEmpty(indicator) ? BLANK_INDICATOR : indicator.charAt(0);
+  }
 }
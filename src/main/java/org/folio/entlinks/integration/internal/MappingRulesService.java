@@ -1,7 +1,5 @@
 package org.folio.entlinks.integration.internal;
 
-import static org.folio.entlinks.config.constants.CacheNames.AUTHORITY_MAPPING_RULES_CACHE;
-
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -9,7 +7,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.client.MappingRulesClient;
 import org.folio.entlinks.exception.FolioIntegrationException;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 @Log4j2
@@ -19,9 +16,6 @@ public class MappingRulesService {
 
   private final MappingRulesClient client;
 
-  @Cacheable(cacheNames = AUTHORITY_MAPPING_RULES_CACHE,
-             key = "@folioExecutionContext.tenantId",
-             unless = "#result.isEmpty()")
   public Map<String, List<String>> getFieldTargetsMappingRelations() {
     log.info("Fetching authority mapping rules");
     var mappingRules = fetchMappingRules();
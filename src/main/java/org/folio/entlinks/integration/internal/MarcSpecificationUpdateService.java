@@ -36,7 +36,11 @@ public class MarcSpecificationUpdateService {
       .map(this::toSubfieldCreationRequest)
       .toList();
 
-    eventProducer.sendMessages(requestEvents);
+    var failures = eventProducer.sendMessages(requestEvents);
+    if (!failures.isEmpty()) {
+      throw new IllegalStateException(
+        String.format("Failed to send %s of %s specification update requests", failures.size(), requestEvents.size()));
+    }
   }
 
   private UpdateRequestEvent toSubfieldCreationRequest(String tag) {
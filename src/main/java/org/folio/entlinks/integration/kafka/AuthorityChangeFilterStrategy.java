@@ -14,6 +14,7 @@ public class AuthorityChangeFilterStrategy implements RecordFilterStrategy<Strin
   /**
    * Skipping authority domain events:
    * <ul>
+   *    <li>not decoded by {@link AuthorityDomainEventDeserializer}</li>
    *    <li>CREATE</li>
    *    <li>REINDEX</li>
    *    <li>UPDATE (if there are no changes)</li>
@@ -23,6 +24,9 @@ public class AuthorityChangeFilterStrategy implements RecordFilterStrategy<Strin
   @Override
   public boolean filter(@NotNull ConsumerRecord<String, AuthorityDomainEvent> consumerRecord) {
     var authorityEvent = consumerRecord.value();
+    if (authorityEvent == null) {
+      return true;
+    }
 
     return switch (authorityEvent.getType()) {
       case UPDATE -> {
@@ -0,0 +1,124 @@
+package org.folio.entlinks.integration.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
+import org.folio.entlinks.integration.dto.event.DomainEventType;
+
+/**
+ * Skips decoding of authority domain events that are never processed by the module.
+ *
+ * <p>Events are not bound to {@link AuthorityDomainEvent} and {@code null} is returned if:</p>
+ * <ul>
+ *    <li>the {@code domain-event-type} header is CREATE or REINDEX</li>
+ *    <li>raw bytes of the {@code old} and {@code new} payloads are the same</li>
+ * </ul>
+ * The rest of the events are bound by the delegate and then checked by {@link AuthorityChangeFilterStrategy}.
+ */
+@Log4j2
+public class AuthorityDomainEventDeserializer implements Deserializer<AuthorityDomainEvent> {
+
+  public static final String DOMAIN_EVENT_TYPE_HEADER = "domain-event-type";
+
+  private static final Set<String> SKIPPED_EVENT_TYPES = Set.of(
+    DomainEventType.CREATE.name(), DomainEventType.REINDEX.name());
+  private static final String OLD_FIELD = "old";
+  private static final String NEW_FIELD = "new";
+
+  private final Deserializer<AuthorityDomainEvent> delegate;
+  private final JsonFactory jsonFactory;
+
+  public AuthorityDomainEventDeserializer(Deserializer<AuthorityDomainEvent> delegate, JsonFactory jsonFactory) {
+    this.delegate = delegate;
+    this.jsonFactory = jsonFactory;
+  }
+
+  @Override
+  public void configure(Map<String, ?> configs, boolean isKey) {
+    delegate.configure(configs, isKey);
+  }
+
+  @Override
+  public AuthorityDomainEvent deserialize(String topic, byte[] data) {
+    return deserialize(topic, null, data);
+  }
+
+  @Override
+  public AuthorityDomainEvent deserialize(String topic, Headers headers, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+
+    var eventType = getEventType(headers);
+    if (eventType != null && SKIPPED_EVENT_TYPES.contains(eventType)) {
+      log.trace("Skip decoding of authority event [type: {}]", eventType);
+      return null;
+    }
+
+    if (hasSameOldAndNewPayload(data)) {
+      log.debug("Skip decoding of authority event. No changes in authority record");
+      return null;
+    }
+
+    return headers == null ? delegate.deserialize(topic, data) : delegate.deserialize(topic, headers, data);
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  private String getEventType(Headers headers) {
+    if (headers == null) {
+      return null;
+    }
+    var header = headers.lastHeader(DOMAIN_EVENT_TYPE_HEADER);
+    return header == null || header.value() == null ? null : new String(header.value(), UTF_8);
+  }
+
+  /**
+   * Locates byte ranges of the top-level {@code old} and {@code new} objects with a streaming parser,
+   * without building any objects, and compares them.
+   */
+  private boolean hasSameOldAndNewPayload(byte[] data) {
+    try (var parser = jsonFactory.createParser(data)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return false;
+      }
+
+      long[] oldRange = null;
+      long[] newRange = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME && (oldRange == null || newRange == null)) {
+        var fieldName = parser.currentName();
+        var token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT && (OLD_FIELD.equals(fieldName) || NEW_FIELD.equals(fieldName))) {
+          var start = parser.currentTokenLocation().getByteOffset();
+          parser.skipChildren();
+          var range = new long[] {start, parser.currentLocation().getByteOffset()};
+          if (OLD_FIELD.equals(fieldName)) {
+            oldRange = range;
+          } else {
+            newRange = range;
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      return oldRange != null && newRange != null && oldRange[0] >= 0 && newRange[0] >= 0
+        && Arrays.equals(data, (int) oldRange[0], (int) oldRange[1], data, (int) newRange[0], (int) newRange[1]);
+    } catch (IOException e) {
+      // malformed payload is reported by the delegate
+      return false;
+    }
+  }
+}
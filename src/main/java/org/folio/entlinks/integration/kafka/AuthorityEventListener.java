@@ -2,28 +2,48 @@ package org.folio.entlinks.integration.kafka;
 
 import static org.folio.spring.tools.config.RetryTemplateConfiguration.DEFAULT_KAFKA_RETRY_TEMPLATE_NAME;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.logging.log4j.message.FormattedMessageFactory;
+import org.folio.entlinks.config.properties.AuthorityEventsProperties;
 import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
 import org.folio.entlinks.service.messaging.authority.InstanceAuthorityLinkUpdateService;
 import org.folio.spring.service.SystemUserScopedExecutionService;
 import org.folio.spring.tools.batch.MessageBatchProcessor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 @Log4j2
 @Component
-@RequiredArgsConstructor
 public class AuthorityEventListener {
 
   private final InstanceAuthorityLinkUpdateService instanceAuthorityLinkUpdateService;
   private final SystemUserScopedExecutionService executionService;
   private final MessageBatchProcessor messageBatchProcessor;
+  private final AuthorityEventsProperties properties;
+  private final TaskExecutor tenantExecutor;
+
+  public AuthorityEventListener(InstanceAuthorityLinkUpdateService instanceAuthorityLinkUpdateService,
+                                SystemUserScopedExecutionService executionService,
+                                MessageBatchProcessor messageBatchProcessor,
+                                AuthorityEventsProperties properties,
+                                @Qualifier("authorityEventsTaskExecutor") TaskExecutor tenantExecutor) {
+    this.instanceAuthorityLinkUpdateService = instanceAuthorityLinkUpdateService;
+    this.executionService = executionService;
+    this.messageBatchProcessor = messageBatchProcessor;
+    this.properties = properties;
+    this.tenantExecutor = tenantExecutor;
+  }
 
   @KafkaListener(id = "mod-entities-links-authority-listener",
                  containerFactory = "authorityListenerFactory",
@@ -33,25 +53,71 @@ public class AuthorityEventListener {
   public void handleEvents(List<ConsumerRecord<String, AuthorityDomainEvent>> consumerRecords) {
     log.info("Processing authorities from Kafka events [number of records: {}]", consumerRecords.size());
 
-    var authorityEvents =
+    // records of one tenant keep their poll order, so per-key ordering is preserved inside a tenant group
+    var recordsByTenant =
       consumerRecords.stream()
         .map(consumerRecord -> {
           var value = consumerRecord.value();
           value.setId(UUID.fromString(consumerRecord.key()));
-          return value;
+          return consumerRecord;
         })
-        .collect(Collectors.groupingBy(AuthorityDomainEvent::getTenant));
+        .collect(Collectors.groupingBy(consumerRecord -> consumerRecord.value().getTenant(), LinkedHashMap::new,
+          Collectors.toList()));
 
-    authorityEvents.forEach(this::handleAuthorityEventsForTenant);
+    if (properties.isTenantParallelism() && recordsByTenant.size() > 1) {
+      handleTenantsInParallel(recordsByTenant);
+    } else {
+      var submittedAt = System.nanoTime();
+      recordsByTenant.forEach((tenant, records) -> handleAuthorityEventsForTenant(tenant, records, submittedAt));
+    }
   }
 
-  private void handleAuthorityEventsForTenant(String tenant, List<AuthorityDomainEvent> events) {
+  /**
+   * Processes tenant groups concurrently and returns only when all of them are finished,
+   * so the batch offsets are committed by the container after the whole poll is handled.
+   */
+  private void handleTenantsInParallel(
+    Map<String, List<ConsumerRecord<String, AuthorityDomainEvent>>> recordsByTenant) {
+    var submittedAt = System.nanoTime();
+    var futures = recordsByTenant.entrySet().stream()
+      .map(entry -> CompletableFuture.runAsync(
+        () -> handleAuthorityEventsForTenant(entry.getKey(), entry.getValue(), submittedAt), tenantExecutor))
+      .toArray(CompletableFuture[]::new);
+
+    try {
+      CompletableFuture.allOf(futures).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private void handleAuthorityEventsForTenant(String tenant,
+                                              List<ConsumerRecord<String, AuthorityDomainEvent>> records,
+                                              long submittedAt) {
+    var startedAt = System.nanoTime();
+    var events = properties.isCoalescing()
+                 ? AuthorityEventsCoalescer.coalesce(records, properties.getCoalescingWindowMs())
+                 : records.stream().map(ConsumerRecord::value).toList();
     executionService.executeSystemUserScoped(tenant, () -> {
       log.info("Triggering updates for authority records [number of records: {}, tenant: {}]", events.size(), tenant);
       messageBatchProcessor.consumeBatchWithFallback(events, DEFAULT_KAFKA_RETRY_TEMPLATE_NAME,
         instanceAuthorityLinkUpdateService::handleAuthoritiesChanges, this::logFailedEvent);
       return null;
     });
+    logTenantProcessingStats(tenant, records, submittedAt, startedAt);
+  }
+
+  private void logTenantProcessingStats(String tenant, List<ConsumerRecord<String, AuthorityDomainEvent>> records,
+                                        long submittedAt, long startedAt) {
+    var finishedAt = System.nanoTime();
+    var oldestTimestamp = records.stream().mapToLong(ConsumerRecord::timestamp).min().orElse(0);
+    var lagMillis = oldestTimestamp > 0 ? Math.max(0, System.currentTimeMillis() - oldestTimestamp) : 0;
+    log.info("Processed authority events [tenant: {}, number of records: {}, waitMs: {}, processingMs: {}, "
+             + "maxLagMs: {}]", tenant, records.size(), TimeUnit.NANOSECONDS.toMillis(startedAt - submittedAt),
+      TimeUnit.NANOSECONDS.toMillis(finishedAt - startedAt), lagMillis);
   }
 
   private void logFailedEvent(AuthorityDomainEvent event, Exception e) {
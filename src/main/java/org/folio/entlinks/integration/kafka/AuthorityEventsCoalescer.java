@@ -0,0 +1,61 @@
+package org.folio.entlinks.integration.kafka;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
+import org.folio.entlinks.integration.dto.event.DomainEventType;
+
+@Log4j2
+@UtilityClass
+public class AuthorityEventsCoalescer {
+
+  /**
+   * Merges consecutive updates of the same authority into one update with the oldest 'old' and the latest 'new'
+   * record. Any other event of the authority ends the merge, so the order of events per authority is preserved.
+   * Merged updates without net changes are dropped.
+   *
+   * @param records  records of one tenant in poll order
+   * @param windowMs max time between the first and the last merged update, 0 - no limit
+   * @return coalesced events
+   */
+  public static List<AuthorityDomainEvent> coalesce(List<ConsumerRecord<String, AuthorityDomainEvent>> records,
+                                                    long windowMs) {
+    var events = new ArrayList<AuthorityDomainEvent>(records.size());
+    var openMerges = new HashMap<UUID, OpenMerge>();
+    for (var consumerRecord : records) {
+      var event = consumerRecord.value();
+      if (event.getType() != DomainEventType.UPDATE) {
+        openMerges.remove(event.getId());
+        events.add(event);
+        continue;
+      }
+
+      var openMerge = openMerges.get(event.getId());
+      if (openMerge != null && (windowMs <= 0 || consumerRecord.timestamp() - openMerge.startedAt() <= windowMs)) {
+        var merged = events.get(openMerge.position());
+        merged.setNewEntity(event.getNewEntity());
+        merged.setTs(event.getTs());
+      } else {
+        openMerges.put(event.getId(), new OpenMerge(events.size(), consumerRecord.timestamp()));
+        events.add(event);
+      }
+    }
+
+    events.removeIf(event -> event.getType() == DomainEventType.UPDATE
+      && Objects.equals(event.getOldEntity(), event.getNewEntity()));
+
+    if (events.size() < records.size()) {
+      log.info("Coalesced authority events [number of records: {}, number of events: {}]",
+        records.size(), events.size());
+    }
+    return events;
+  }
+
+  private record OpenMerge(int position, long startedAt) { }
+}
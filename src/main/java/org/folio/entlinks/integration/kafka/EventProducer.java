@@ -8,14 +8,23 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
 import org.codehaus.plexus.util.StringUtils;
 import org.folio.entlinks.integration.dto.event.BaseEvent;
 import org.folio.entlinks.utils.DateUtils;
 import org.folio.spring.FolioExecutionContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 
 @Log4j2
@@ -28,60 +37,175 @@ public class EventProducer<T> {
   @Autowired
   private FolioExecutionContext context;
 
+  @Value("${folio.kafka.producer.max-in-flight:1000}")
+  private int maxInFlight = 1000;
+
   public void sendMessage(String key, T msgBody, Object... headers) {
     log.debug("Sending event to Kafka [topic: {}]", topicName);
     log.debug("Sending event to Kafka [topic: {}, body: {}]", topicName, msgBody);
-    if (headers.length % 2 != 0) {
-      throw new IllegalArgumentException(
-        String.format("Wrong number of %s header key and value pairs are provided", headers.length));
-    }
-    var headersMap = new HashMap<String, Collection<String>>();
-    for (int i = 0; i < headers.length; i += 2) {
-      headersMap.put(headers[i].toString(), List.of(headers[i + 1].toString()));
-    }
-    var producerRecord = toProducerRecord(key, msgBody, headersMap);
+    var producerRecord = toProducerRecord(key, msgBody, toHeadersMap(headers));
     template.send(producerRecord);
   }
 
-  public void sendMessages(List<T> msgBodies) {
+  /**
+   * Sends events and waits until all of them are acknowledged.
+   *
+   * @return events that were not acknowledged by Kafka
+   */
+  public List<EventSendFailure<T>> sendMessages(List<T> msgBodies) {
     if (log.isTraceEnabled()) {
       log.trace("Sending events to Kafka [topic: {}, bodies: {}]", topicName, msgBodies);
     } else {
       log.info("Sending events to Kafka [topic: {}, number: {}]", topicName, msgBodies.size());
     }
-    msgBodies.stream()
-      .map(this::toProducerRecord)
-      .forEach(template::send);
+    var batch = batch();
+    msgBodies.forEach(msgBody -> batch.send(null, msgBody));
+    return batch.flush();
   }
 
-  private ProducerRecord<String, T> toProducerRecord(T msgBody) {
-    return toProducerRecord(null, msgBody, Collections.emptyMap());
+  /**
+   * Opens send batch bound to the current execution context.
+   * Topic name and context headers are resolved once per batch.
+   */
+  public Batch batch() {
+    return new Batch(maxInFlight);
   }
 
   private ProducerRecord<String, T> toProducerRecord(String key, T msgBody,
                                                      Map<String, Collection<String>> headersMap) {
+    return toProducerRecord(key, msgBody, headersMap, context.getTenantId(), topicName(),
+      toKafkaHeaders(context.getOkapiHeaders()));
+  }
+
+  private ProducerRecord<String, T> toProducerRecord(String key, T msgBody,
+                                                     Map<String, Collection<String>> headersMap,
+                                                     String tenantId, String tenantTopicName,
+                                                     List<Header> contextHeaders) {
     if (msgBody instanceof BaseEvent baseEvent) {
-      baseEvent.setTenant(context.getTenantId());
+      baseEvent.setTenant(tenantId);
       baseEvent.setTs(DateUtils.currentTsInString());
     }
 
     ProducerRecord<String, T> producerRecord;
     if (StringUtils.isBlank(key)) {
-      producerRecord = new ProducerRecord<>(topicName(), msgBody);
+      producerRecord = new ProducerRecord<>(tenantTopicName, msgBody);
     } else {
-      producerRecord = new ProducerRecord<>(topicName(), key, msgBody);
+      producerRecord = new ProducerRecord<>(tenantTopicName, key, msgBody);
     }
 
-    toKafkaHeaders(context.getOkapiHeaders())
-      .forEach(header -> producerRecord.headers().add(header));
+    contextHeaders.forEach(header -> producerRecord.headers().add(header));
 
-    toKafkaHeaders(headersMap)
-      .forEach(header -> producerRecord.headers().add(header));
+    if (!headersMap.isEmpty()) {
+      toKafkaHeaders(headersMap)
+        .forEach(header -> producerRecord.headers().add(header));
+    }
 
     return producerRecord;
   }
 
+  private Map<String, Collection<String>> toHeadersMap(Object... headers) {
+    if (headers.length % 2 != 0) {
+      throw new IllegalArgumentException(
+        String.format("Wrong number of %s header key and value pairs are provided", headers.length));
+    }
+    if (headers.length == 0) {
+      return Collections.emptyMap();
+    }
+    var headersMap = new HashMap<String, Collection<String>>();
+    for (int i = 0; i < headers.length; i += 2) {
+      headersMap.put(headers[i].toString(), List.of(headers[i + 1].toString()));
+    }
+    return headersMap;
+  }
+
   private String topicName() {
     return getTenantTopicName(topicName, context.getTenantId());
   }
+
+  /**
+   * Asynchronous send batch with bounded number of in-flight records.
+   * {@link #send} blocks when the bound is reached, {@link #flush} waits for all sent records
+   * and returns the failed ones.
+   */
+  public final class Batch {
+
+    private final String tenantId;
+    private final String tenantTopicName;
+    private final List<Header> contextHeaders;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final Queue<EventSendFailure<T>> failures = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger sentCount = new AtomicInteger();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    private Batch(int maxInFlight) {
+      this.tenantId = context.getTenantId();
+      this.tenantTopicName = topicName();
+      this.contextHeaders = List.copyOf(toKafkaHeaders(context.getOkapiHeaders()));
+      this.maxInFlight = Math.max(1, maxInFlight);
+      this.inFlight = new Semaphore(this.maxInFlight);
+    }
+
+    public void send(String key, T msgBody, Object... headers) {
+      var producerRecord = toProducerRecord(key, msgBody, toHeadersMap(headers), tenantId, tenantTopicName,
+        contextHeaders);
+      acquire(1);
+      var startTime = System.nanoTime();
+      try {
+        template.send(producerRecord)
+          .whenComplete((result, throwable) -> complete(key, msgBody, startTime, throwable));
+      } catch (Exception e) {
+        complete(key, msgBody, startTime, e);
+      }
+    }
+
+    /**
+     * Waits until all records sent by the batch are completed.
+     *
+     * @return records that were not acknowledged by Kafka
+     */
+    public List<EventSendFailure<T>> flush() {
+      template.flush();
+      acquire(maxInFlight);
+      inFlight.release(maxInFlight);
+
+      var sent = sentCount.get();
+      log.info("Events sent to Kafka [topic: {}, number: {}, failed: {}, avgLatencyMs: {}, maxLatencyMs: {}]",
+        tenantTopicName, sent, failures.size(), getAverageLatencyMillis(),
+        TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get()));
+      failures.forEach(failure -> log.warn("Failed to send event to Kafka [topic: {}, key: {}]",
+        tenantTopicName, failure.key(), failure.cause()));
+      return List.copyOf(failures);
+    }
+
+    public int getSentCount() {
+      return sentCount.get();
+    }
+
+    public long getAverageLatencyMillis() {
+      var sent = sentCount.get();
+      return sent == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos.sum() / sent);
+    }
+
+    private void complete(String key, T msgBody, long startTime, Throwable throwable) {
+      var latency = System.nanoTime() - startTime;
+      totalLatencyNanos.add(latency);
+      maxLatencyNanos.accumulateAndGet(latency, Math::max);
+      sentCount.incrementAndGet();
+      if (throwable != null) {
+        failures.add(new EventSendFailure<>(key, msgBody, throwable));
+      }
+      inFlight.release();
+    }
+
+    private void acquire(int permits) {
+      try {
+        inFlight.acquire(permits);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for in-flight Kafka events", e);
+      }
+    }
+  }
 }
@@ -0,0 +1,10 @@
+package org.folio.entlinks.integration.kafka;
+
+/**
+ * Event that was not acknowledged by Kafka.
+ *
+ * @param key   record key, null if the record has no key
+ * @param event record value
+ * @param cause send failure
+ */
+public record EventSendFailure<T>(String key, T event, Throwable cause) { }
@@ -42,17 +42,11 @@ public class InstanceAuthorityStatsEventListener {
     executionService.executeSystemUserScoped(tenant, () -> {
       log.info("Triggering updates for stats records [tenant: {}, number of records: {}]", tenant, events.size());
       messageBatchProcessor.consumeBatchWithFallback(events, DEFAULT_KAFKA_RETRY_TEMPLATE_NAME,
-        this::handleReportEventsByJobId, this::logFailedEvent);
+        dataStatService::updateForReports, this::logFailedEvent);
       return null;
     });
   }
 
-  private void handleReportEventsByJobId(List<LinkUpdateReport> events) {
-    events.stream()
-      .collect(Collectors.groupingBy(LinkUpdateReport::getJobId))
-      .forEach(dataStatService::updateForReports);
-  }
-
   private void logFailedEvent(LinkUpdateReport event, Exception e) {
     if (event == null) {
       log.warn("Failed to process stats event [event: null]", e);
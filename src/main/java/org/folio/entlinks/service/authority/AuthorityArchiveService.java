@@ -1,11 +1,13 @@
 package org.folio.entlinks.service.authority;
 
+import java.util.Collection;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.entlinks.domain.entity.AuthorityArchive;
 import org.folio.entlinks.domain.repository.AuthorityArchiveRepository;
+import org.folio.entlinks.domain.repository.CursorPage;
 import org.folio.spring.data.OffsetRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
@@ -41,9 +43,45 @@ public class AuthorityArchiveService {
     return repository.findIdsByCql(cqlQuery, new OffsetRequest(offset, limit));
   }
 
+  public CursorPage<AuthorityArchive> getAllAfter(String cursor, Integer limit, String cqlQuery) {
+    log.debug("getAllAfter:: Attempts to find all AuthorityArchive by [cursor: {}, limit: {}, cql: {}]", cursor, limit,
+      cqlQuery);
+    return repository.findByCqlAfter(cqlQuery, cursor, limit);
+  }
+
+  public CursorPage<UUID> getAllIdsAfter(String cursor, Integer limit, String cqlQuery) {
+    log.debug("getAllIdsAfter:: Attempts to find all AuthorityArchive IDs by [cursor: {}, limit: {}, cql: {}]",
+      cursor, limit, cqlQuery);
+    return repository.findIdsByCqlAfter(cqlQuery, cursor, limit);
+  }
+
+  /**
+   * Counts AuthorityArchive records matching the query for cursor pagination.
+   *
+   * @return number of records, null for {@link TotalRecords#NONE}
+   */
+  public Integer count(String cqlQuery, TotalRecords totalRecords) {
+    return switch (totalRecords) {
+      case EXACT -> (int) repository.countByCql(cqlQuery);
+      case ESTIMATED -> (int) repository.estimateCountByCql(cqlQuery);
+      case NONE -> null;
+    };
+  }
+
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   public void delete(AuthorityArchive authorityArchive) {
     log.debug("Deleting authority archive: id = {}", authorityArchive.getId());
     repository.delete(authorityArchive);
   }
+
+  /**
+   * Deletes authority archives with one statement.
+   *
+   * @return number of deleted archives
+   */
+  @Transactional
+  public int deleteByIds(Collection<UUID> ids) {
+    log.debug("Deleting authority archives: number = {}", ids.size());
+    return repository.deleteAllByIds(ids.toArray(UUID[]::new));
+  }
 }
@@ -0,0 +1,7 @@
+package org.folio.entlinks.service.authority;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public record AuthorityBulkUpsertResult(List<AuthorityUpdateResult> updateResults, Map<UUID, Exception> rejected) { }
@@ -0,0 +1,67 @@
+package org.folio.entlinks.service.authority;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.config.properties.AuthorityBulkProperties;
+import org.folio.entlinks.domain.entity.Authority;
+import org.folio.entlinks.domain.repository.AuthorityBulkJdbcRepository;
+import org.folio.entlinks.domain.repository.AuthorityBulkJdbcRepository.UpsertRow;
+import org.folio.entlinks.exception.AuthorityBatchProcessingException;
+import org.folio.entlinks.exception.OptimisticLockingException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Upserts chunks of authorities from bulk files.
+ *
+ * <p>When the copy mode is enabled, a chunk is applied by {@link AuthorityBulkJdbcRepository} with a single statement
+ * and the authorities failed the optimistic locking check are rejected one by one, otherwise the chunk is upserted
+ * by {@link AuthorityService} and fails as a whole.</p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class AuthorityBulkUpsertService {
+
+  private final AuthorityService authorityService;
+  private final AuthorityBulkJdbcRepository bulkRepository;
+  private final AuthorityBulkProperties bulkProperties;
+
+  @Transactional
+  public AuthorityBulkUpsertResult upsert(List<Authority> authorities) {
+    if (!bulkProperties.isCopyEnabled()) {
+      return new AuthorityBulkUpsertResult(authorityService.upsert(authorities), Map.of());
+    }
+
+    var updateResults = new ArrayList<AuthorityUpdateResult>(authorities.size());
+    var rejected = new HashMap<UUID, Exception>();
+    for (var row : bulkRepository.upsert(authorities)) {
+      if (row.isApplied()) {
+        updateResults.add(new AuthorityUpdateResult(row.existing(), row.upserted()));
+      } else {
+        rejected.put(row.id(), rejectionReason(row));
+      }
+    }
+
+    if (!rejected.isEmpty()) {
+      log.warn("upsert:: Authorities are rejected [upserted: {}, rejected: {}]", updateResults.size(),
+        rejected.size());
+    }
+    return new AuthorityBulkUpsertResult(updateResults, rejected);
+  }
+
+  private Exception rejectionReason(UpsertRow row) {
+    var existing = row.existing();
+    if (existing == null || existing.isDeleted()) {
+      return new AuthorityBatchProcessingException(row.id(),
+        "Cannot update record %s because it has been deleted".formatted(row.id()));
+    }
+    return OptimisticLockingException.optimisticLockingOnUpdate(row.id(), existing.getVersion(),
+      row.requestVersion());
+  }
+}
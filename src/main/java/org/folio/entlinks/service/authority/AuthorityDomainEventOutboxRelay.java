@@ -0,0 +1,134 @@
+package org.folio.entlinks.service.authority;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.config.properties.AuthorityOutboxProperties;
+import org.folio.entlinks.domain.dto.AuthorityDto;
+import org.folio.entlinks.domain.repository.AuthorityDomainEventOutboxJdbcRepository;
+import org.folio.entlinks.domain.repository.AuthorityDomainEventOutboxJdbcRepository.OutboxEvent;
+import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
+import org.folio.entlinks.integration.dto.event.DomainEvent;
+import org.folio.entlinks.integration.dto.event.DomainEventType;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Sends authority domain events stored in the tenant outbox to Kafka.
+ *
+ * <p>Events are read in the order they were stored and sent in batches, a batch is removed from the outbox
+ * only after Kafka acknowledged it. If some events of a batch are not acknowledged, only the events before
+ * the first failed one are removed, so the order of events is kept and the rest is sent again on the next run.</p>
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AuthorityDomainEventOutboxRelay {
+
+  private static final TypeReference<DomainEvent<AuthorityDto>> DOMAIN_EVENT_TYPE_REF = new TypeReference<>() { };
+
+  private final AuthorityDomainEventOutboxJdbcRepository repository;
+  private final AuthorityDomainEventPublisher eventPublisher;
+  private final AuthorityOutboxProperties outboxProperties;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+
+  @Async
+  public void relayAsync(FolioModuleMetadata moduleMetadata, Map<String, Collection<String>> okapiHeaders) {
+    try (var ignored = new FolioExecutionContextSetter(moduleMetadata, okapiHeaders)) {
+      relay();
+    } catch (Exception e) {
+      log.warn("relayAsync:: Failed to relay authority domain events, they are left in outbox", e);
+    }
+  }
+
+  /**
+   * Sends outbox events batch by batch until the outbox is empty or a batch is not fully acknowledged.
+   *
+   * <p>A relay that doesn't get the outbox lock returns at once and leaves its events to the lock holder.
+   * That's why the lock holder checks the outbox once more after the lock is released: events committed
+   * while it was sending the last batch are relayed right away instead of waiting for the scheduled relay.</p>
+   *
+   * @return number of events sent and removed from the outbox
+   */
+  public int relay() {
+    var batchSize = outboxProperties.getBatchSize();
+    var relayed = 0;
+    RelayResult result;
+    do {
+      result = transactionTemplate.execute(status -> relayBatch(batchSize));
+      if (result == null || !result.locked()) {
+        break;
+      }
+      relayed += result.relayed();
+    } while (result.relayed() == result.fetched() && (result.fetched() == batchSize || repository.hasEvents()));
+
+    if (relayed > 0) {
+      log.info("relay:: Authority domain events relayed from outbox [number: {}]", relayed);
+    }
+    return relayed;
+  }
+
+  private RelayResult relayBatch(int batchSize) {
+    if (!repository.tryLock()) {
+      log.debug("relayBatch:: Outbox is relayed by another transaction");
+      return RelayResult.NOT_LOCKED;
+    }
+
+    var outboxEvents = repository.findFirst(batchSize);
+    if (outboxEvents.isEmpty()) {
+      return new RelayResult(true, 0, 0);
+    }
+
+    var outboxIds = new IdentityHashMap<DomainEvent<?>, Long>(outboxEvents.size());
+    var domainEvents = new ArrayList<DomainEvent<?>>(outboxEvents.size());
+    for (var outboxEvent : outboxEvents) {
+      var domainEvent = deserialize(outboxEvent);
+      outboxIds.put(domainEvent, outboxEvent.id());
+      domainEvents.add(domainEvent);
+    }
+
+    var firstFailedId = Long.MAX_VALUE;
+    for (var failure : eventPublisher.publishEvents(domainEvents)) {
+      firstFailedId = Math.min(firstFailedId, outboxIds.get(failure.event()));
+    }
+
+    var sentIds = new ArrayList<Long>(outboxEvents.size());
+    for (var outboxEvent : outboxEvents) {
+      if (outboxEvent.id() >= firstFailedId) {
+        break;
+      }
+      sentIds.add(outboxEvent.id());
+    }
+    repository.deleteByIds(sentIds);
+    if (sentIds.size() < outboxEvents.size()) {
+      log.warn("relayBatch:: Authority domain events are not acknowledged, they are left in outbox [number: {}]",
+        outboxEvents.size() - sentIds.size());
+    }
+    return new RelayResult(true, outboxEvents.size(), sentIds.size());
+  }
+
+  private DomainEvent<?> deserialize(OutboxEvent outboxEvent) {
+    try {
+      return outboxEvent.type() == DomainEventType.DELETE
+             ? objectMapper.readValue(outboxEvent.payload(), AuthorityDomainEvent.class)
+             : objectMapper.readValue(outboxEvent.payload(), DOMAIN_EVENT_TYPE_REF);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to deserialize authority domain event: " + outboxEvent.id(), e);
+    }
+  }
+
+  private record RelayResult(boolean locked, int fetched, int relayed) {
+
+    private static final RelayResult NOT_LOCKED = new RelayResult(false, 0, 0);
+  }
+}
@@ -0,0 +1,74 @@
+package org.folio.entlinks.service.authority;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.domain.dto.AuthorityDto;
+import org.folio.entlinks.domain.repository.AuthorityDomainEventOutboxJdbcRepository;
+import org.folio.entlinks.domain.repository.AuthorityDomainEventOutboxJdbcRepository.OutboxEvent;
+import org.folio.entlinks.integration.dto.event.DomainEvent;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Stores authority domain events in the outbox table as part of the current transaction.
+ * The events are sent to Kafka by {@link AuthorityDomainEventOutboxRelay} after the transaction is committed.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class AuthorityDomainEventOutboxService {
+
+  private final AuthorityDomainEventOutboxJdbcRepository repository;
+  private final AuthorityDomainEventOutboxRelay relay;
+  private final FolioExecutionContext context;
+  private final ObjectMapper objectMapper;
+
+  public void saveEvents(List<? extends DomainEvent<AuthorityDto>> domainEvents) {
+    var outboxEvents = new ArrayList<OutboxEvent>(domainEvents.size());
+    for (var domainEvent : domainEvents) {
+      if (domainEvent.getId() == null) {
+        log.warn("Authority domain event cannot have null id: {}", domainEvent);
+        continue;
+      }
+      outboxEvents.add(new OutboxEvent(null, domainEvent.getId(), domainEvent.getType(), serialize(domainEvent)));
+    }
+    if (outboxEvents.isEmpty()) {
+      return;
+    }
+
+    log.debug("saveEvents:: Saving authority domain events to outbox [number: {}]", outboxEvents.size());
+    repository.insert(outboxEvents);
+    relayAfterCommit();
+  }
+
+  private void relayAfterCommit() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      log.warn("relayAfterCommit:: No active transaction, outbox events are left for the scheduled relay");
+      return;
+    }
+
+    var moduleMetadata = context.getFolioModuleMetadata();
+    var okapiHeaders = new HashMap<>(context.getOkapiHeaders());
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        relay.relayAsync(moduleMetadata, okapiHeaders);
+      }
+    });
+  }
+
+  private String serialize(DomainEvent<AuthorityDto> domainEvent) {
+    try {
+      return objectMapper.writeValueAsString(domainEvent);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize authority domain event: " + domainEvent.getId(), e);
+    }
+  }
+}
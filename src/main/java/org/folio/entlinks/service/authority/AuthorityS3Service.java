@@ -3,14 +3,16 @@ package org.folio.entlinks.service.authority;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.config.properties.AuthorityBulkProperties;
 import org.folio.entlinks.controller.converter.AuthorityMapper;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.entity.Authority;
@@ -26,44 +28,88 @@ public class AuthorityS3Service {
   private final BulkAuthorityS3Client s3Client;
   private final ObjectMapper objectMapper;
   private final AuthorityMapper mapper;
-
+  private final AuthorityBulkProperties bulkProperties;
+
+  /**
+   * Streams the bulk file in chunks, every chunk is parsed and passed to the bulk consumer separately,
+   * so memory usage doesn't depend on the file size. Failures are written to the error files as they occur.
+   *
+   * @return number of failed authorities
+   */
   public int processAuthorities(AuthoritiesBulkContext bulkContext,
-                                Consumer<List<Authority>> bulkConsumer) {
+                                AuthorityBulkConsumer bulkConsumer) {
     log.info("processAuthorities::Processing bulk authority request [filename: {}]", bulkContext.getInitialFilePath());
-    AtomicInteger errorCounter = new AtomicInteger();
-    var stringAuthorities = s3Client.readFile(bulkContext.getInitialFilePath());
-    var invalidFormatAuthorities = new LinkedList<Map.Entry<String, Exception>>();
-    var authorities = parseAuthorities(stringAuthorities, invalidFormatAuthorities);
-    var failedAuthorities = new LinkedList<Map.Entry<Authority, Exception>>();
-
+    var failures = new BulkFailures(bulkContext);
+    var processedCounter = new AtomicInteger();
     try {
-      bulkConsumer.accept(authorities);
-    } catch (Exception e) {
-      log.error("processAuthorities::Batch failed: [message: {}]", e.getMessage());
-      log.debug("processAuthorities::Batch failed", e);
-
-      for (var authority : authorities) {
-        try {
-          bulkConsumer.accept(List.of(authority));
-        } catch (Exception ex) {
-          failedAuthorities.add(Map.entry(authority, ex));
-        }
-      }
+      s3Client.readFile(bulkContext.getInitialFilePath(), bulkProperties.getChunkSize(), stringAuthorities -> {
+        processChunk(stringAuthorities, bulkConsumer, failures);
+        var processed = processedCounter.addAndGet(stringAuthorities.size());
+        log.info("processAuthorities::Chunk processed [filename: {}, processed: {}, failed: {}]",
+          bulkContext.getInitialFilePath(), processed, failures.getCount());
+      });
+    } finally {
+      failures.close();
     }
 
-    processFailures(invalidFormatAuthorities, failedAuthorities, errorCounter, bulkContext);
+    if (failures.getCount() > 0) {
+      log.warn("processFailures:: [file: {}, failures count: {}]", bulkContext.getInitialFilePath(),
+        failures.getCount());
+      s3Client.uploadErrorFiles(bulkContext);
+    }
 
     try {
       bulkContext.deleteLocalFiles();
     } catch (IOException e) {
       log.error("processAuthorities::Exception during temp files deletion: ", e);
     }
-    return errorCounter.get();
+    return failures.getCount();
   }
 
-  private List<Authority> parseAuthorities(List<String> stringAuthorities,
-                                           List<Map.Entry<String, Exception>> invalidFormatAuthorities) {
-    var authorities = new LinkedList<Authority>();
+  private void processChunk(List<String> stringAuthorities, AuthorityBulkConsumer bulkConsumer,
+                            BulkFailures failures) {
+    var authorities = parseAuthorities(stringAuthorities, failures);
+    if (authorities.isEmpty()) {
+      return;
+    }
+
+    consumeWithBisection(authorities, bulkConsumer, failures);
+  }
+
+  /**
+   * Passes authorities to the bulk consumer. A failed batch is split in halves recursively,
+   * so the failed records are isolated in O(k*log(n)) sub-batches while the rest is still consumed in batches.
+   * Authorities rejected by the consumer one by one are recorded as failures without splitting the batch.
+   */
+  private void consumeWithBisection(List<Authority> authorities, AuthorityBulkConsumer bulkConsumer,
+                                    BulkFailures failures) {
+    try {
+      var rejected = bulkConsumer.accept(authorities);
+      if (!rejected.isEmpty()) {
+        for (var authority : authorities) {
+          var reason = rejected.get(authority.getId());
+          if (reason != null) {
+            failures.failed(authority, reason);
+          }
+        }
+      }
+    } catch (Exception e) {
+      if (authorities.size() == 1) {
+        failures.failed(authorities.get(0), e);
+        return;
+      }
+      log.error("processAuthorities::Batch failed, splitting [size: {}, message: {}]", authorities.size(),
+        e.getMessage());
+      log.debug("processAuthorities::Batch failed", e);
+
+      var middle = authorities.size() / 2;
+      consumeWithBisection(authorities.subList(0, middle), bulkConsumer, failures);
+      consumeWithBisection(authorities.subList(middle, authorities.size()), bulkConsumer, failures);
+    }
+  }
+
+  private List<Authority> parseAuthorities(List<String> stringAuthorities, BulkFailures failures) {
+    var authorities = new ArrayList<Authority>(stringAuthorities.size());
 
     for (String stringAuthority : stringAuthorities) {
       try {
@@ -71,41 +117,13 @@ public class AuthorityS3Service {
         var authority = mapper.toEntity(authorityDto);
         authorities.add(authority);
       } catch (Exception ex) {
-        invalidFormatAuthorities.add(Map.entry(stringAuthority, ex));
+        failures.invalidFormat(stringAuthority, ex);
       }
     }
 
     return authorities;
   }
 
-  private void processFailures(List<Map.Entry<String, Exception>> invalidFormatAuthorities,
-                               List<Map.Entry<Authority, Exception>> failedAuthorities,
-                               AtomicInteger errorCounter, AuthoritiesBulkContext bulkContext) {
-
-    if (invalidFormatAuthorities.isEmpty() && failedAuthorities.isEmpty()) {
-      return;
-    }
-
-    log.warn("processFailures:: [file: {}, invalid format count: {}, process failures count: {}]",
-      bulkContext.getInitialFilePath(), invalidFormatAuthorities.size(), failedAuthorities.size());
-    try (var writer = new EntitiesErrorFileWriter(bulkContext.getLocalFailedEntitiesFile(),
-      bulkContext.getLocalErrorsFile(), objectMapper)) {
-      for (var authority : invalidFormatAuthorities) {
-        errorCounter.incrementAndGet();
-        writer.write(authority.getKey(), authority.getValue(),
-          a -> stringAuthorityIdGetter(bulkContext.getInitialFilePath(), a));
-      }
-      for (var authority : failedAuthorities) {
-        errorCounter.incrementAndGet();
-        writer.write(mapper.toDto(authority.getKey()), authority.getValue(), a -> a.getId().toString());
-      }
-    } catch (Exception ex) {
-      log.error("processFailures::Processing bulk authority request failed.", ex);
-    }
-
-    s3Client.uploadErrorFiles(bulkContext);
-  }
-
   private String stringAuthorityIdGetter(String initialFilePath, String stringAuthority) {
     try {
       var authorityJson = objectMapper.readValue(stringAuthority, HashMap.class);
@@ -124,4 +142,69 @@ public class AuthorityS3Service {
       throw new FolioIntegrationException("Unexpected json parsing exception", e);
     }
   }
+
+  /**
+   * Consumes a chunk of authorities in a single transaction.
+   */
+  @FunctionalInterface
+  public interface AuthorityBulkConsumer {
+
+    /**
+     * Consumes authorities, a thrown exception means that none of them is consumed.
+     *
+     * @return authorities rejected one by one mapped by id to the rejection reason, the rest are consumed
+     */
+    Map<UUID, ? extends Exception> accept(List<Authority> authorities);
+  }
+
+  /**
+   * Writes failed authorities to the local error files, the files are opened on the first failure.
+   */
+  private final class BulkFailures implements AutoCloseable {
+
+    private final AuthoritiesBulkContext bulkContext;
+    private EntitiesErrorFileWriter writer;
+    private int count;
+
+    private BulkFailures(AuthoritiesBulkContext bulkContext) {
+      this.bulkContext = bulkContext;
+    }
+
+    private int getCount() {
+      return count;
+    }
+
+    private void invalidFormat(String stringAuthority, Exception ex) {
+      write(stringAuthority, ex, a -> stringAuthorityIdGetter(bulkContext.getInitialFilePath(), a));
+    }
+
+    private void failed(Authority authority, Exception ex) {
+      write(mapper.toDto(authority), ex, a -> a.getId().toString());
+    }
+
+    private <T> void write(T entity, Exception ex, Function<T, String> entityIdentifierGetter) {
+      count++;
+      try {
+        if (writer == null) {
+          writer = new EntitiesErrorFileWriter(bulkContext.getLocalFailedEntitiesFile(),
+            bulkContext.getLocalErrorsFile(), objectMapper);
+        }
+        writer.write(entity, ex, entityIdentifierGetter);
+      } catch (Exception e) {
+        log.error("processFailures::Processing bulk authority request failed.", e);
+      }
+    }
+
+    @Override
+    public void close() {
+      if (writer == null) {
+        return;
+      }
+      try {
+        writer.close();
+      } catch (Exception e) {
+        log.error("processFailures::Closing error files failed.", e);
+      }
+    }
+  }
 }
@@ -18,6 +18,7 @@ import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.entity.AuthoritySourceFile;
 import org.folio.entlinks.domain.repository.AuthorityRepository;
 import org.folio.entlinks.domain.repository.AuthoritySourceFileRepository;
+import org.folio.entlinks.domain.repository.CursorPage;
 import org.folio.entlinks.exception.AuthorityNotFoundException;
 import org.folio.entlinks.exception.AuthoritySourceFileNotFoundException;
 import org.folio.entlinks.exception.OptimisticLockingException;
@@ -59,6 +60,31 @@ public class AuthorityService implements AuthorityServiceI<Authority> {
     return repository.findIdsByCql(cql, new OffsetRequest(offset, limit));
   }
 
+  public CursorPage<Authority> getAllAfter(String cursor, Integer limit, String cqlQuery) {
+    log.debug("getAllAfter:: Attempts to find all Authority by [cursor: {}, limit: {}, cql: {}]", cursor, limit,
+      cqlQuery);
+    return repository.findByCqlAfter(cqlQuery, cursor, limit);
+  }
+
+  public CursorPage<UUID> getAllIdsAfter(String cursor, Integer limit, String cqlQuery) {
+    log.debug("getAllIdsAfter:: Attempts to find all Authority IDs by [cursor: {}, limit: {}, cql: {}]",
+      cursor, limit, cqlQuery);
+    return repository.findIdsByCqlAfter(cqlQuery, cursor, limit);
+  }
+
+  /**
+   * Counts Authority records matching the query for cursor pagination.
+   *
+   * @return number of records, null for {@link TotalRecords#NONE}
+   */
+  public Integer count(String cqlQuery, TotalRecords totalRecords) {
+    return switch (totalRecords) {
+      case EXACT -> (int) repository.countByCql(cqlQuery);
+      case ESTIMATED -> (int) repository.estimateCountByCql(cqlQuery);
+      case NONE -> null;
+    };
+  }
+
   @Override
   public Map<UUID, Authority> getAllByIds(Collection<UUID> ids) {
     return repository.findAllByIdInAndDeletedFalse(ids).stream()
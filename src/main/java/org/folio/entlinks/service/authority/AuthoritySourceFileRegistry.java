@@ -0,0 +1,56 @@
+package org.folio.entlinks.service.authority;
+
+import static org.folio.entlinks.config.constants.CacheNames.AUTHORITY_SOURCE_FILES_CACHE;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.domain.entity.AuthoritySourceFile;
+import org.folio.entlinks.domain.repository.AuthoritySourceFileRepository;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-only lookups of authority source files for link processing.
+ * Source files of a tenant are loaded once and cached, the cache is evicted on any source file change.
+ * Returned source files are detached snapshots and must not be modified.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AuthoritySourceFileRegistry {
+
+  private final CacheManager cacheManager;
+  private final AuthoritySourceFileRepository repository;
+  private final FolioExecutionContext context;
+
+  public Optional<AuthoritySourceFile> findById(UUID id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    var sourceFile = getIndex().findById(id);
+    if (sourceFile.isPresent()) {
+      return sourceFile;
+    }
+    // source file could be created after the index was loaded on another instance
+    return repository.findById(id).map(AuthoritySourceFile::new);
+  }
+
+  public Optional<AuthoritySourceFile> findByCodeAsPrefixFor(String naturalId) {
+    return getIndex().findByCodeAsPrefixFor(naturalId);
+  }
+
+  private AuthoritySourceFilesIndex getIndex() {
+    var cache = Objects.requireNonNull(cacheManager.getCache(AUTHORITY_SOURCE_FILES_CACHE));
+    return cache.get(context.getTenantId(), this::loadIndex);
+  }
+
+  private AuthoritySourceFilesIndex loadIndex() {
+    var index = new AuthoritySourceFilesIndex(repository.findAllWithCodes());
+    log.info("Loaded authority source files [tenant: {}, count: {}]", context.getTenantId(), index.size());
+    return index;
+  }
+}
@@ -1,5 +1,6 @@
 package org.folio.entlinks.service.authority;
 
+import static org.folio.entlinks.config.constants.CacheNames.AUTHORITY_SOURCE_FILES_CACHE;
 import static org.folio.entlinks.domain.entity.AuthoritySourceFileSource.FOLIO;
 import static org.folio.entlinks.domain.entity.AuthoritySourceFileSource.LOCAL;
 import static org.folio.entlinks.utils.ServiceUtils.initId;
@@ -24,6 +25,7 @@ import org.folio.entlinks.exception.RequestBodyValidationException;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.data.OffsetRequest;
 import org.folio.tenant.domain.dto.Parameter;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.context.annotation.Primary;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
@@ -90,6 +92,7 @@ public class AuthoritySourceFileService implements AuthoritySourceFileServiceI {
   }
 
   @Override
+  @CacheEvict(cacheNames = AUTHORITY_SOURCE_FILES_CACHE, allEntries = true)
   @Transactional
   public AuthoritySourceFile create(AuthoritySourceFile entity) {
     log.debug("create:: Attempting to create AuthoritySourceFile [entity: {}]", entity);
@@ -102,6 +105,7 @@ public class AuthoritySourceFileService implements AuthoritySourceFileServiceI {
   }
 
   @Override
+  @CacheEvict(cacheNames = AUTHORITY_SOURCE_FILES_CACHE, allEntries = true)
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   @Retryable(
     retryFor = OptimisticLockingException.class,
@@ -112,6 +116,7 @@ public class AuthoritySourceFileService implements AuthoritySourceFileServiceI {
   }
 
   @Override
+  @CacheEvict(cacheNames = AUTHORITY_SOURCE_FILES_CACHE, allEntries = true)
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   @Retryable(
     retryFor = OptimisticLockingException.class,
@@ -123,6 +128,7 @@ public class AuthoritySourceFileService implements AuthoritySourceFileServiceI {
   }
 
   @Override
+  @CacheEvict(cacheNames = AUTHORITY_SOURCE_FILES_CACHE, allEntries = true)
   public void deleteById(UUID id) {
     log.debug("deleteById:: Attempt to delete AuthoritySourceFile by [id: {}]", id);
     validateOnDelete(id);
@@ -0,0 +1,70 @@
+package org.folio.entlinks.service.authority;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.folio.entlinks.domain.entity.AuthoritySourceFile;
+import org.folio.entlinks.domain.entity.AuthoritySourceFileCode;
+
+/**
+ * Immutable in-memory snapshot of tenant authority source files.
+ * Codes are kept in a prefix trie, so the source file of a natural id is resolved by the longest matching code.
+ */
+final class AuthoritySourceFilesIndex {
+
+  private final Map<UUID, AuthoritySourceFile> sourceFilesById;
+  private final CodeNode codesRoot = new CodeNode();
+
+  AuthoritySourceFilesIndex(Collection<AuthoritySourceFile> sourceFiles) {
+    this.sourceFilesById = new HashMap<>();
+    for (var sourceFile : sourceFiles) {
+      var snapshot = new AuthoritySourceFile(sourceFile);
+      sourceFilesById.put(snapshot.getId(), snapshot);
+      snapshot.getAuthoritySourceFileCodes().stream()
+        .map(AuthoritySourceFileCode::getCode)
+        .forEach(code -> addCode(code, snapshot));
+    }
+  }
+
+  Optional<AuthoritySourceFile> findById(UUID id) {
+    return Optional.ofNullable(sourceFilesById.get(id));
+  }
+
+  Optional<AuthoritySourceFile> findByCodeAsPrefixFor(String naturalId) {
+    if (naturalId == null) {
+      return Optional.empty();
+    }
+
+    AuthoritySourceFile matched = null;
+    var node = codesRoot;
+    for (int i = 0; i < naturalId.length() && node != null; i++) {
+      node = node.children.get(naturalId.charAt(i));
+      if (node != null && node.sourceFile != null) {
+        matched = node.sourceFile;
+      }
+    }
+    return Optional.ofNullable(matched);
+  }
+
+  int size() {
+    return sourceFilesById.size();
+  }
+
+  private void addCode(String code, AuthoritySourceFile sourceFile) {
+    if (code == null || code.isEmpty()) {
+      return;
+    }
+    var node = codesRoot;
+    for (int i = 0; i < code.length(); i++) {
+      node = node.children.computeIfAbsent(code.charAt(i), c -> new CodeNode());
+    }
+    node.sourceFile = sourceFile;
+  }
+
+  private static final class CodeNode {
+    private final Map<Character, CodeNode> children = new HashMap<>();
+    private AuthoritySourceFile sourceFile;
+  }
+}
@@ -3,12 +3,15 @@ package org.folio.entlinks.service.authority;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.function.Consumer;
 import lombok.extern.log4j.Log4j2;
 import org.folio.s3.client.FolioS3Client;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Component;
 
 /**
@@ -16,20 +19,42 @@ import org.springframework.stereotype.Component;
  * */
 @Log4j2
 @Component
-@RequiredArgsConstructor
 public class BulkAuthorityS3Client {
 
   private final FolioS3Client s3Client;
+  private final RetryTemplate readRetryTemplate;
 
-  @Retryable(
-    retryFor = Exception.class,
-    maxAttemptsExpression = "${folio.remote-storage.retryCount}",
-    backoff = @Backoff(delayExpression = "${folio.remote-storage.retryDelayMs}"))
-  public List<String> readFile(String remoteFileName) {
-    log.info("readFile::Reading lines from the file [filename: {}]", remoteFileName);
-    try (var inputStream = s3Client.read(remoteFileName);
+  public BulkAuthorityS3Client(FolioS3Client s3Client,
+                               @Value("${folio.remote-storage.retryCount}") int retryCount,
+                               @Value("${folio.remote-storage.retryDelayMs}") long retryDelayMs) {
+    this.s3Client = s3Client;
+    this.readRetryTemplate = RetryTemplate.builder()
+      .maxAttempts(retryCount)
+      .fixedBackoff(retryDelayMs)
+      .retryOn(Exception.class)
+      .build();
+  }
+
+  /**
+   * Streams the file line by line and passes lines to the consumer in chunks of the given size.
+   * Opening of the file is retried, reading is not, because chunks that are already consumed can't be replayed.
+   */
+  public void readFile(String remoteFileName, int chunkSize, Consumer<List<String>> chunkConsumer) {
+    log.info("readFile::Reading lines from the file [filename: {}, chunkSize: {}]", remoteFileName, chunkSize);
+    try (var inputStream = readRetryTemplate.execute(context -> s3Client.read(remoteFileName));
          var reader = new BufferedReader(new InputStreamReader(inputStream))) {
-      return reader.lines().toList();
+      var chunk = new ArrayList<String>(chunkSize);
+      String line;
+      while ((line = reader.readLine()) != null) {
+        chunk.add(line);
+        if (chunk.size() == chunkSize) {
+          chunkConsumer.accept(chunk);
+          chunk = new ArrayList<>(chunkSize);
+        }
+      }
+      if (!chunk.isEmpty()) {
+        chunkConsumer.accept(chunk);
+      }
     } catch (IOException e) {
       log.error("readFile::Error reading file [filename: {}]", remoteFileName, e);
       throw new IllegalStateException("Error reading file: " + remoteFileName, e);
@@ -1,5 +1,7 @@
 package org.folio.entlinks.service.authority;
 
+import static org.folio.entlinks.config.constants.CacheNames.AUTHORITY_SOURCE_FILES_CACHE;
+
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import lombok.extern.log4j.Log4j2;
@@ -11,6 +13,7 @@ import org.folio.entlinks.domain.repository.AuthoritySourceFileRepository;
 import org.folio.entlinks.exception.AuthoritySourceFileNotFoundException;
 import org.folio.entlinks.exception.OptimisticLockingException;
 import org.folio.spring.FolioExecutionContext;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -47,6 +50,7 @@ public class PropagationAuthoritySourceFileService extends AuthoritySourceFileSe
    *   validation/initialization is required and the entity passed to the method had this validation/initialization.
    */
   @Override
+  @CacheEvict(cacheNames = AUTHORITY_SOURCE_FILES_CACHE, allEntries = true)
   @Transactional
   public AuthoritySourceFile create(AuthoritySourceFile entity) {
     log.debug("create:: Attempting to create AuthoritySourceFile [entity: {}]", entity);
@@ -68,6 +72,7 @@ public class PropagationAuthoritySourceFileService extends AuthoritySourceFileSe
    *   validation is required and updated entity passed to the method is passed this validation.
    */
   @Override
+  @CacheEvict(cacheNames = AUTHORITY_SOURCE_FILES_CACHE, allEntries = true)
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   @Retryable(
       retryFor = OptimisticLockingException.class,
@@ -93,6 +98,7 @@ public class PropagationAuthoritySourceFileService extends AuthoritySourceFileSe
   }
 
   @Override
+  @CacheEvict(cacheNames = AUTHORITY_SOURCE_FILES_CACHE, allEntries = true)
   public void deleteById(UUID id) {
     log.debug("deleteById:: Attempt to delete AuthoritySourceFile by [id: {}]", id);
     validateOnDelete(id);
@@ -0,0 +1,29 @@
+package org.folio.entlinks.service.authority;
+
+import java.util.Arrays;
+
+/**
+ * Defines how total number of records is calculated for cursor pagination.
+ */
+public enum TotalRecords {
+
+  EXACT("exact"),
+  ESTIMATED("estimated"),
+  NONE("none");
+
+  private final String value;
+
+  TotalRecords(String value) {
+    this.value = value;
+  }
+
+  public static TotalRecords fromValue(String value) {
+    if (value == null) {
+      return EXACT;
+    }
+    return Arrays.stream(values())
+      .filter(totalRecords -> totalRecords.value.equalsIgnoreCase(value))
+      .findFirst()
+      .orElseThrow(() -> new IllegalArgumentException("Unexpected totalRecords value: " + value));
+  }
+}
@@ -1,5 +1,6 @@
 package org.folio.entlinks.service.consortium.propagation;
 
+import java.util.List;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.domain.entity.AuthorityArchive;
 import org.folio.entlinks.service.authority.AuthorityArchiveService;
@@ -9,7 +10,8 @@ import org.springframework.stereotype.Service;
 
 @Log4j2
 @Service
-public class ConsortiumAuthorityArchivePropagationService extends ConsortiumPropagationService<AuthorityArchive> {
+public class ConsortiumAuthorityArchivePropagationService
+  extends ConsortiumPropagationService<List<AuthorityArchive>> {
 
   private static final String ILLEGAL_PROPAGATION_MSG =
       "Propagation type '%s' is not supported for authority archives.";
@@ -23,10 +25,9 @@ public class ConsortiumAuthorityArchivePropagationService extends ConsortiumProp
     this.authorityArchiveService = authorityArchiveService;
   }
 
-  protected void doPropagation(AuthorityArchive archive, PropagationType propagationType) {
-    archive.makeAsConsortiumShadowCopy();
+  protected void doPropagation(List<AuthorityArchive> archives, PropagationType propagationType) {
     switch (propagationType) {
-      case DELETE -> authorityArchiveService.delete(archive);
+      case DELETE -> authorityArchiveService.deleteByIds(archives.stream().map(AuthorityArchive::getId).toList());
       case CREATE, UPDATE -> throw new IllegalArgumentException(ILLEGAL_PROPAGATION_MSG.formatted(propagationType));
       default -> throw new IllegalStateException("Unexpected value: " + propagationType);
     }
@@ -0,0 +1,88 @@
+package org.folio.entlinks.service.consortium.propagation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.domain.entity.Authority;
+import org.folio.entlinks.service.authority.AuthorityService;
+import org.folio.entlinks.service.consortium.ConsortiumTenantsService;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * Propagates a chunk of created or updated authorities to consortium member tenants.
+ * One task is executed per member tenant for the whole chunk, and the chunk is applied with one upsert.
+ * A failed upsert is split in halves recursively, so a failed authority doesn't drop the rest of the chunk.
+ */
+@Log4j2
+@Service
+public class ConsortiumAuthorityBulkPropagationService extends ConsortiumPropagationService<List<Authority>> {
+
+  private static final String ILLEGAL_PROPAGATION_MSG = "Propagation type '%s' is not supported for bulk authorities.";
+
+  private final AuthorityService authorityService;
+
+  public ConsortiumAuthorityBulkPropagationService(@Qualifier("consortiumAuthorityService") AuthorityService service,
+                                                   ConsortiumTenantsService tenantsService,
+                                                   SystemUserScopedExecutionService executionService) {
+    super(tenantsService, executionService);
+    this.authorityService = service;
+  }
+
+  /**
+   * Both {@link PropagationType#CREATE} and {@link PropagationType#UPDATE} are applied as upsert,
+   * so the chunk may contain new and existing authorities.
+   */
+  @Override
+  protected void doPropagation(List<Authority> authorities, PropagationType propagationType) {
+    switch (propagationType) {
+      case CREATE, UPDATE -> upsertShadowCopies(authorities);
+      case DELETE -> throw new IllegalArgumentException(ILLEGAL_PROPAGATION_MSG.formatted(propagationType));
+      default -> throw new IllegalStateException("Unexpected value: " + propagationType);
+    }
+  }
+
+  private void upsertShadowCopies(List<Authority> authorities) {
+    var failedIds = new ArrayList<UUID>();
+    upsertWithBisection(authorities, failedIds);
+    if (!failedIds.isEmpty()) {
+      log.warn("Failed to propagate authorities [count: {}, ids: {}]", failedIds.size(), failedIds);
+    }
+  }
+
+  /**
+   * Every attempt upserts fresh shadow copies, so a retried half is not affected by the rolled back attempt.
+   */
+  private void upsertWithBisection(List<Authority> authorities, List<UUID> failedIds) {
+    try {
+      authorityService.upsert(toShadowCopies(authorities));
+    } catch (Exception e) {
+      if (authorities.size() == 1) {
+        var id = authorities.get(0).getId();
+        log.warn("Failed to propagate authority [id: {}, message: {}]", id, e.getMessage());
+        log.debug("Failed to propagate authority", e);
+        failedIds.add(id);
+        return;
+      }
+      log.warn("Authorities propagation failed, splitting [size: {}, message: {}]", authorities.size(),
+        e.getMessage());
+
+      var middle = authorities.size() / 2;
+      upsertWithBisection(authorities.subList(0, middle), failedIds);
+      upsertWithBisection(authorities.subList(middle, authorities.size()), failedIds);
+    }
+  }
+
+  private List<Authority> toShadowCopies(List<Authority> authorities) {
+    // every member tenant gets its own copies, the chunk is shared by tenant tasks running concurrently
+    return authorities.stream()
+      .map(authority -> {
+        var shadowCopy = new Authority(authority);
+        shadowCopy.makeAsConsortiumShadowCopy();
+        return shadowCopy;
+      })
+      .toList();
+  }
+}
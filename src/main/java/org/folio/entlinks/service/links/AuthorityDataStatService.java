@@ -6,9 +6,11 @@ import static org.folio.entlinks.utils.DateUtils.currentTs;
 import static org.folio.entlinks.utils.ServiceUtils.initId;
 
 import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
@@ -20,6 +22,8 @@ import org.folio.entlinks.domain.entity.AuthorityDataStatAction;
 import org.folio.entlinks.domain.entity.AuthorityDataStatStatus;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
 import org.folio.entlinks.domain.repository.AuthorityDataStatRepository;
+import org.folio.entlinks.domain.repository.InstanceLinkJdbcRepository;
+import org.folio.entlinks.domain.repository.InstanceLinkJdbcRepository.LinkStatusUpdate;
 import org.folio.entlinks.utils.DateUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -36,6 +40,8 @@ public class AuthorityDataStatService {
 
   private final InstanceAuthorityLinkingService linkingService;
 
+  private final InstanceLinkJdbcRepository linkJdbcRepository;
+
   public List<AuthorityDataStat> createInBatch(List<AuthorityDataStat> stats) {
     for (AuthorityDataStat stat : stats) {
       initId(stat);
@@ -52,74 +58,73 @@ public class AuthorityDataStatService {
       DateUtils.toTimestamp(fromDate), DateUtils.toTimestamp(toDate), pageable);
   }
 
+  /**
+   * Applies link update reports of one poll: link statuses are set with a single bulk update and stat counters
+   * are incremented atomically per job.
+   */
   @Transactional
-  public void updateForReports(UUID jobId, List<LinkUpdateReport> reports) {
-    log.info("Updating links, stats for reports: [jobId: {}, reports count: {}]", jobId, reports.size());
+  public void updateForReports(List<LinkUpdateReport> reports) {
+    log.info("Updating links, stats for reports: [reports count: {}]", reports.size());
     log.debug("Updating links,stats for reports: [reports: {}]", reports);
 
-    var dataStat = statRepository.findById(jobId);
-    updateLinks(jobId, dataStat, reports);
-
-    if (dataStat.isPresent()) {
-      updateStatsData(dataStat.get(), reports);
-    } else {
-      log.warn("No data statistics found for jobId {}", jobId);
-    }
-  }
+    updateLinks(reports);
 
-  private void checkIfAllFailed(List<LinkUpdateReport> reports, AuthorityDataStat dataStat) {
     reports.stream()
-      .filter(linkUpdateReport -> CollectionUtils.isEmpty(linkUpdateReport.getLinkIds())
-        && linkUpdateReport.getStatus().equals(FAIL))
-      .findFirst()
-      .ifPresent(linkUpdateReport -> dataStat.setLbFailed(dataStat.getLbTotal()));
+      .collect(Collectors.groupingBy(LinkUpdateReport::getJobId, LinkedHashMap::new, Collectors.toList()))
+      .forEach(this::updateStatsData);
   }
 
-  private void updateLinks(UUID jobId, Optional<AuthorityDataStat> dataStat, List<LinkUpdateReport> reports) {
-    reports.forEach(report -> {
+  private void updateLinks(List<LinkUpdateReport> reports) {
+    var linkUpdates = new LinkedHashMap<Long, LinkStatusUpdate>();
+    for (var report : reports) {
       var linkIds = report.getLinkIds();
       var status = mapReportStatus(report);
-      log.debug("Update links status for [status: {}, linkIds: {}, jobId: {}]", status, linkIds, jobId);
+      log.debug("Update links status for [status: {}, linkIds: {}, jobId: {}]", status, linkIds, report.getJobId());
       if (CollectionUtils.isNotEmpty(linkIds)) {
-        var links = linkingService.getLinksByIds(linkIds);
-
-        links.forEach(link -> {
-          link.setStatus(status);
-          link.setErrorCause(StringUtils.trimToNull(report.getFailCause()));
-        });
-
-        linkingService.saveAll(report.getInstanceId(), links);
-      } else if (dataStat.isPresent()) {
-        var authorityId = dataStat.get().getAuthority().getId();
-        linkingService.updateStatus(authorityId, status, report.getFailCause());
+        var errorCause = StringUtils.trimToNull(report.getFailCause());
+        linkIds.stream()
+          .filter(Objects::nonNull)
+          .map(Integer::longValue)
+          .forEach(linkId -> linkUpdates.put(linkId, new LinkStatusUpdate(linkId, status, errorCause)));
+      } else {
+        statRepository.findById(report.getJobId()).ifPresent(dataStat ->
+          linkingService.updateStatus(dataStat.getAuthority().getId(), status, report.getFailCause()));
       }
-    });
+    }
+
+    var updatedCount = linkJdbcRepository.updateStatuses(linkUpdates.values());
+    log.info("Updated links status [links count: {}]", updatedCount);
   }
 
   /**
    * Updates authority statistics data.
    *
-   * @param dataStat Authority data statistics related to current job.
-   *                 AuthorityDataStat id and jobId are interchangeable (jobId is used as id to create stat record)
+   * @param jobId Authority data statistics id related to current job.
+   *              AuthorityDataStat id and jobId are interchangeable (jobId is used as id to create stat record)
    */
-  private void updateStatsData(AuthorityDataStat dataStat, List<LinkUpdateReport> reports) {
+  private void updateStatsData(UUID jobId, List<LinkUpdateReport> reports) {
     var failedCount = getReportCountForStatus(reports, FAIL);
     var successCount = getReportCountForStatus(reports, SUCCESS);
 
-    dataStat.setLbUpdated(dataStat.getLbUpdated() + successCount);
-    dataStat.setLbFailed(dataStat.getLbFailed() + failedCount);
-
-    checkIfAllFailed(reports, dataStat);
+    if (statRepository.incrementLinksCounters(jobId, successCount, failedCount, isAllFailed(reports)) == 0) {
+      log.warn("No data statistics found for jobId {}", jobId);
+      return;
+    }
 
-    var jobCompleted = dataStat.getLbUpdated() + dataStat.getLbFailed() == dataStat.getLbTotal();
-    if (jobCompleted) {
-      dataStat.setCompletedAt(currentTs());
-      updateStatStatus(dataStat, reports);
+    var failCause = reports.stream()
+      .map(LinkUpdateReport::getFailCause)
+      .filter(StringUtils::isNotBlank)
+      .findFirst()
+      .orElse(null);
+    if (statRepository.completeIfAllProcessed(jobId, currentTs(), failCause) > 0) {
+      log.info("Completed stats data [statsId: {}]", jobId);
     }
+  }
 
-    log.info("Saving stats data [statsId: {}, status: {}]", dataStat.getId(), dataStat.getStatus());
-    log.debug("Stats data: {}", dataStat);
-    statRepository.save(dataStat);
+  private boolean isAllFailed(List<LinkUpdateReport> reports) {
+    return reports.stream()
+      .anyMatch(linkUpdateReport -> CollectionUtils.isEmpty(linkUpdateReport.getLinkIds())
+        && linkUpdateReport.getStatus().equals(FAIL));
   }
 
   private int getReportCountForStatus(List<LinkUpdateReport> reports, LinkUpdateReport.StatusEnum status) {
@@ -129,24 +134,6 @@ public class AuthorityDataStatService {
       .count();
   }
 
-  private void updateStatStatus(AuthorityDataStat dataStat, List<LinkUpdateReport> reports) {
-    if (dataStat.getLbFailed() == 0) {
-      dataStat.setStatus(AuthorityDataStatStatus.COMPLETED_SUCCESS);
-      return;
-    }
-
-    if (dataStat.getLbFailed() == dataStat.getLbTotal()) {
-      dataStat.setStatus(AuthorityDataStatStatus.FAILED);
-    } else {
-      dataStat.setStatus(AuthorityDataStatStatus.COMPLETED_WITH_ERRORS);
-    }
-    reports.stream()
-        .map(LinkUpdateReport::getFailCause)
-        .filter(StringUtils::isNotBlank)
-        .findFirst()
-        .ifPresent(dataStat::setFailCause);
-  }
-
   private InstanceAuthorityLinkStatus mapReportStatus(LinkUpdateReport report) {
     return switch (report.getStatus()) {
       case SUCCESS -> InstanceAuthorityLinkStatus.ACTUAL;
@@ -2,7 +2,6 @@ package org.folio.entlinks.service.links;
 
 import static java.util.Objects.isNull;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
-import static org.apache.commons.collections4.MapUtils.isNotEmpty;
 
 import java.util.Collection;
 import java.util.HashSet;
@@ -11,16 +10,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Predicate;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.domain.dto.FieldContentValue;
 import org.folio.entlinks.domain.dto.StrippedParsedRecord;
 import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
-import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
 import org.folio.entlinks.integration.dto.AuthorityParsedContent;
 import org.folio.entlinks.integration.dto.FieldParsedContent;
 import org.folio.entlinks.service.links.model.AuthorityRuleValidationResult;
+import org.folio.entlinks.service.links.model.CompiledLinkingRule;
+import org.folio.entlinks.service.links.model.SubfieldCodeMask;
 import org.springframework.stereotype.Service;
 
 @Log4j2
@@ -30,7 +29,8 @@ public class AuthorityRuleValidationService {
   public AuthorityRuleValidationResult validateAuthorityData(Map<UUID, List<InstanceAuthorityLink>> linksByAuthorityId,
                                                              Map<UUID, Authority> authoritiesById,
                                                              Map<UUID, String> authorityNaturalIds,
-                                                             List<StrippedParsedRecord> authoritySources) {
+                                                             List<StrippedParsedRecord> authoritySources,
+                                                             Map<Integer, CompiledLinkingRule> compiledRules) {
     var invalidLinks = new LinkedList<InstanceAuthorityLink>();
     var validAuthorityData = new HashSet<Authority>();
 
@@ -43,7 +43,8 @@ public class AuthorityRuleValidationService {
         invalidLinks.addAll(linksByAuthorityId.remove(authorityId));
       } else {
         var authorityLinks = linksByAuthorityId.get(authorityId);
-        var invalidLinksForAuthority = removeValidAuthorityLinks(authorityRecord.get(), authorityLinks);
+        var invalidLinksForAuthority = removeValidAuthorityLinks(authorityRecord.get(), authorityLinks,
+          compiledRules);
 
         if (!invalidLinksForAuthority.isEmpty()) {
           invalidLinks.addAll(invalidLinksForAuthority);
@@ -60,10 +61,10 @@ public class AuthorityRuleValidationService {
     return new AuthorityRuleValidationResult(validAuthorityData, mapToValidLinkList(linksByAuthorityId), invalidLinks);
   }
 
-  public boolean validateAuthorityFields(AuthorityParsedContent authorityContent, InstanceAuthorityLinkingRule rule) {
+  public boolean validateAuthorityFields(AuthorityParsedContent authorityContent, CompiledLinkingRule rule) {
     log.info("Starting validation for authority {}", authorityContent.getId());
     var authorityFields = authorityContent.getFields().stream().filter(fieldParsedContent ->
-      fieldParsedContent.getTag().equals(rule.getAuthorityField())).toList();
+      fieldParsedContent.getTag().equals(rule.getRule().getAuthorityField())).toList();
 
     if (validateAuthorityFields(authorityFields)) {
       var authorityField = authorityFields.get(0);
@@ -72,11 +73,12 @@ public class AuthorityRuleValidationService {
     return false;
   }
 
-  public boolean validateAuthorityFields(StrippedParsedRecord authority, InstanceAuthorityLinkingRule rule) {
+  public boolean validateAuthorityFields(StrippedParsedRecord authority, CompiledLinkingRule rule) {
     log.info("Starting validation for authority {}", authority.getId());
+    var authorityField = rule.getRule().getAuthorityField();
     var authorityFields = authority.getParsedRecord().getContent().getFields().stream()
       .flatMap(fields -> fields.entrySet().stream())
-      .filter(field -> rule.getAuthorityField().equals(field.getKey()))
+      .filter(field -> authorityField.equals(field.getKey()))
       .map(Map.Entry::getValue)
       .toList();
 
@@ -100,43 +102,49 @@ public class AuthorityRuleValidationService {
   }
 
   private List<InstanceAuthorityLink> removeValidAuthorityLinks(StrippedParsedRecord authority,
-                                                                List<InstanceAuthorityLink> authorityLinks) {
+                                                                List<InstanceAuthorityLink> authorityLinks,
+                                                                Map<Integer, CompiledLinkingRule> compiledRules) {
     return authorityLinks.stream()
-      .filter(link -> !validateAuthorityFields(authority, link.getLinkingRule()))
+      .filter(link -> !validateAuthorityFields(authority,
+        CompiledLinkingRule.resolve(compiledRules, link.getLinkingRule())))
       .toList();
   }
 
-  private boolean validateAuthoritySubfieldsExistence(FieldParsedContent authorityField,
-                                                      InstanceAuthorityLinkingRule rule) {
-    Predicate<String> containsSubfield = subfield -> authorityField.hasSubfield(subfield.charAt(0));
-
-    return validateAuthoritySubfieldsExistence(rule, containsSubfield);
-  }
-
-  private boolean validateAuthoritySubfieldsExistence(FieldContentValue authorityField,
-                                                      InstanceAuthorityLinkingRule rule) {
-    var authoritySubfields = authorityField.getSubfields();
-    Predicate<String> containsSubfield = subfield -> authoritySubfields.stream()
-      .anyMatch(subfields -> subfields.containsKey(subfield));
-
-    return validateAuthoritySubfieldsExistence(rule, containsSubfield);
+  private boolean validateAuthoritySubfieldsExistence(FieldParsedContent authorityField, CompiledLinkingRule rule) {
+    if (!rule.hasSubfieldsExistenceValidations()) {
+      return true;
+    }
+    var presentCodes = new SubfieldCodeMask();
+    for (var subfield : authorityField.getSubfieldList()) {
+      presentCodes.add(subfield.code());
+    }
+    return validateAuthoritySubfieldsExistence(rule, presentCodes);
   }
 
-  private boolean validateAuthoritySubfieldsExistence(InstanceAuthorityLinkingRule rule, Predicate<String> contains) {
-    var existValidation = rule.getSubfieldsExistenceValidations();
-    if (isNotEmpty(existValidation)) {
-      for (var subfieldExistence : existValidation.entrySet()) {
-        var subfield = subfieldExistence.getKey();
-        var doesItContains = contains.test(subfield);
-        var shouldItContains = subfieldExistence.getValue();
-
-        if (!shouldItContains.equals(doesItContains)) {
-          logSubfieldExistenceValidationFailure(rule.getAuthorityField(), subfield, shouldItContains, doesItContains);
-          return false;
+  private boolean validateAuthoritySubfieldsExistence(FieldContentValue authorityField, CompiledLinkingRule rule) {
+    if (!rule.hasSubfieldsExistenceValidations()) {
+      return true;
+    }
+    var presentCodes = new SubfieldCodeMask();
+    for (var subfields : authorityField.getSubfields()) {
+      for (var code : subfields.keySet()) {
+        if (!code.isEmpty()) {
+          presentCodes.add(code.charAt(0));
         }
       }
     }
-    return true;
+    return validateAuthoritySubfieldsExistence(rule, presentCodes);
+  }
+
+  private boolean validateAuthoritySubfieldsExistence(CompiledLinkingRule rule, SubfieldCodeMask presentCodes) {
+    var violatedSubfield = rule.findSubfieldsExistenceViolation(presentCodes);
+    if (violatedSubfield == CompiledLinkingRule.NO_VIOLATION) {
+      return true;
+    }
+    var shouldItContains = rule.isSubfieldRequired(violatedSubfield);
+    logSubfieldExistenceValidationFailure(rule.getRule().getAuthorityField(), String.valueOf(violatedSubfield),
+      shouldItContains, !shouldItContains);
+    return false;
   }
 
   private void logSubfieldExistenceValidationFailure(String authorityField, String subfield,
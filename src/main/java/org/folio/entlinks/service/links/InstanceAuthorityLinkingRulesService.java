@@ -2,12 +2,16 @@ package org.folio.entlinks.service.links;
 
 import static org.folio.entlinks.config.constants.CacheNames.AUTHORITY_LINKING_RULES_CACHE;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
 import org.folio.entlinks.domain.repository.LinkingRulesRepository;
 import org.folio.entlinks.exception.LinkingRuleNotFoundException;
+import org.folio.entlinks.service.links.model.CompiledLinkingRule;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Sort;
@@ -38,6 +42,17 @@ public class InstanceAuthorityLinkingRulesService {
     return repository.findByAuthorityField(authorityField);
   }
 
+  @Cacheable(cacheNames = AUTHORITY_LINKING_RULES_CACHE,
+    key = "@folioExecutionContext.tenantId + ':compiled'", unless = "#result.isEmpty()")
+  public Map<Integer, CompiledLinkingRule> getCompiledLinkingRules() {
+    log.info("Compiling linking rules");
+    var compiledRules = new HashMap<Integer, CompiledLinkingRule>();
+    for (var rule : repository.findAll(Sort.by("id").ascending())) {
+      compiledRules.put(rule.getId(), CompiledLinkingRule.compile(rule));
+    }
+    return Collections.unmodifiableMap(compiledRules);
+  }
+
   public InstanceAuthorityLinkingRule getLinkingRule(Integer ruleId) {
     log.info("Loading linking rule [ruleId: {}]", ruleId);
     return repository.findById(ruleId)
@@ -11,12 +11,10 @@ import jakarta.persistence.criteria.Predicate;
 import java.sql.Timestamp;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
@@ -36,6 +34,8 @@ import org.folio.entlinks.domain.repository.InstanceLinkRepository;
 import org.folio.entlinks.exception.DeletedLinkingAuthorityException;
 import org.folio.entlinks.integration.kafka.EventProducer;
 import org.folio.entlinks.service.authority.AuthorityService;
+import org.folio.entlinks.service.links.model.InstanceLinksDiff;
+import org.folio.entlinks.service.links.model.InstanceLinksDiff.LinkKey;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -70,14 +70,9 @@ public class InstanceAuthorityLinkingService {
     return instanceLinkRepository.findByAuthorityId(authorityId, pageable);
   }
 
-  public List<InstanceAuthorityLink> getLinksByIds(List<Integer> ids) {
-    log.info("Retrieving links by ids [{}]", ids);
-    var longIds = ids.stream()
-      .filter(Objects::nonNull)
-      .mapToLong(Integer::longValue)
-      .boxed()
-      .toList();
-    return instanceLinkRepository.findAllById(longIds);
+  public List<InstanceAuthorityLink> getLinksByAuthorityIdAfter(UUID authorityId, long lastLinkId, int limit) {
+    log.debug("Loading links for [authorityId: {}, after link id: {}, limit: {}]", authorityId, lastLinkId, limit);
+    return instanceLinkRepository.findByAuthorityIdAfter(authorityId, lastLinkId, PageRequest.ofSize(limit));
   }
 
   @Transactional
@@ -102,9 +97,9 @@ public class InstanceAuthorityLinkingService {
     }
     var existedLinks = instanceLinkRepository.findByInstanceId(instanceId);
 
-    var linksToDelete = subtract(existedLinks, incomingLinks);
-    var linksToSave = getLinksToSave(incomingLinks, existedLinks, linksToDelete);
-    instanceLinkRepository.deleteAllInBatch(linksToDelete);
+    var linksDiff = InstanceLinksDiff.of(existedLinks, incomingLinks);
+    var linksToSave = getLinksToSave(linksDiff);
+    instanceLinkRepository.deleteAllInBatch(linksDiff.linksToDelete());
     instanceLinkRepository.saveAll(linksToSave);
   }
 
@@ -127,20 +122,22 @@ public class InstanceAuthorityLinkingService {
     var authorityNaturalIds = fetchAuthorityNaturalIds(authoritiesById.keySet());
     var authoritySources = fetchAuthoritySources(linksByAuthorityId.keySet());
 
+    var compiledRules = linkingRulesService.getCompiledLinkingRules();
     var validationResult = authorityRuleValidationService
-      .validateAuthorityData(linksByAuthorityId, authoritiesById, authorityNaturalIds, authoritySources);
+      .validateAuthorityData(linksByAuthorityId, authoritiesById, authorityNaturalIds, authoritySources, compiledRules);
 
     var validAuthoritiesById = validationResult.validAuthorities().stream()
         .collect(Collectors.toMap(Authority::getId, Function.identity()));
     var incomingValidLinks = validationResult.validLinks();
     var existedLinks = instanceLinkRepository.findByInstanceId(instanceId);
-    var linksToDelete = subtract(existedLinks, incomingValidLinks);
+    var linksDiff = InstanceLinksDiff.of(existedLinks, incomingValidLinks);
 
     updateExistingLinks(incomingValidLinks, existedLinks, validAuthoritiesById);
     instanceLinkRepository.saveAll(incomingValidLinks);
-    instanceLinkRepository.deleteAllInBatch(linksToDelete);
+    instanceLinkRepository.deleteAllInBatch(linksDiff.linksToDelete());
 
-    sendEvents(instanceId, renovateService.renovateBibs(instanceId, authoritySources, validationResult));
+    sendEvents(instanceId, renovateService.renovateBibs(instanceId, authoritySources, validationResult,
+      compiledRules));
   }
 
   public Map<UUID, Integer> countLinksByAuthorityIds(Set<UUID> authorityIds) {
@@ -153,6 +150,18 @@ public class InstanceAuthorityLinkingService {
       .collect(Collectors.toMap(LinkCountView::getId, LinkCountView::getTotalLinks));
   }
 
+  /**
+   * Verifies link counters against actual links and rebuilds the drifted ones.
+   */
+  @Transactional
+  public void verifyLinkCounts() {
+    log.info("Verifying authority link counts");
+    var fixedCount = instanceLinkRepository.rebuildLinkCounts();
+    if (fixedCount > 0) {
+      log.warn("Authority link counts were rebuilt [drifted counters: {}]", fixedCount);
+    }
+  }
+
   @Transactional
   public void updateStatus(UUID authorityId, InstanceAuthorityLinkStatus status, String errorCause) {
     log.info("Update links [authority id: {}, status: {}, errorCause: {}]", authorityId, status, errorCause);
@@ -169,14 +178,6 @@ public class InstanceAuthorityLinkingService {
     instanceLinkRepository.deleteByAuthorityIds(authorityIds);
   }
 
-  @Transactional
-  public void saveAll(UUID instanceId, List<InstanceAuthorityLink> links) {
-    log.info("Save links for [instanceId: {}, links amount: {}]", instanceId, links.size());
-    log.debug("Save links for [instanceId: {}, links: {}]", instanceId, links);
-
-    instanceLinkRepository.saveAll(links);
-  }
-
   public List<InstanceAuthorityLink> getLinks(LinkStatus status, OffsetDateTime fromDate,
                                               OffsetDateTime toDate, int limit) {
     log.info("Fetching links for [status: {}, fromDate: {}, toDate: {}, limit: {}]",
@@ -191,33 +192,16 @@ public class InstanceAuthorityLinkingService {
     return instanceLinkRepository.findAll(specification, pageable).getContent();
   }
 
-  private List<InstanceAuthorityLink> getLinksToSave(List<InstanceAuthorityLink> incomingLinks,
-                                                     List<InstanceAuthorityLink> existedLinks,
-                                                     List<InstanceAuthorityLink> linksToDelete) {
-    var linksToCreate = subtract(incomingLinks, existedLinks);
-    var linksToUpdate = subtract(existedLinks, linksToDelete);
-    updateLinksData(incomingLinks, linksToUpdate);
-    var linksToSave = new ArrayList<>(linksToCreate);
-    linksToSave.addAll(linksToUpdate);
+  private List<InstanceAuthorityLink> getLinksToSave(InstanceLinksDiff linksDiff) {
+    var linksToSave = new ArrayList<>(linksDiff.linksToCreate());
+    for (var linkUpdate : linksDiff.linksToUpdate()) {
+      var existedLink = linkUpdate.existedLink();
+      existedLink.getAuthority().setNaturalId(linkUpdate.incomingLink().getAuthority().getNaturalId());
+      linksToSave.add(existedLink);
+    }
     return linksToSave;
   }
 
-  private void updateLinksData(List<InstanceAuthorityLink> incomingLinks, List<InstanceAuthorityLink> linksToUpdate) {
-    linksToUpdate
-        .forEach(link -> incomingLinks.stream()
-            .filter(l -> l.isSameLink(link)).findFirst()
-            .ifPresent(l ->
-                link.getAuthority().setNaturalId(l.getAuthority().getNaturalId())
-            ));
-  }
-
-  private List<InstanceAuthorityLink> subtract(Collection<InstanceAuthorityLink> source,
-                                               Collection<InstanceAuthorityLink> target) {
-    return new LinkedHashSet<>(source).stream()
-      .filter(t -> target.stream().noneMatch(link -> link.isSameLink(t)))
-      .toList();
-  }
-
   private Specification<InstanceAuthorityLink> getSpecFromStatusAndDates(
     InstanceAuthorityLinkStatus status, Timestamp from, Timestamp to) {
 
@@ -241,14 +225,16 @@ public class InstanceAuthorityLinkingService {
   private void updateExistingLinks(List<InstanceAuthorityLink> incomingValidLinks,
                                    List<InstanceAuthorityLink> existedLinks,
                                    Map<UUID, Authority> validAuthoritiesById) {
+    var existedLinksByKey = new HashMap<LinkKey, InstanceAuthorityLink>();
+    existedLinks.forEach(existedLink -> existedLinksByKey.putIfAbsent(LinkKey.of(existedLink), existedLink));
     for (InstanceAuthorityLink incomingLink : incomingValidLinks) {
       var linkAuthority = incomingLink.getAuthority();
       var validAuthority = validAuthoritiesById.get(linkAuthority.getId());
       incomingLink.setAuthority(validAuthority);
-      existedLinks.stream()
-        .filter(existedLink -> existedLink.isSameLink(incomingLink))
-        .findFirst()
-        .ifPresent(existedLink -> incomingLink.setId(existedLink.getId()));
+      var existedLink = existedLinksByKey.get(LinkKey.of(incomingLink));
+      if (existedLink != null) {
+        incomingLink.setId(existedLink.getId());
+      }
     }
   }
 
@@ -280,7 +266,11 @@ public class InstanceAuthorityLinkingService {
   private void sendEvents(UUID instanceId, List<LinksChangeEvent> events) {
     if (isNotEmpty(events)) {
       log.info("Sending {} events for instanceId {} to Kafka for links renovation process.", instanceId, events.size());
-      eventProducer.sendMessages(events);
+      var failures = eventProducer.sendMessages(events);
+      if (!failures.isEmpty()) {
+        log.warn("Failed to send {} of {} links renovation events for instanceId {}",
+          failures.size(), events.size(), instanceId);
+      }
     }
   }
 
@@ -13,25 +13,27 @@ import static org.folio.entlinks.utils.FieldUtils.createNaturalIdSubfield;
 import static org.folio.entlinks.utils.FieldUtils.getSubfield0Value;
 import static org.folio.entlinks.utils.FieldUtils.isSystemSubfield;
 
-import com.google.common.primitives.Chars;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.config.constants.ErrorCode;
 import org.folio.entlinks.domain.dto.LinkDetails;
-import org.folio.entlinks.domain.dto.SubfieldModification;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
+import org.folio.entlinks.exception.AuthoritySourceFileNotFoundException;
 import org.folio.entlinks.integration.dto.AuthorityParsedContent;
 import org.folio.entlinks.integration.dto.FieldParsedContent;
 import org.folio.entlinks.integration.dto.ParsedSubfield;
 import org.folio.entlinks.integration.dto.SourceParsedContent;
-import org.folio.entlinks.service.authority.AuthoritySourceFileService;
+import org.folio.entlinks.service.authority.AuthoritySourceFileRegistry;
+import org.folio.entlinks.service.links.model.CompiledLinkingRule;
 import org.folio.entlinks.utils.FieldUtils;
 import org.springframework.stereotype.Service;
 
@@ -44,7 +46,8 @@ import org.springframework.stereotype.Service;
 public class LinksSuggestionsService {
 
   private final AuthorityRuleValidationService authorityRuleValidationService;
-  private final AuthoritySourceFileService authoritySourceFileService;
+  private final AuthoritySourceFileRegistry sourceFileRegistry;
+  private final InstanceAuthorityLinkingRulesService linkingRulesService;
 
   /**
    * Validate bib-authority fields by linking rules and fill bib fields with suggested links.
@@ -59,11 +62,13 @@ public class LinksSuggestionsService {
                                                       Map<String, List<InstanceAuthorityLinkingRule>> rules,
                                                       char linkingMatchSubfield,
                                                       boolean ignoreAutoLinkingEnabled) {
+    var authoritiesIndex = new AuthoritiesIndex(marcAuthoritiesContent);
+    var compiledRules = linkingRulesService.getCompiledLinkingRules();
     marcBibsContent.stream()
       .flatMap(bibContent -> bibContent.getFields().stream())
       .forEach(bibField -> Optional.ofNullable(rules.get(bibField.getTag()))
-        .ifPresent(bibFieldRules -> suggestAuthorityForBibFields(
-          List.of(bibField), marcAuthoritiesContent, bibFieldRules, linkingMatchSubfield, ignoreAutoLinkingEnabled)));
+        .ifPresent(bibFieldRules -> suggestAuthorityForBibFields(List.of(bibField), authoritiesIndex, bibFieldRules,
+          compiledRules, linkingMatchSubfield, ignoreAutoLinkingEnabled)));
   }
 
   /**
@@ -95,14 +100,15 @@ public class LinksSuggestionsService {
   }
 
   private void suggestAuthorityForBibFields(List<FieldParsedContent> bibFields,
-                                            List<AuthorityParsedContent> marcAuthoritiesContent,
+                                            AuthoritiesIndex authoritiesIndex,
                                             List<InstanceAuthorityLinkingRule> rules,
+                                            Map<Integer, CompiledLinkingRule> compiledRules,
                                             char linkingMatchSubfield,
                                             boolean ignoreAutoLinkingEnabled) {
     if (isNotEmpty(rules) && isNotEmpty(bibFields)) {
       for (FieldParsedContent bibField : bibFields) {
         if (isBibFieldLinkable(bibField, linkingMatchSubfield)) {
-          suggestAuthorityForBibField(bibField, marcAuthoritiesContent, rules, ignoreAutoLinkingEnabled);
+          suggestAuthorityForBibField(bibField, authoritiesIndex, rules, compiledRules, ignoreAutoLinkingEnabled);
         }
       }
     }
@@ -115,8 +121,9 @@ public class LinksSuggestionsService {
   }
 
   private void suggestAuthorityForBibField(FieldParsedContent bibField,
-                                           List<AuthorityParsedContent> marcAuthoritiesContent,
+                                           AuthoritiesIndex authoritiesIndex,
                                            List<InstanceAuthorityLinkingRule> rules,
+                                           Map<Integer, CompiledLinkingRule> compiledRules,
                                            boolean ignoreAutoLinkingEnabled) {
     var suitableRules = rules.stream()
       .filter(rule -> rule.getAutoLinkingEnabled() || ignoreAutoLinkingEnabled)
@@ -129,12 +136,14 @@ public class LinksSuggestionsService {
     }
 
     LinkDetails errorDetails = null;
+    var matchedAuthorities = authoritiesIndex.findMatched(bibField);
     for (var rule : suitableRules) {
-      var suitableAuthorities = filterSuitableAuthorities(bibField, marcAuthoritiesContent, rule);
+      var compiledRule = CompiledLinkingRule.resolve(compiledRules, rule);
+      var suitableAuthorities = filterSuitableAuthorities(matchedAuthorities, authoritiesIndex, compiledRule);
       if (suitableAuthorities.size() == 1) {
         var authority = suitableAuthorities.get(0);
         var linkDetails = getLinkDetails(bibField, authority, rule);
-        actualizeBibSubfields(bibField, authority, rule);
+        actualizeBibSubfields(bibField, authority, compiledRule);
         bibField.setLinkDetails(linkDetails);
         log.info("Field {}: Authority {} was suggested", bibField.getTag(), authority.getId());
         return;
@@ -179,66 +188,51 @@ public class LinksSuggestionsService {
    */
   private void actualizeBibSubfields(FieldParsedContent bibField,
                                      AuthorityParsedContent authority,
-                                     InstanceAuthorityLinkingRule rule) {
+                                     CompiledLinkingRule rule) {
 
     var bibSubfields = bibField.getSubfieldList();
-    var authorityField = authority.getFieldByTag(rule.getAuthorityField());
+    var authorityField = authority.getFieldByTag(rule.getRule().getAuthorityField());
     if (authorityField.isEmpty()) {
       return;
     }
 
-    var controlledSubfieldCodes = Chars.asList(rule.getAuthoritySubfields());
-    var subfieldModifications = rule.getSubfieldModifications();
-    var controlledSubfields = getControlledSubfields(authorityField.get(), controlledSubfieldCodes,
-      subfieldModifications);
-    var systemSubfields = getSystemSubfields(authority);
-    var uncontrolledSubfields = getUncontrolledSubfields(bibSubfields, controlledSubfieldCodes, subfieldModifications);
-
     var newBibSubfields = new ArrayList<ParsedSubfield>();
-    newBibSubfields.addAll(controlledSubfields);
-    newBibSubfields.addAll(systemSubfields);
-    newBibSubfields.addAll(uncontrolledSubfields);
+    addControlledSubfields(authorityField.get(), rule, newBibSubfields);
+    newBibSubfields.addAll(getSystemSubfields(authority));
+    addUncontrolledSubfields(bibSubfields, rule, newBibSubfields);
 
     bibField.setSubfieldList(newBibSubfields);
   }
 
-  private List<ParsedSubfield> getControlledSubfields(FieldParsedContent authorityField,
-                                                      List<Character> controlledSubfieldCodes,
-                                                      List<SubfieldModification> subfieldModifications) {
-    List<ParsedSubfield> controlledSubfields = new ArrayList<>();
-
-    var authoritySubfields = new ArrayList<>(authorityField.getSubfieldList());
-    if (isNotEmpty(subfieldModifications)) {
-      subfieldModifications.forEach(modification -> {
-        var subfields = authorityField.getSubfields(modification.getSource().charAt(0));
-        subfields.stream()
-          .map(subfield -> new ParsedSubfield(modification.getTarget().charAt(0), subfield.value()))
-          .forEach(controlledSubfields::add);
-        authoritySubfields.removeAll(subfields);
-      });
+  private void addControlledSubfields(FieldParsedContent authorityField, CompiledLinkingRule rule,
+                                      List<ParsedSubfield> target) {
+    var authoritySubfields = authorityField.getSubfieldList();
+    // renamed subfields go first, grouped in the order of subfield modifications
+    for (int i = 0; i < rule.getModificationsCount(); i++) {
+      var sourceCode = rule.getModificationSource(i);
+      var targetCode = rule.getModificationTarget(i);
+      for (var subfield : authoritySubfields) {
+        if (subfield.code() == sourceCode) {
+          target.add(new ParsedSubfield(targetCode, subfield.value()));
+        }
+      }
     }
 
-    authoritySubfields.forEach(subfield -> {
-      if (controlledSubfieldCodes.contains(subfield.code())) {
-        controlledSubfields.add(subfield);
+    for (var subfield : authoritySubfields) {
+      if (!rule.isModificationSource(subfield.code()) && rule.isControlled(subfield.code())) {
+        target.add(subfield);
       }
-    });
-    return controlledSubfields;
+    }
   }
 
-  private List<ParsedSubfield> getUncontrolledSubfields(List<ParsedSubfield> bibSubfields,
-                                                        List<Character> controlledSubfieldCodes,
-                                                        List<SubfieldModification> subfieldModifications) {
-    var bibSubfieldsUncontrolled = new ArrayList<>(bibSubfields);
-    var modificationSubfieldCodes = subfieldModifications == null
-                                    ? Collections.<Character>emptySet()
-                                    : subfieldModifications.stream()
-                                      .map(subfieldModification -> subfieldModification.getTarget().charAt(0))
-                                      .collect(Collectors.toSet());
-    bibSubfieldsUncontrolled.removeIf(subfield -> controlledSubfieldCodes.contains(subfield.code())
-                                                  || modificationSubfieldCodes.contains(subfield.code())
-                                                  || isSystemSubfield(subfield.code()));
-    return bibSubfieldsUncontrolled;
+  private void addUncontrolledSubfields(List<ParsedSubfield> bibSubfields, CompiledLinkingRule rule,
+                                        List<ParsedSubfield> target) {
+    for (var subfield : bibSubfields) {
+      var code = subfield.code();
+      if (!rule.isControlled(code) && !rule.isModificationTarget(code) && !isSystemSubfield(code)) {
+        target.add(subfield);
+      }
+    }
   }
 
   private List<ParsedSubfield> getSystemSubfields(AuthorityParsedContent authority) {
@@ -254,40 +248,78 @@ public class LinksSuggestionsService {
       return authority.getNaturalId();
     }
 
-    var authoritySourceFile = authoritySourceFileService.getById(sourceFileId);
+    var authoritySourceFile = sourceFileRegistry.findById(sourceFileId)
+      .orElseThrow(() -> new AuthoritySourceFileNotFoundException(sourceFileId));
     return getSubfield0Value(authority.getNaturalId(), authoritySourceFile);
   }
 
-  private List<AuthorityParsedContent> filterSuitableAuthorities(FieldParsedContent bibField,
-                                                                 List<AuthorityParsedContent> marcAuthoritiesContent,
-                                                                 InstanceAuthorityLinkingRule rule) {
-    return marcAuthoritiesContent.stream()
-      .filter(authorityContent -> validateSubfields(authorityContent, bibField))
-      .filter(authorityContent -> authorityRuleValidationService.validateAuthorityFields(authorityContent, rule))
+  private List<AuthorityParsedContent> filterSuitableAuthorities(List<Integer> matchedAuthorities,
+                                                                 AuthoritiesIndex authoritiesIndex,
+                                                                 CompiledLinkingRule rule) {
+    return matchedAuthorities.stream()
+      .filter(position -> authoritiesIndex.validate(position, rule, authorityRuleValidationService))
+      .map(authoritiesIndex::get)
       .toList();
   }
 
-  private boolean validateSubfields(AuthorityParsedContent marcAuthorityContent, FieldParsedContent bibField) {
-    return isNaturalIdMatched(marcAuthorityContent, bibField) || isIdMatched(marcAuthorityContent, bibField);
-  }
+  /**
+   * Authorities of a single suggestion request indexed by natural id and id,
+   * with rule validation results memoized per authority and rule.
+   */
+  private static final class AuthoritiesIndex {
 
-  private boolean isNaturalIdMatched(AuthorityParsedContent marcAuthorityContent,
-                                     FieldParsedContent bibField) {
-    return Optional.ofNullable(bibField.getNaturalIdSubfields())
-      .map(subfields -> subfields.stream()
-        .filter(Objects::nonNull)
-        .map(ParsedSubfield::value)
-        .map(FieldUtils::trimSubfield0Value)
-        .anyMatch(zeroValue -> zeroValue.equals(marcAuthorityContent.getNaturalId())))
-      .orElse(false);
-  }
+    private final List<AuthorityParsedContent> authorities;
+    private final Map<String, List<Integer>> positionsByNaturalId = new HashMap<>();
+    private final Map<String, List<Integer>> positionsById = new HashMap<>();
+    private final Map<CompiledLinkingRule, Map<Integer, Boolean>> validationResults = new IdentityHashMap<>();
 
-  private boolean isIdMatched(AuthorityParsedContent marcAuthorityContent, FieldParsedContent bibField) {
-    return Optional.ofNullable(bibField.getIdSubfields())
-      .map(subfields -> subfields.stream()
-        .filter(Objects::nonNull)
-        .map(ParsedSubfield::value)
-        .anyMatch(nineValue -> nineValue.equals(marcAuthorityContent.getId().toString())))
-      .orElse(false);
+    private AuthoritiesIndex(List<AuthorityParsedContent> authorities) {
+      this.authorities = authorities;
+      for (int position = 0; position < authorities.size(); position++) {
+        var authority = authorities.get(position);
+        if (authority.getNaturalId() != null) {
+          positionsByNaturalId.computeIfAbsent(authority.getNaturalId(), k -> new ArrayList<>()).add(position);
+        }
+        if (authority.getId() != null) {
+          positionsById.computeIfAbsent(authority.getId().toString(), k -> new ArrayList<>()).add(position);
+        }
+      }
+    }
+
+    private AuthorityParsedContent get(int position) {
+      return authorities.get(position);
+    }
+
+    /**
+     * Returns positions of authorities matched by bib field's $0 or $9 subfields, in the original order.
+     */
+    private List<Integer> findMatched(FieldParsedContent bibField) {
+      var positions = new TreeSet<Integer>();
+      collectPositions(bibField.getNaturalIdSubfields(), FieldUtils::trimSubfield0Value, positionsByNaturalId,
+        positions);
+      collectPositions(bibField.getIdSubfields(), Function.identity(), positionsById, positions);
+      return new ArrayList<>(positions);
+    }
+
+    private boolean validate(int position, CompiledLinkingRule rule,
+                             AuthorityRuleValidationService validationService) {
+      return validationResults.computeIfAbsent(rule, r -> new HashMap<>())
+        .computeIfAbsent(position, p -> validationService.validateAuthorityFields(authorities.get(p), rule));
+    }
+
+    private void collectPositions(List<ParsedSubfield> subfields, Function<String, String> valueMapper,
+                                  Map<String, List<Integer>> positionsByValue, Set<Integer> positions) {
+      if (subfields == null) {
+        return;
+      }
+      for (var subfield : subfields) {
+        if (subfield != null && subfield.value() != null) {
+          var matched = positionsByValue.get(valueMapper.apply(subfield.value()));
+          if (matched != null) {
+            positions.addAll(matched);
+          }
+        }
+      }
+    }
   }
 }
@@ -17,11 +17,11 @@ import org.apache.commons.collections4.ListUtils;
 import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.domain.dto.StrippedParsedRecord;
 import org.folio.entlinks.domain.dto.SubfieldChange;
-import org.folio.entlinks.domain.entity.AuthoritySourceFileCode;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
-import org.folio.entlinks.domain.repository.AuthoritySourceFileCodeRepository;
 import org.folio.entlinks.exception.MarcAuthorityNotFoundException;
+import org.folio.entlinks.service.authority.AuthoritySourceFileRegistry;
 import org.folio.entlinks.service.links.model.AuthorityRuleValidationResult;
+import org.folio.entlinks.service.links.model.CompiledLinkingRule;
 import org.folio.entlinks.service.messaging.authority.model.FieldChangeHolder;
 import org.springframework.stereotype.Service;
 
@@ -30,13 +30,14 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class RenovateLinksService {
 
-  private final AuthoritySourceFileCodeRepository sourceFileCodeRepository;
+  private final AuthoritySourceFileRegistry sourceFileRegistry;
 
   public List<LinksChangeEvent> renovateBibs(UUID instanceId,
                                              List<StrippedParsedRecord> authoritySources,
-                                             AuthorityRuleValidationResult validationResult) {
+                                             AuthorityRuleValidationResult validationResult,
+                                             Map<Integer, CompiledLinkingRule> compiledRules) {
     return ListUtils.union(
-      renovateBibsForValidLinks(instanceId, validationResult.validLinks(), authoritySources),
+      renovateBibsForValidLinks(instanceId, validationResult.validLinks(), authoritySources, compiledRules),
       renovateBibsForInvalidLinks(validationResult.invalidLinks())
     );
   }
@@ -52,7 +53,8 @@ public class RenovateLinksService {
 
   public List<LinksChangeEvent> renovateBibsForValidLinks(UUID instanceId,
                                                           List<InstanceAuthorityLink> links,
-                                                          List<StrippedParsedRecord> authoritySources) {
+                                                          List<StrippedParsedRecord> authoritySources,
+                                                          Map<Integer, CompiledLinkingRule> compiledRules) {
     var eventId = UUID.randomUUID();
     var events = new LinkedList<LinksChangeEvent>();
     var linksByAuthorityId = groupLinksByAuthorityId(links);
@@ -61,7 +63,7 @@ public class RenovateLinksService {
       var authorityId = entry.getKey();
       var authorityLinks = entry.getValue();
       var authority = findAuthorityById(authorityId, instanceId, authoritySources);
-      var fieldChangeHolders = findFieldChangeHolders(authority, authorityLinks);
+      var fieldChangeHolders = findFieldChangeHolders(authority, authorityLinks, compiledRules);
 
       var fieldChanges = fieldChangeHolders.stream()
         .map(FieldChangeHolder::toFieldChange)
@@ -85,13 +87,14 @@ public class RenovateLinksService {
   }
 
   private List<FieldChangeHolder> findFieldChangeHolders(StrippedParsedRecord authority,
-                                                         List<InstanceAuthorityLink> links) {
+                                                         List<InstanceAuthorityLink> links,
+                                                         Map<Integer, CompiledLinkingRule> compiledRules) {
     var fieldChangeHolders = new LinkedList<FieldChangeHolder>();
 
     for (var link : links) {
-      var linkingRule = link.getLinkingRule();
+      var linkingRule = CompiledLinkingRule.resolve(compiledRules, link.getLinkingRule());
       var naturalId = link.getAuthority().getNaturalId();
-      var changedTag = linkingRule.getAuthorityField();
+      var changedTag = linkingRule.getRule().getAuthorityField();
 
       authority.getParsedRecord().getContent().getFields().stream()
         .flatMap(fields -> fields.entrySet().stream())
@@ -109,8 +112,7 @@ public class RenovateLinksService {
   }
 
   private SubfieldChange getSubfield0Change(String naturalId) {
-    var subfield0Value = sourceFileCodeRepository.findByCodeAsPrefixFor(naturalId)
-        .map(AuthoritySourceFileCode::getAuthoritySourceFile)
+    var subfield0Value = sourceFileRegistry.findByCodeAsPrefixFor(naturalId)
         .map(sourceFile -> getSubfield0Value(naturalId, sourceFile))
         .orElse(naturalId);
     return new SubfieldChange().code("0").value(subfield0Value);
@@ -0,0 +1,163 @@
+package org.folio.entlinks.service.links.model;
+
+import java.util.Map;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
+
+/**
+ * Linking rule compiled into fixed lookup structures, so subfields of linked fields are split, renamed
+ * and validated without reinterpreting the rule on every call.
+ *
+ * <p>Contains:</p>
+ * <ul>
+ *    <li>mask of controlled authority subfields</li>
+ *    <li>source to target code translation table of subfield modifications</li>
+ *    <li>masks of subfields that should and should not exist in an authority field</li>
+ * </ul>
+ * Instances are immutable and are cached together with linking rules.
+ */
+public final class CompiledLinkingRule {
+
+  public static final char NO_VIOLATION = Character.MIN_VALUE;
+
+  private static final int CODES_COUNT = 128;
+
+  private final @Getter InstanceAuthorityLinkingRule rule;
+  private final char[] controlledCodes;
+  private final SubfieldCodeMask controlledMask = new SubfieldCodeMask();
+  private final char[] modificationSources;
+  private final char[] modificationTargets;
+  private final SubfieldCodeMask modificationSourcesMask = new SubfieldCodeMask();
+  private final SubfieldCodeMask modificationTargetsMask = new SubfieldCodeMask();
+  private final char[] codeTranslation = new char[CODES_COUNT];
+  private final char[] existenceCodes;
+  private final SubfieldCodeMask requiredMask = new SubfieldCodeMask();
+  private final SubfieldCodeMask forbiddenMask = new SubfieldCodeMask();
+
+  private CompiledLinkingRule(InstanceAuthorityLinkingRule rule) {
+    this.rule = rule;
+
+    this.controlledCodes = rule.getAuthoritySubfields() == null ? new char[0] : rule.getAuthoritySubfields().clone();
+    for (var code : controlledCodes) {
+      controlledMask.add(code);
+    }
+
+    for (int code = 0; code < CODES_COUNT; code++) {
+      codeTranslation[code] = (char) code;
+    }
+    var modifications = rule.getSubfieldModifications();
+    var modificationsCount = modifications == null ? 0 : modifications.size();
+    this.modificationSources = new char[modificationsCount];
+    this.modificationTargets = new char[modificationsCount];
+    for (int i = 0; i < modificationsCount; i++) {
+      var source = modifications.get(i).getSource().charAt(0);
+      var target = modifications.get(i).getTarget().charAt(0);
+      modificationSources[i] = source;
+      modificationTargets[i] = target;
+      // the first modification of a source code wins
+      if (source < CODES_COUNT && !modificationSourcesMask.contains(source)) {
+        codeTranslation[source] = target;
+      }
+      modificationSourcesMask.add(source);
+      modificationTargetsMask.add(target);
+    }
+
+    var existenceValidations = rule.getSubfieldsExistenceValidations();
+    var validationsCount = existenceValidations == null ? 0 : existenceValidations.size();
+    this.existenceCodes = new char[validationsCount];
+    if (validationsCount > 0) {
+      int i = 0;
+      for (var validation : existenceValidations.entrySet()) {
+        if (StringUtils.isEmpty(validation.getKey())) {
+          continue;
+        }
+        var code = validation.getKey().charAt(0);
+        existenceCodes[i++] = code;
+        if (Boolean.TRUE.equals(validation.getValue())) {
+          requiredMask.add(code);
+        } else {
+          forbiddenMask.add(code);
+        }
+      }
+    }
+  }
+
+  public static CompiledLinkingRule compile(InstanceAuthorityLinkingRule rule) {
+    return new CompiledLinkingRule(rule);
+  }
+
+  /**
+   * Returns compiled rule from the given compiled rules by rule id or compiles the rule if it is missing there.
+   */
+  public static CompiledLinkingRule resolve(Map<Integer, CompiledLinkingRule> compiledRules,
+                                            InstanceAuthorityLinkingRule rule) {
+    var compiledRule = rule.getId() == null ? null : compiledRules.get(rule.getId());
+    return compiledRule == null ? compile(rule) : compiledRule;
+  }
+
+  public boolean isControlled(char code) {
+    return controlledMask.contains(code);
+  }
+
+  public int getControlledCodesCount() {
+    return controlledCodes.length;
+  }
+
+  public char getControlledCode(int index) {
+    return controlledCodes[index];
+  }
+
+  /**
+   * Returns subfield code the authority subfield is renamed to in the bib field.
+   */
+  public char translate(char code) {
+    return code < CODES_COUNT ? codeTranslation[code] : code;
+  }
+
+  public int getModificationsCount() {
+    return modificationSources.length;
+  }
+
+  public char getModificationSource(int index) {
+    return modificationSources[index];
+  }
+
+  public char getModificationTarget(int index) {
+    return modificationTargets[index];
+  }
+
+  public boolean isModificationSource(char code) {
+    return modificationSourcesMask.contains(code);
+  }
+
+  public boolean isModificationTarget(char code) {
+    return modificationTargetsMask.contains(code);
+  }
+
+  public boolean hasSubfieldsExistenceValidations() {
+    return !requiredMask.isEmpty() || !forbiddenMask.isEmpty();
+  }
+
+  public boolean isSubfieldRequired(char code) {
+    return requiredMask.contains(code);
+  }
+
+  /**
+   * Validates subfields existence of an authority field.
+   *
+   * @param presentCodes codes of subfields present in the authority field
+   * @return the first subfield code violating the existence validations or {@link #NO_VIOLATION}
+   */
+  public char findSubfieldsExistenceViolation(SubfieldCodeMask presentCodes) {
+    if (presentCodes.matches(requiredMask, forbiddenMask)) {
+      return NO_VIOLATION;
+    }
+    for (var code : existenceCodes) {
+      if (code != NO_VIOLATION && requiredMask.contains(code) != presentCodes.contains(code)) {
+        return code;
+      }
+    }
+    return NO_VIOLATION;
+  }
+}
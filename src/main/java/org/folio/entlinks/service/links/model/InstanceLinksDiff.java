@@ -0,0 +1,82 @@
+package org.folio.entlinks.service.links.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.UUID;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
+
+/**
+ * Three-way difference between existing and incoming links of an instance.
+ *
+ * @param linksToCreate incoming links that don't exist yet
+ * @param linksToUpdate existing links that are present in incoming links, paired with the matching incoming link
+ * @param linksToDelete existing links that are absent in incoming links
+ */
+public record InstanceLinksDiff(List<InstanceAuthorityLink> linksToCreate,
+                                List<LinkUpdate> linksToUpdate,
+                                List<InstanceAuthorityLink> linksToDelete) {
+
+  /**
+   * Computes the difference in a single pass over each collection using hash-keyed link identity.
+   */
+  public static InstanceLinksDiff of(Collection<InstanceAuthorityLink> existedLinks,
+                                     Collection<InstanceAuthorityLink> incomingLinks) {
+    var distinctIncomingLinks = distinct(incomingLinks);
+    var incomingByKey = new HashMap<LinkKey, InstanceAuthorityLink>();
+    for (var incomingLink : distinctIncomingLinks) {
+      incomingByKey.putIfAbsent(LinkKey.of(incomingLink), incomingLink);
+    }
+
+    var existedKeys = new HashSet<LinkKey>();
+    var linksToUpdate = new ArrayList<LinkUpdate>();
+    var linksToDelete = new ArrayList<InstanceAuthorityLink>();
+    for (var existedLink : distinct(existedLinks)) {
+      var key = LinkKey.of(existedLink);
+      existedKeys.add(key);
+      var incomingLink = incomingByKey.get(key);
+      if (incomingLink == null) {
+        linksToDelete.add(existedLink);
+      } else {
+        linksToUpdate.add(new LinkUpdate(existedLink, incomingLink));
+      }
+    }
+
+    var linksToCreate = new ArrayList<InstanceAuthorityLink>();
+    for (var incomingLink : distinctIncomingLinks) {
+      if (!existedKeys.contains(LinkKey.of(incomingLink))) {
+        linksToCreate.add(incomingLink);
+      }
+    }
+    return new InstanceLinksDiff(linksToCreate, linksToUpdate, linksToDelete);
+  }
+
+  /**
+   * Removes duplicates the way entity equality does, without relying on the entity's constant hash code.
+   */
+  private static List<InstanceAuthorityLink> distinct(Collection<InstanceAuthorityLink> links) {
+    var seenLinks = Collections.newSetFromMap(new IdentityHashMap<InstanceAuthorityLink, Boolean>());
+    var seenIds = new HashSet<Long>();
+    return links.stream()
+      .filter(link -> seenLinks.add(link) && (link.getId() == null || seenIds.add(link.getId())))
+      .toList();
+  }
+
+  public record LinkUpdate(InstanceAuthorityLink existedLink, InstanceAuthorityLink incomingLink) { }
+
+  /**
+   * Link identity, the same as {@link InstanceAuthorityLink#isSameLink(InstanceAuthorityLink)} compares.
+   */
+  public record LinkKey(UUID authorityId, UUID instanceId, Integer linkingRuleId) {
+
+    public static LinkKey of(InstanceAuthorityLink link) {
+      var linkingRule = link.getLinkingRule();
+      return new LinkKey(link.getAuthority().getId(), link.getInstanceId(),
+        linkingRule == null ? null : linkingRule.getId());
+    }
+  }
+}
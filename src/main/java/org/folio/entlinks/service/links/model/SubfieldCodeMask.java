@@ -0,0 +1,41 @@
+package org.folio.entlinks.service.links.model;
+
+/**
+ * Set of MARC subfield codes kept as a 128-bit mask.
+ * Subfield codes are ASCII characters, codes outside the ASCII range are never contained.
+ */
+public final class SubfieldCodeMask {
+
+  private static final int WORD_SIZE = Long.SIZE;
+  private static final int MAX_CODE = 2 * WORD_SIZE;
+
+  private long low;
+  private long high;
+
+  public void add(char code) {
+    if (code < WORD_SIZE) {
+      low |= 1L << code;
+    } else if (code < MAX_CODE) {
+      high |= 1L << (code - WORD_SIZE);
+    }
+  }
+
+  public boolean contains(char code) {
+    if (code < WORD_SIZE) {
+      return (low & (1L << code)) != 0;
+    }
+    return code < MAX_CODE && (high & (1L << (code - WORD_SIZE))) != 0;
+  }
+
+  public boolean isEmpty() {
+    return low == 0 && high == 0;
+  }
+
+  /**
+   * Checks that this mask contains all codes of the {@code required} mask and none of the {@code forbidden} mask.
+   */
+  public boolean matches(SubfieldCodeMask required, SubfieldCodeMask forbidden) {
+    return (required.low & ~low) == 0 && (required.high & ~high) == 0
+           && (forbidden.low & low) == 0 && (forbidden.high & high) == 0;
+  }
+}
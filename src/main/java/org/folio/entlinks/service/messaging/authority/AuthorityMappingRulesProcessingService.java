@@ -1,35 +1,51 @@
 package org.folio.entlinks.service.messaging.authority;
 
+import static java.util.stream.Collectors.toMap;
+import static org.folio.entlinks.config.constants.CacheNames.AUTHORITY_MAPPING_RULES_CACHE;
+
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.integration.internal.MappingRulesService;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeField;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+@Log4j2
 @Service
 @RequiredArgsConstructor
 public class AuthorityMappingRulesProcessingService {
 
-  private final MappingRulesService mappingRulesService;
+  private static final Map<String, AuthorityChangeField> CHANGE_FIELDS_BY_NAME = Arrays.stream(
+      AuthorityChangeField.values())
+    .collect(toMap(AuthorityChangeField::getFieldName, Function.identity()));
 
-  public String getTagByAuthorityChangeField(AuthorityChangeField authorityChangeField) {
-    var mappingRelations = mappingRulesService.getFieldTargetsMappingRelations();
-    return mappingRelations.entrySet().stream()
-      .filter(mappingRelation -> mappingRelation.getValue().contains(authorityChangeField.getFieldName()))
-      .findFirst()
-      .map(Map.Entry::getKey)
-      .orElse(null);
-  }
+  private final MappingRulesService mappingRulesService;
 
+  /**
+   * Compiles tenant mapping rules into an immutable change field to MARC tag index.
+   * The index is cached per tenant, so it is built once and not on every authority events poll.
+   *
+   * @return MARC tags by authority change fields
+   */
+  @Cacheable(cacheNames = AUTHORITY_MAPPING_RULES_CACHE,
+             key = "@folioExecutionContext.tenantId",
+             unless = "#result.isEmpty()")
   public Map<AuthorityChangeField, String> getFieldTagRelations() {
-    Map<AuthorityChangeField, String> map = new EnumMap<>(AuthorityChangeField.class);
-    for (AuthorityChangeField authorityChangeField : AuthorityChangeField.values()) {
-      var fieldTagRelation = getTagByAuthorityChangeField(authorityChangeField);
-      if (fieldTagRelation != null) {
-        map.put(authorityChangeField, fieldTagRelation);
+    var fieldTagRelations = new EnumMap<AuthorityChangeField, String>(AuthorityChangeField.class);
+    for (var mappingRelation : mappingRulesService.getFieldTargetsMappingRelations().entrySet()) {
+      for (var target : mappingRelation.getValue()) {
+        var changeField = CHANGE_FIELDS_BY_NAME.get(target);
+        if (changeField != null) {
+          fieldTagRelations.putIfAbsent(changeField, mappingRelation.getKey());
+        }
       }
     }
-    return map;
+    log.info("Compiled authority mapping rules [number of change fields: {}]", fieldTagRelations.size());
+    return Collections.unmodifiableMap(fieldTagRelations);
   }
 }
@@ -1,17 +1,20 @@
 package org.folio.entlinks.service.messaging.authority;
 
 import static org.folio.entlinks.service.messaging.authority.model.AuthorityChangeType.UPDATE;
-import static org.folio.entlinks.utils.ObjectUtils.getDifference;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
-import org.folio.entlinks.domain.dto.AuthorityDto;
+import org.folio.entlinks.config.properties.ConsortiumFanOutProperties;
 import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.domain.entity.AuthorityDataStat;
 import org.folio.entlinks.integration.dto.event.AuthorityDeleteEventSubType;
@@ -23,12 +26,14 @@ import org.folio.entlinks.service.consortium.ConsortiumTenantsService;
 import org.folio.entlinks.service.links.AuthorityDataStatService;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingService;
 import org.folio.entlinks.service.messaging.authority.handler.AuthorityChangeHandler;
-import org.folio.entlinks.service.messaging.authority.model.AuthorityChange;
+import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeDiffer;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeField;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeHolder;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeType;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
 @Log4j2
@@ -44,6 +49,8 @@ public class InstanceAuthorityLinkUpdateService {
   private final ConsortiumTenantsService consortiumTenantsService;
   private final FolioExecutionContext folioExecutionContext;
   private final SystemUserScopedExecutionService executionService;
+  private final ConsortiumFanOutProperties fanOutProperties;
+  private final TaskExecutor memberTenantsExecutor;
 
   public InstanceAuthorityLinkUpdateService(AuthorityDataStatService authorityDataStatService,
                                             AuthorityMappingRulesProcessingService mappingRulesProcessingService,
@@ -53,7 +60,10 @@ public class InstanceAuthorityLinkUpdateService {
                                             AuthoritySourceRecordService sourceRecordService,
                                             ConsortiumTenantsService consortiumTenantsService,
                                             FolioExecutionContext folioExecutionContext,
-                                            SystemUserScopedExecutionService executionService) {
+                                            SystemUserScopedExecutionService executionService,
+                                            ConsortiumFanOutProperties fanOutProperties,
+                                            @Qualifier("shadowAuthoritiesTaskExecutor")
+                                            TaskExecutor memberTenantsExecutor) {
     this.authorityDataStatService = authorityDataStatService;
     this.mappingRulesProcessingService = mappingRulesProcessingService;
     this.linkingService = linkingService;
@@ -64,6 +74,8 @@ public class InstanceAuthorityLinkUpdateService {
     this.consortiumTenantsService = consortiumTenantsService;
     this.folioExecutionContext = folioExecutionContext;
     this.executionService = executionService;
+    this.fanOutProperties = fanOutProperties;
+    this.memberTenantsExecutor = memberTenantsExecutor;
   }
 
   public void handleAuthoritiesChanges(List<AuthorityDomainEvent> events) {
@@ -85,14 +97,15 @@ public class InstanceAuthorityLinkUpdateService {
   }
 
   private void fillChangeHoldersWithSourceRecord(List<AuthorityChangeHolder> changeHolders) {
-    var changeHoldersForSourceRecord = changeHolders.stream()
+    var authorityIdsForSourceRecord = changeHolders.stream()
         .filter(holder -> holder.getChangeType().equals(UPDATE) && !holder.isOnlyNaturalIdChanged())
-        .collect(Collectors.groupingBy(AuthorityChangeHolder::getAuthorityId));
-    if (!changeHoldersForSourceRecord.isEmpty()) {
-      changeHoldersForSourceRecord.forEach((authorityId, authorityChangeHolders) -> {
-        var sourceRecord = sourceRecordService.getAuthoritySourceRecordById(authorityId);
-        authorityChangeHolders.forEach(changeHolder -> changeHolder.setSourceRecord(sourceRecord));
-      });
+        .map(AuthorityChangeHolder::getAuthorityId)
+        .collect(Collectors.toSet());
+    if (!authorityIdsForSourceRecord.isEmpty()) {
+      var sourceRecords = sourceRecordService.getAuthoritySourceRecordsByIds(authorityIdsForSourceRecord);
+      changeHolders.stream()
+        .filter(changeHolder -> sourceRecords.containsKey(changeHolder.getAuthorityId()))
+        .forEach(changeHolder -> changeHolder.setSourceRecord(sourceRecords.get(changeHolder.getAuthorityId())));
     }
   }
 
@@ -109,8 +122,7 @@ public class InstanceAuthorityLinkUpdateService {
             folioExecutionContext.getTenantId(), type);
         return;
       } else {
-        var linksEvents = handler.handle(eventsByTypeEntry.getValue());
-        sendEvents(linksEvents, type);
+        sendEvents(handler, eventsByTypeEntry.getValue(), type);
       }
     }
   }
@@ -153,48 +165,78 @@ public class InstanceAuthorityLinkUpdateService {
     }
 
     log.debug("Processing authority changes for shadow copies of authorities: [{}]", authorityIds);
-    consortiumTenants.forEach(memberTenant -> {
-      var changeHolderCopies = changeHolders.stream().map(AuthorityChangeHolder::copy).toList();
-      executionService.executeSystemUserScoped(memberTenant, () -> {
-        var linksNumberByAuthorityId = linkingService.countLinksByAuthorityIds(authorityIds);
-        changeHolderCopies.forEach(changeHolder ->
-            changeHolder.setNumberOfLinks(linksNumberByAuthorityId.getOrDefault(changeHolder.getAuthorityId(), 0)));
-        prepareAndSaveAuthorityDataStats(changeHolderCopies);
-        processEventsByChangeType(changeHolderCopies);
-        return null;
-      });
+    var futuresByTenant = new LinkedHashMap<String, CompletableFuture<Void>>();
+    consortiumTenants.forEach(memberTenant -> futuresByTenant.put(memberTenant,
+      submitMemberTenantChanges(memberTenant, authorityIds, changeHolders)));
+
+    var failedTenants = new ArrayList<String>();
+    futuresByTenant.forEach((memberTenant, future) -> {
+      try {
+        future.join();
+      } catch (CompletionException e) {
+        log.warn("Failed to process authority changes for shadow copies [tenant: {}]", memberTenant, e.getCause());
+        failedTenants.add(memberTenant);
+      }
     });
+    if (!failedTenants.isEmpty()) {
+      throw new IllegalStateException("Authority changes are not applied to shadow copies [tenants: %s]"
+        .formatted(failedTenants));
+    }
     log.debug("Finished processing authority changes for shadow copies of authorities: [{}]", authorityIds);
   }
 
+  /**
+   * Runs member tenant processing on the fan-out pool. Processing that is still running after the tenant timeout
+   * is reported but not interrupted, so authority data stats and links change events are not left half-done.
+   */
+  private CompletableFuture<Void> submitMemberTenantChanges(String memberTenant, Set<UUID> authorityIds,
+                                                            List<AuthorityChangeHolder> changeHolders) {
+    var changeHolderCopies = changeHolders.stream().map(AuthorityChangeHolder::copy).toList();
+    return CompletableFuture.runAsync(() -> {
+      var timeoutReport = CompletableFuture.runAsync(() ->
+          log.warn("Processing of authority changes for shadow copies exceeds timeout [tenant: {}, timeout: {} ms]",
+            memberTenant, fanOutProperties.getTenantTimeoutMs()),
+        CompletableFuture.delayedExecutor(fanOutProperties.getTenantTimeoutMs(), TimeUnit.MILLISECONDS));
+      try {
+        executionService.executeSystemUserScoped(memberTenant, () -> {
+          var linksNumberByAuthorityId = linkingService.countLinksByAuthorityIds(authorityIds);
+          changeHolderCopies.forEach(changeHolder -> changeHolder.setNumberOfLinks(
+            linksNumberByAuthorityId.getOrDefault(changeHolder.getAuthorityId(), 0)));
+          prepareAndSaveAuthorityDataStats(changeHolderCopies);
+          processEventsByChangeType(changeHolderCopies);
+          return null;
+        });
+      } finally {
+        timeoutReport.cancel(false);
+      }
+    }, memberTenantsExecutor);
+  }
+
   private AuthorityChangeHolder toAuthorityChangeHolder(AuthorityDomainEvent event,
                                                         Map<AuthorityChangeField, String> fieldTagRelation,
                                                         Map<UUID, Integer> linksNumberByAuthorityId) {
-    var difference = getAuthorityChanges(event.getNewEntity(), event.getOldEntity());
+    var difference = AuthorityChangeDiffer.getChanges(event.getNewEntity(), event.getOldEntity());
     return new AuthorityChangeHolder(event, difference, fieldTagRelation,
       linksNumberByAuthorityId.getOrDefault(event.getId(), 0));
   }
 
-  @SneakyThrows
-  private Map<AuthorityChangeField, AuthorityChange> getAuthorityChanges(AuthorityDto s1, AuthorityDto s2) {
-    return getDifference(s1, s2).stream()
-      .map(difference -> {
-        try {
-          var authorityChangeField = AuthorityChangeField.fromValue(difference.fieldName());
-          return new AuthorityChange(authorityChangeField, difference.val1(), difference.val2());
-        } catch (IllegalArgumentException e) {
-          log.debug("Not supported authority change [fieldName: {}]", difference);
-          return null;
-        }
-      })
-      .filter(Objects::nonNull)
-      .collect(Collectors.toMap(AuthorityChange::changeField, ac -> ac));
-  }
-
-  private void sendEvents(List<LinksChangeEvent> events, AuthorityChangeType type) {
-    log.info("Sending {} {} events to Kafka for tenant {}", events.size(), type,
-        folioExecutionContext.getTenantId());
-    eventProducer.sendMessages(events);
+  /**
+   * Sends links change events as the handler builds them and fails if any of them is not acknowledged.
+   * Events are sent at least once: when building or sending fails, the Kafka batch is retried and the events
+   * sent before the failure are sent again under the authority data stats of the retry,
+   * while the stats of the failed attempt stay in progress.
+   */
+  private void sendEvents(AuthorityChangeHandler handler, List<AuthorityChangeHolder> changes,
+                          AuthorityChangeType type) {
+    var batch = eventProducer.batch();
+    handler.handle(changes, event -> batch.send(null, event));
+    var failures = batch.flush();
+    var tenantId = folioExecutionContext.getTenantId();
+    log.info("Sent {} {} events to Kafka for tenant {}", batch.getSentCount() - failures.size(), type, tenantId);
+    if (!failures.isEmpty()) {
+      throw new IllegalStateException("Failed to send %s of %s %s links change events [tenant: %s]"
+        .formatted(failures.size(), batch.getSentCount(), type, tenantId));
+    }
   }
 
 }
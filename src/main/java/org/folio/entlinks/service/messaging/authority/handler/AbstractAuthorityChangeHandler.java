@@ -1,8 +1,8 @@
 package org.folio.entlinks.service.messaging.authority.handler;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import org.folio.entlinks.config.properties.InstanceAuthorityChangeProperties;
@@ -11,8 +11,6 @@ import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingService;
 import org.folio.entlinks.utils.LinkEventsUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
 @RequiredArgsConstructor
 public abstract class AbstractAuthorityChangeHandler implements AuthorityChangeHandler {
@@ -20,20 +18,28 @@ public abstract class AbstractAuthorityChangeHandler implements AuthorityChangeH
   private final InstanceAuthorityChangeProperties instanceAuthorityChangeProperties;
   private final InstanceAuthorityLinkingService linkingService;
 
-  protected List<LinksChangeEvent> handleLinksByPartitions(UUID authorityId,
-                                                           Function<List<InstanceAuthorityLink>,
-                                                             LinksChangeEvent> function) {
-    List<LinksChangeEvent> linksEvents = new ArrayList<>();
-    Pageable pageable = PageRequest.of(0, instanceAuthorityChangeProperties.getNumPartitions());
+  /**
+   * Reads links of the authority in keyset partitions and passes an event for each partition to the consumer,
+   * so only one partition is kept in memory at a time.
+   */
+  protected void handleLinksByPartitions(UUID authorityId,
+                                         Function<List<InstanceAuthorityLink>, LinksChangeEvent> function,
+                                         Consumer<LinksChangeEvent> eventConsumer) {
+    var partitionSize = instanceAuthorityChangeProperties.getNumPartitions();
+    var lastLinkId = 0L;
+    List<InstanceAuthorityLink> partition;
     do {
-      var linksPage = linkingService.getLinksByAuthorityId(authorityId, pageable);
-      var instanceLinks = linksPage.getContent();
+      partition = linkingService.getLinksByAuthorityIdAfter(authorityId, lastLinkId, partitionSize);
+      if (partition.isEmpty() && lastLinkId > 0) {
+        break;
+      }
 
-      linksEvents.add(function.apply(instanceLinks));
+      eventConsumer.accept(function.apply(partition));
 
-      pageable = linksPage.nextPageable();
-    } while (pageable.isPaged());
-    return linksEvents;
+      if (!partition.isEmpty()) {
+        lastLinkId = partition.get(partition.size() - 1).getId();
+      }
+    } while (partition.size() == partitionSize);
   }
 
   protected LinksChangeEvent constructEvent(UUID jobId, UUID authorityId,
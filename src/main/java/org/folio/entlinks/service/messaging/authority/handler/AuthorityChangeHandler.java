@@ -1,13 +1,24 @@
 package org.folio.entlinks.service.messaging.authority.handler;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeHolder;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeType;
 
 public interface AuthorityChangeHandler {
 
-  List<LinksChangeEvent> handle(List<AuthorityChangeHolder> changes);
+  /**
+   * Handles authority changes and passes links change events to the consumer as soon as each of them is built.
+   */
+  void handle(List<AuthorityChangeHolder> changes, Consumer<LinksChangeEvent> eventConsumer);
+
+  default List<LinksChangeEvent> handle(List<AuthorityChangeHolder> changes) {
+    var linksEvents = new ArrayList<LinksChangeEvent>();
+    handle(changes, linksEvents::add);
+    return linksEvents;
+  }
 
   LinksChangeEvent.TypeEnum getReplyEventType();
 
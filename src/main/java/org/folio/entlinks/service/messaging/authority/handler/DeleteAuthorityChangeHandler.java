@@ -3,8 +3,10 @@ package org.folio.entlinks.service.messaging.authority.handler;
 import static java.util.Collections.emptyList;
 import static org.folio.entlinks.service.messaging.authority.model.AuthorityChangeType.DELETE;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.function.Consumer;
 import org.apache.commons.collections4.CollectionUtils;
 import org.folio.entlinks.config.properties.InstanceAuthorityChangeProperties;
 import org.folio.entlinks.domain.dto.LinksChangeEvent;
@@ -30,21 +32,23 @@ public class DeleteAuthorityChangeHandler extends AbstractAuthorityChangeHandler
   }
 
   @Override
-  public List<LinksChangeEvent> handle(List<AuthorityChangeHolder> changes) {
+  public void handle(List<AuthorityChangeHolder> changes, Consumer<LinksChangeEvent> eventConsumer) {
     if (changes == null || changes.isEmpty()) {
-      return emptyList();
+      return;
     }
 
-    var linksEvents = changes.stream()
+    var authorityIds = new HashSet<UUID>();
+    changes.stream()
         .filter(change -> change.getNumberOfLinks() > 0)
-        .map(change -> handleLinksByPartitions(
-            change.getAuthorityId(),
-            links -> constructEvent(change.getAuthorityDataStatId(), change.getAuthorityId(), links, emptyList())
-        ))
-        .flatMap(List::stream)
-        .toList();
+        .forEach(change -> {
+          handleLinksByPartitions(
+              change.getAuthorityId(),
+              links -> constructEvent(change.getAuthorityDataStatId(), change.getAuthorityId(), links, emptyList()),
+              eventConsumer
+          );
+          authorityIds.add(change.getAuthorityId());
+        });
 
-    var authorityIds = linksEvents.stream().map(LinksChangeEvent::getAuthorityId).collect(Collectors.toSet());
     var softDeleteAuthorityIds = changes.stream()
         .filter(change -> DomainEventType.DELETE.equals(change.getEvent().getType()))
         .map(AuthorityChangeHolder::getAuthorityId)
@@ -56,7 +60,6 @@ public class DeleteAuthorityChangeHandler extends AbstractAuthorityChangeHandler
       // hard delete authorities
       authorityService.deleteByIds(softDeleteAuthorityIds);
     }
-    return linksEvents;
   }
 
   @Override
@@ -3,11 +3,10 @@ package org.folio.entlinks.service.messaging.authority.handler;
 import static java.util.Collections.singletonList;
 import static org.folio.entlinks.utils.FieldUtils.getSubfield0Value;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.config.properties.InstanceAuthorityChangeProperties;
 import org.folio.entlinks.domain.dto.FieldChange;
@@ -16,13 +15,13 @@ import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.domain.dto.SubfieldChange;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
-import org.folio.entlinks.domain.repository.AuthoritySourceFileRepository;
 import org.folio.entlinks.exception.AuthorityBatchProcessingException;
 import org.folio.entlinks.integration.dto.AuthoritySourceRecord;
 import org.folio.entlinks.integration.kafka.EventProducer;
+import org.folio.entlinks.service.authority.AuthoritySourceFileRegistry;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingRulesService;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingService;
-import org.folio.entlinks.service.messaging.authority.AuthorityMappingRulesProcessingService;
+import org.folio.entlinks.service.links.model.CompiledLinkingRule;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeHolder;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeType;
 import org.folio.entlinks.service.messaging.authority.model.FieldChangeHolder;
@@ -32,35 +31,31 @@ import org.springframework.stereotype.Component;
 @Component
 public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler {
 
-  private final AuthoritySourceFileRepository sourceFileRepository;
-  private final AuthorityMappingRulesProcessingService mappingRulesProcessingService;
+  private final AuthoritySourceFileRegistry sourceFileRegistry;
   private final InstanceAuthorityLinkingRulesService linkingRulesService;
   private final EventProducer<LinkUpdateReport> eventProducer;
 
   public UpdateAuthorityChangeHandler(InstanceAuthorityChangeProperties instanceAuthorityChangeProperties,
-                                      AuthoritySourceFileRepository sourceFileRepository,
-                                      AuthorityMappingRulesProcessingService mappingRulesProcessingService,
+                                      AuthoritySourceFileRegistry sourceFileRegistry,
                                       InstanceAuthorityLinkingRulesService linkingRulesService,
                                       InstanceAuthorityLinkingService linkingService,
                                       EventProducer<LinkUpdateReport> eventProducer) {
     super(instanceAuthorityChangeProperties, linkingService);
-    this.sourceFileRepository = sourceFileRepository;
-    this.mappingRulesProcessingService = mappingRulesProcessingService;
+    this.sourceFileRegistry = sourceFileRegistry;
     this.linkingRulesService = linkingRulesService;
     this.eventProducer = eventProducer;
   }
 
   @Override
-  public List<LinksChangeEvent> handle(List<AuthorityChangeHolder> changes) {
+  public void handle(List<AuthorityChangeHolder> changes, Consumer<LinksChangeEvent> eventConsumer) {
     if (changes == null || changes.isEmpty()) {
-      return Collections.emptyList();
+      return;
     }
 
-    List<LinksChangeEvent> linksEvents = new ArrayList<>();
     for (var change : changes) {
       try {
         if (change.getNumberOfLinks() > 0) {
-          linksEvents.addAll(handle0(change));
+          handle0(change, eventConsumer);
         }
       } catch (AuthorityBatchProcessingException e) {
         log.warn("Skipping authority change processing.", e);
@@ -68,11 +63,11 @@ public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler
         report.setFailCause(e.getMessage());
         report.setJobId(change.getAuthorityDataStatId());
         report.setStatus(LinkUpdateReport.StatusEnum.FAIL);
-        eventProducer.sendMessages(singletonList(report));
+        if (!eventProducer.sendMessages(singletonList(report)).isEmpty()) {
+          log.warn("Failed to send link update report [jobId: {}]", change.getAuthorityDataStatId());
+        }
       }
     }
-
-    return linksEvents;
   }
 
   @Override
@@ -85,25 +80,27 @@ public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler
     return AuthorityChangeType.UPDATE;
   }
 
-  private List<LinksChangeEvent> handle0(AuthorityChangeHolder changeHolder) throws AuthorityBatchProcessingException {
+  private void handle0(AuthorityChangeHolder changeHolder, Consumer<LinksChangeEvent> eventConsumer)
+    throws AuthorityBatchProcessingException {
     if (changeHolder.isOnlyNaturalIdChanged()) {
-      return handleNaturalIdChange(changeHolder);
+      handleNaturalIdChange(changeHolder, eventConsumer);
     } else {
-      return handleFieldChange(changeHolder);
+      handleFieldChange(changeHolder, eventConsumer);
     }
   }
 
-  private List<LinksChangeEvent> handleNaturalIdChange(AuthorityChangeHolder changeHolder) {
+  private void handleNaturalIdChange(AuthorityChangeHolder changeHolder, Consumer<LinksChangeEvent> eventConsumer) {
     var authorityId = changeHolder.getAuthorityId();
     var naturalId = changeHolder.getNewNaturalId();
 
     var subfield0Change = getSubfield0Change(naturalId, changeHolder.getNewSourceFileId());
 
-    return handleLinksByPartitions(authorityId,
+    handleLinksByPartitions(authorityId,
       instanceLinks -> {
         var fieldChanges = getFieldChangesForNaturalId(subfield0Change, instanceLinks);
         return constructEvent(changeHolder.getAuthorityDataStatId(), authorityId, instanceLinks, fieldChanges);
-      }
+      },
+      eventConsumer
     );
   }
 
@@ -116,11 +113,11 @@ public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler
       .toList();
   }
 
-  private List<LinksChangeEvent> handleFieldChange(AuthorityChangeHolder changeHolder)
+  private void handleFieldChange(AuthorityChangeHolder changeHolder, Consumer<LinksChangeEvent> eventConsumer)
     throws AuthorityBatchProcessingException {
     var authorityId = changeHolder.getAuthorityId();
 
-    var changedTag = mappingRulesProcessingService.getTagByAuthorityChangeField(changeHolder.getFieldChange());
+    var changedTag = changeHolder.getFieldChangeTag();
     var linkingRules = linkingRulesService.getLinkingRulesByAuthorityField(changedTag);
     var sourceRecord = changeHolder.getSourceRecord();
 
@@ -133,8 +130,9 @@ public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler
       .map(FieldChangeHolder::toFieldChange)
       .toList();
 
-    return handleLinksByPartitions(authorityId,
-      instanceLinks -> constructEvent(changeHolder.getAuthorityDataStatId(), authorityId, instanceLinks, fieldChanges)
+    handleLinksByPartitions(authorityId,
+      instanceLinks -> constructEvent(changeHolder.getAuthorityDataStatId(), authorityId, instanceLinks, fieldChanges),
+      eventConsumer
     );
   }
 
@@ -152,8 +150,9 @@ public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler
       .orElseThrow(() -> new AuthorityBatchProcessingException(authorityId,
         "Source record don't contains [authorityId: " + authorityId + ", tag: " + changedTag + "]"));
 
+    var compiledRules = linkingRulesService.getCompiledLinkingRules();
     return linkingRuleForField.stream()
-      .map(linkingRule -> new FieldChangeHolder(dataField, linkingRule))
+      .map(linkingRule -> new FieldChangeHolder(dataField, CompiledLinkingRule.resolve(compiledRules, linkingRule)))
       .toList();
   }
 
@@ -165,7 +164,7 @@ public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler
   }
 
   private SubfieldChange getSubfield0Change(String naturalId, UUID sourceFileId) {
-    var sourceFile = sourceFileId == null ? null : sourceFileRepository.findById(sourceFileId).orElse(null);
+    var sourceFile = sourceFileRegistry.findById(sourceFileId).orElse(null);
     var subfield0Value = getSubfield0Value(naturalId, sourceFile);
     return new SubfieldChange().code("0").value(subfield0Value);
   }
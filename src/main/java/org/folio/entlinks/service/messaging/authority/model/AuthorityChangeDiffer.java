@@ -0,0 +1,33 @@
+package org.folio.entlinks.service.messaging.authority.model;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import lombok.experimental.UtilityClass;
+import org.folio.entlinks.domain.dto.AuthorityDto;
+
+@UtilityClass
+public class AuthorityChangeDiffer {
+
+  private static final AuthorityChangeField[] CHANGE_FIELDS = AuthorityChangeField.values();
+
+  /**
+   * Compares authorities by {@link AuthorityChangeField} values only.
+   *
+   * @param newAuthority new state of authority, could be null
+   * @param oldAuthority old state of authority, could be null
+   * @return changes by field, empty if no supported field is changed
+   */
+  public static Map<AuthorityChangeField, AuthorityChange> getChanges(AuthorityDto newAuthority,
+                                                                      AuthorityDto oldAuthority) {
+    var changes = new EnumMap<AuthorityChangeField, AuthorityChange>(AuthorityChangeField.class);
+    for (var changeField : CHANGE_FIELDS) {
+      var valNew = changeField.extractValue(newAuthority);
+      var valOld = changeField.extractValue(oldAuthority);
+      if (!Objects.equals(valNew, valOld)) {
+        changes.put(changeField, new AuthorityChange(changeField, valNew, valOld));
+      }
+    }
+    return changes;
+  }
+}
@@ -1,29 +1,43 @@
 package org.folio.entlinks.service.messaging.authority.model;
 
+import java.util.function.Function;
 import lombok.Getter;
+import org.folio.entlinks.domain.dto.AuthorityDto;
 
 public enum AuthorityChangeField {
 
-  PERSONAL_NAME("personalName", "100"),
-  PERSONAL_NAME_TITLE("personalNameTitle", "100"),
-  CORPORATE_NAME("corporateName", "110"),
-  CORPORATE_NAME_TITLE("corporateNameTitle", "110"),
-  MEETING_NAME("meetingName", "100"),
-  MEETING_NAME_TITLE("meetingNameTitle", "100"),
-  UNIFORM_TITLE("uniformTitle", "100"),
-  TOPICAL_TERM("topicalTerm", "100"),
-  GEOGRAPHIC_NAME("geographicName", "100"),
-  GENRE_TERM("genreTerm", "100"),
-  NATURAL_ID("naturalId", "010");
+  PERSONAL_NAME("personalName", "100", AuthorityDto::getPersonalName),
+  PERSONAL_NAME_TITLE("personalNameTitle", "100", AuthorityDto::getPersonalNameTitle),
+  CORPORATE_NAME("corporateName", "110", AuthorityDto::getCorporateName),
+  CORPORATE_NAME_TITLE("corporateNameTitle", "110", AuthorityDto::getCorporateNameTitle),
+  MEETING_NAME("meetingName", "100", AuthorityDto::getMeetingName),
+  MEETING_NAME_TITLE("meetingNameTitle", "100", AuthorityDto::getMeetingNameTitle),
+  UNIFORM_TITLE("uniformTitle", "100", AuthorityDto::getUniformTitle),
+  TOPICAL_TERM("topicalTerm", "100", AuthorityDto::getTopicalTerm),
+  GEOGRAPHIC_NAME("geographicName", "100", AuthorityDto::getGeographicName),
+  GENRE_TERM("genreTerm", "100", AuthorityDto::getGenreTerm),
+  NATURAL_ID("naturalId", "010", AuthorityDto::getNaturalId);
 
   @Getter
   private final String fieldName;
   @Getter
   private final String type;
+  private final Function<AuthorityDto, String> valueExtractor;
 
-  AuthorityChangeField(String fieldName, String type) {
+  AuthorityChangeField(String fieldName, String type, Function<AuthorityDto, String> valueExtractor) {
     this.fieldName = fieldName;
     this.type = type;
+    this.valueExtractor = valueExtractor;
+  }
+
+  /**
+   * Extracts value of the field from authority.
+   *
+   * @param authority authority, could be null
+   * @return field value or null if authority is null
+   */
+  public String extractValue(AuthorityDto authority) {
+    return authority == null ? null : valueExtractor.apply(authority);
   }
 
   public static AuthorityChangeField fromValue(String value) {
@@ -91,6 +91,12 @@ public class AuthorityChangeHolder {
     }
   }
 
+  @Nullable
+  public String getFieldChangeTag() {
+    var fieldChange = getFieldChange();
+    return fieldChange == null ? null : fieldTagRelation.get(fieldChange);
+  }
+
   public boolean changesExist() {
     return MapUtils.isNotEmpty(changes);
   }
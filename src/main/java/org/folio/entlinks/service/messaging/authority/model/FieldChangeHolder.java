@@ -3,24 +3,21 @@ package org.folio.entlinks.service.messaging.authority.model;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import lombok.Getter;
-import org.bouncycastle.util.Arrays;
 import org.folio.entlinks.domain.dto.FieldChange;
 import org.folio.entlinks.domain.dto.FieldContentValue;
 import org.folio.entlinks.domain.dto.SubfieldChange;
-import org.folio.entlinks.domain.dto.SubfieldModification;
-import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
+import org.folio.entlinks.service.links.model.CompiledLinkingRule;
+import org.folio.entlinks.service.links.model.SubfieldCodeMask;
 import org.marc4j.marc.DataField;
 import org.marc4j.marc.Subfield;
 import org.marc4j.marc.impl.SubfieldImpl;
 
 public class FieldChangeHolder {
 
-  private final InstanceAuthorityLinkingRule linkingRule;
+  private final CompiledLinkingRule linkingRule;
 
   private final @Getter String bibField;
 
@@ -28,15 +25,15 @@ public class FieldChangeHolder {
 
   private final List<SubfieldChange> extraSubfieldChanges = new ArrayList<>();
 
-  public FieldChangeHolder(DataField dataField, InstanceAuthorityLinkingRule linkingRule) {
+  public FieldChangeHolder(DataField dataField, CompiledLinkingRule linkingRule) {
     this.linkingRule = linkingRule;
-    this.bibField = linkingRule.getBibField();
+    this.bibField = linkingRule.getRule().getBibField();
     this.authSubfields = getAuthSubfields(dataField.getSubfields());
   }
 
-  public FieldChangeHolder(FieldContentValue fieldContent, InstanceAuthorityLinkingRule linkingRule) {
+  public FieldChangeHolder(FieldContentValue fieldContent, CompiledLinkingRule linkingRule) {
     this.linkingRule = linkingRule;
-    this.bibField = linkingRule.getBibField();
+    this.bibField = linkingRule.getRule().getBibField();
     this.authSubfields = getAuthSubfieldsForContent(fieldContent.getSubfields());
   }
 
@@ -55,8 +52,8 @@ public class FieldChangeHolder {
   }
 
   private List<SubfieldChange> toSubfieldsChange() {
-    var result = new ArrayList<SubfieldChange>();
-    var subfieldCodes = new HashSet<Character>();
+    var result = new ArrayList<SubfieldChange>(authSubfields.size() + linkingRule.getControlledCodesCount());
+    var subfieldCodes = new SubfieldCodeMask();
 
     // create subfield changes for subfields that exist in authority
     for (var subfield : authSubfields) {
@@ -69,8 +66,8 @@ public class FieldChangeHolder {
     }
 
     // create subfield changes for subfields that missing in authority but still could be controlled
-    for (char controlledSubfield : linkingRule.getAuthoritySubfields()) {
-      var code = getCode(controlledSubfield);
+    for (int i = 0; i < linkingRule.getControlledCodesCount(); i++) {
+      var code = linkingRule.translate(linkingRule.getControlledCode(i));
       if (!subfieldCodes.contains(code)) {
         result.add(new SubfieldChange().code(Character.toString(code)).value(EMPTY));
       }
@@ -80,49 +77,34 @@ public class FieldChangeHolder {
   }
 
   private List<Subfield> getAuthSubfields(List<Subfield> subfields) {
-    var usualSubfields = new ArrayList<Subfield>();
-    var modifiedSubfields = new ArrayList<Subfield>();
+    var newSubfields = new ArrayList<Subfield>(subfields.size());
+    // renamed subfields go first
     for (var subfield : subfields) {
-      if (Arrays.contains(linkingRule.getAuthoritySubfields(), subfield.getCode())) {
-        var code = getCode(subfield);
-        if (code == subfield.getCode()) {
-          usualSubfields.add(subfield);
-        } else {
-          modifiedSubfields.add(new SubfieldImpl(code, subfield.getData()));
-        }
+      var code = subfield.getCode();
+      if (linkingRule.isControlled(code) && linkingRule.translate(code) != code) {
+        newSubfields.add(new SubfieldImpl(linkingRule.translate(code), subfield.getData()));
+      }
+    }
+    for (var subfield : subfields) {
+      var code = subfield.getCode();
+      if (linkingRule.isControlled(code) && linkingRule.translate(code) == code) {
+        newSubfields.add(subfield);
       }
     }
-    var newSubfields = new ArrayList<Subfield>();
-    newSubfields.addAll(modifiedSubfields);
-    newSubfields.addAll(usualSubfields);
     return newSubfields;
   }
 
   private List<Subfield> getAuthSubfieldsForContent(List<Map<String, String>> subfields) {
-    return subfields.stream()
-      .flatMap(subfieldsMap -> subfieldsMap.entrySet().stream())
-      .filter(subfield -> Arrays.contains(linkingRule.getAuthoritySubfields(), subfield.getKey().charAt(0)))
-      .map(subfield -> {
-        var code = getCode(subfield.getKey().charAt(0));
-        return (Subfield) new SubfieldImpl(code, subfield.getValue());
-      })
-      .sorted(Comparator.comparing(Subfield::getCode))
-      .toList();
-  }
-
-  private char getCode(Subfield subfield) {
-    return getCode(subfield.getCode());
-  }
-
-  private char getCode(char subfieldCode) {
-    var subfieldModifications = linkingRule.getSubfieldModifications();
-    if (subfieldModifications != null && !subfieldModifications.isEmpty()) {
-      for (SubfieldModification subfieldModification : subfieldModifications) {
-        if (subfieldModification.getSource().charAt(0) == subfieldCode) {
-          return subfieldModification.getTarget().charAt(0);
+    var newSubfields = new ArrayList<Subfield>();
+    for (var subfieldsMap : subfields) {
+      for (var subfield : subfieldsMap.entrySet()) {
+        var code = subfield.getKey().charAt(0);
+        if (linkingRule.isControlled(code)) {
+          newSubfields.add(new SubfieldImpl(linkingRule.translate(code), subfield.getValue()));
         }
       }
     }
-    return subfieldCode;
+    newSubfields.sort((first, second) -> Character.compare(first.getCode(), second.getCode()));
+    return newSubfields;
   }
 }
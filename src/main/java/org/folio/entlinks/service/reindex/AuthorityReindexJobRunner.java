@@ -4,12 +4,19 @@ import static org.springframework.beans.factory.config.BeanDefinition.SCOPE_PROT
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigInteger;
 import java.sql.ResultSet;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.config.properties.ReindexProperties;
 import org.folio.entlinks.controller.converter.AuthorityMapper;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.entity.Authority;
@@ -19,13 +26,16 @@ import org.folio.entlinks.domain.entity.AuthoritySourceFile;
 import org.folio.entlinks.domain.entity.HeadingRef;
 import org.folio.entlinks.domain.entity.MetadataEntity;
 import org.folio.entlinks.domain.entity.ReindexJob;
+import org.folio.entlinks.domain.entity.ReindexJobPartition;
 import org.folio.entlinks.service.authority.AuthorityDomainEventPublisher;
 import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Scope;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Log4j2
 @Component
@@ -34,8 +44,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthorityReindexJobRunner implements ReindexJobRunner {
 
   private static final String COUNT_QUERY_TEMPLATE = "SELECT COUNT(*) FROM %s_mod_entities_links.authority";
-  private static final String SELECT_QUERY_TEMPLATE =
-      "SELECT * FROM %s_mod_entities_links.authority WHERE deleted = false";
+  private static final String PAGE_QUERY_TEMPLATE =
+      "SELECT * FROM %s_mod_entities_links.authority WHERE deleted = false AND id %s ?%s ORDER BY id LIMIT ?";
+  private static final BigInteger UUID_MSB_RANGE = BigInteger.ONE.shiftLeft(Long.SIZE);
 
   private final JdbcTemplate jdbcTemplate;
   private final FolioExecutionContext folioExecutionContext;
@@ -43,36 +54,54 @@ public class AuthorityReindexJobRunner implements ReindexJobRunner {
   private final AuthorityDomainEventPublisher eventPublisher;
   private final AuthorityMapper mapper;
   private final ObjectMapper objectMapper;
+  private final ReindexProperties reindexProperties;
+  @Qualifier("reindexTaskExecutor")
+  private final TaskExecutor reindexTaskExecutor;
 
   @Async
   @Override
-  @Transactional
   public void startReindex(ReindexJob reindexJob) {
-    log.info("reindex::started");
+    log.info("reindex::started [jobId: {}]", reindexJob.getId());
     var reindexContext = new ReindexContext(reindexJob, folioExecutionContext);
     streamAuthorities(reindexContext);
-    log.info("reindex::ended");
+    log.info("reindex::ended [jobId: {}]", reindexJob.getId());
   }
 
-  @Transactional(readOnly = true)
+  /**
+   * Publishes reindex events for all authorities partition by partition.
+   * Partitions are split by id range and processed in parallel with keyset paging,
+   * the checkpoints of partitions are stored in the job at most once per checkpoint interval,
+   * so the job started with existing partitions continues from the stored checkpoints.
+   */
   public void streamAuthorities(ReindexContext context) {
-    var totalRecords = jdbcTemplate.queryForObject(countQuery(context.getTenantId()), Integer.class);
+    var tenantId = context.getTenantId();
+    var totalRecords = jdbcTemplate.queryForObject(countQuery(tenantId), Integer.class);
     log.info("reindex::count={}", totalRecords);
-    ReindexJobProgressTracker progressTracker = new ReindexJobProgressTracker(totalRecords == null ? 0 : totalRecords);
-
-    TypeReference<HeadingRef[]> headingTypeRef = new TypeReference<>() { };
-    TypeReference<AuthorityIdentifier[]> identifierTypeRef = new TypeReference<>() { };
-    TypeReference<AuthorityNote[]> noteTypeRef = new TypeReference<>() { };
-    jdbcTemplate.setFetchSize(50);
-    var query = selectQuery(context.getTenantId());
-    try (var authorityStream = jdbcTemplate.queryForStream(query,
-        (rs, rowNum) -> toAuthority(rs, headingTypeRef, identifierTypeRef, noteTypeRef))) {
-      authorityStream
-        .forEach(authority -> {
-          eventPublisher.publishReindexEvent(authority, context);
-          progressTracker.incrementProcessedCount();
-          reindexService.logJobProgress(progressTracker, context.getJobId());
-        });
+
+    var partitions = resolvePartitions(context.reindexJob());
+    var published = partitions.stream().mapToInt(ReindexJobPartition::getPublished).sum();
+    var state = new ReindexState(context, tenantId, partitions,
+      new ReindexJobProgressTracker(totalRecords == null ? 0 : totalRecords, published));
+    var pendingPartitions = partitions.stream().filter(partition -> !partition.isCompleted()).toList();
+    log.info("reindex::partitions [total: {}, pending: {}, published: {}]",
+      partitions.size(), pendingPartitions.size(), published);
+
+    var moduleMetadata = folioExecutionContext.getFolioModuleMetadata();
+    var okapiHeaders = folioExecutionContext.getOkapiHeaders();
+    try {
+      var futures = pendingPartitions.stream()
+        .map(partition -> CompletableFuture.runAsync(() -> {
+          try (var ignored = new FolioExecutionContextSetter(moduleMetadata, okapiHeaders)) {
+            reindexPartition(state, partition);
+          }
+        }, reindexTaskExecutor).whenComplete((result, throwable) -> {
+          if (throwable != null) {
+            log.warn("reindex::partition {} failed", partition.getIndex(), throwable);
+            state.stopped.set(true);
+          }
+        }))
+        .toArray(CompletableFuture[]::new);
+      CompletableFuture.allOf(futures).join();
     } catch (Exception e) {
       log.warn(e);
       reindexService.logJobFailed(context.getJobId());
@@ -82,6 +111,70 @@ public class AuthorityReindexJobRunner implements ReindexJobRunner {
     reindexService.logJobSuccess(context.getJobId());
   }
 
+  private void reindexPartition(ReindexState state, ReindexJobPartition partition) {
+    var context = state.context;
+    var tenantId = state.tenantId;
+    var batchSize = reindexProperties.getBatchSize();
+    var headingTypeRef = new TypeReference<HeadingRef[]>() { };
+    var identifierTypeRef = new TypeReference<AuthorityIdentifier[]>() { };
+    var noteTypeRef = new TypeReference<AuthorityNote[]>() { };
+
+    var completed = false;
+    while (!completed && !state.stopped.get()) {
+      var page = jdbcTemplate.query(pageQuery(tenantId, partition),
+        (rs, rowNum) -> toAuthority(rs, headingTypeRef, identifierTypeRef, noteTypeRef),
+        pageQueryArgs(partition, batchSize));
+      var failures = eventPublisher.publishReindexEvents(page, context);
+      if (!failures.isEmpty()) {
+        throw new IllegalStateException(
+          String.format("Failed to publish %s reindex events of partition %s", failures.size(), partition.getIndex()));
+      }
+      completed = page.size() < batchSize;
+      var lastId = page.isEmpty() ? null : page.get(page.size() - 1).getId();
+      state.checkpoint(partition, lastId, page.size(), completed);
+    }
+  }
+
+  private List<ReindexJobPartition> resolvePartitions(ReindexJob reindexJob) {
+    var partitions = reindexJob.getPartitions();
+    if (partitions != null && !partitions.isEmpty()) {
+      return partitions.stream().map(ReindexJobPartition::copy).toList();
+    }
+    return splitPartitions(reindexProperties.getPartitions());
+  }
+
+  /**
+   * Splits uuid space into equal ranges by the most significant bits.
+   * Bounds are compared by postgres as unsigned byte sequences, so ranges are built on unsigned values.
+   */
+  static List<ReindexJobPartition> splitPartitions(int count) {
+    var partitions = new ArrayList<ReindexJobPartition>(count);
+    for (int i = 0; i < count; i++) {
+      var lowerBound = partitionBound(i, count);
+      var upperBound = i == count - 1 ? null : partitionBound(i + 1, count);
+      partitions.add(new ReindexJobPartition(i, lowerBound, upperBound, null, 0, false));
+    }
+    return partitions;
+  }
+
+  private static UUID partitionBound(int index, int count) {
+    var mostSigBits = UUID_MSB_RANGE.multiply(BigInteger.valueOf(index)).divide(BigInteger.valueOf(count));
+    return new UUID(mostSigBits.longValue(), 0L);
+  }
+
+  private String pageQuery(String tenant, ReindexJobPartition partition) {
+    var lowerBoundOperator = partition.getLastId() == null ? ">=" : ">";
+    var upperBoundCondition = partition.getUpperBound() == null ? "" : " AND id < ?";
+    return String.format(PAGE_QUERY_TEMPLATE, tenant, lowerBoundOperator, upperBoundCondition);
+  }
+
+  private Object[] pageQueryArgs(ReindexJobPartition partition, int batchSize) {
+    var from = partition.getLastId() == null ? partition.getLowerBound() : partition.getLastId();
+    return partition.getUpperBound() == null
+           ? new Object[] {from, batchSize}
+           : new Object[] {from, partition.getUpperBound(), batchSize};
+  }
+
   private AuthorityDto toAuthority(ResultSet rs,
                                    TypeReference<HeadingRef[]> headingRefType,
                                    TypeReference<AuthorityIdentifier[]> identifierTypeRef,
@@ -150,7 +243,55 @@ public class AuthorityReindexJobRunner implements ReindexJobRunner {
     return String.format(COUNT_QUERY_TEMPLATE, tenant);
   }
 
-  private String selectQuery(String tenant) {
-    return String.format(SELECT_QUERY_TEMPLATE, tenant);
+  @RequiredArgsConstructor
+  private final class ReindexState {
+
+    private final ReindexContext context;
+    private final String tenantId;
+    private final List<ReindexJobPartition> partitions;
+    private final ReindexJobProgressTracker progressTracker;
+    private final AtomicBoolean stopped = new AtomicBoolean(false);
+    private final ReentrantLock storeLock = new ReentrantLock();
+    private long lastStoredAt;
+    private long snapshotVersion;
+    private long storedVersion;
+
+    /**
+     * Moves partition checkpoint and stores checkpoints of all partitions if the checkpoint interval has passed
+     * or the partition is completed. Snapshots are taken under the state monitor and stored outside of it,
+     * so workers don't wait for the database, a snapshot older than the stored one is skipped.
+     */
+    private void checkpoint(ReindexJobPartition partition, UUID lastId, int count, boolean completed) {
+      List<ReindexJobPartition> snapshot;
+      int processed;
+      long version;
+      synchronized (this) {
+        if (lastId != null) {
+          partition.setLastId(lastId);
+        }
+        partition.setPublished(partition.getPublished() + count);
+        partition.setCompleted(completed);
+        progressTracker.addProcessedCount(count);
+
+        var now = System.currentTimeMillis();
+        if (!completed && now - lastStoredAt < reindexProperties.getCheckpointIntervalMs()) {
+          return;
+        }
+        lastStoredAt = now;
+        snapshot = partitions.stream().map(ReindexJobPartition::copy).toList();
+        processed = progressTracker.getProcessedCount();
+        version = ++snapshotVersion;
+      }
+
+      storeLock.lock();
+      try {
+        if (version > storedVersion) {
+          reindexService.logPartitionsProgress(context.getJobId(), snapshot, processed);
+          storedVersion = version;
+        }
+      } finally {
+        storeLock.unlock();
+      }
+    }
   }
 }
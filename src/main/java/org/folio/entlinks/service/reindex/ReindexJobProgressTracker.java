@@ -9,8 +9,12 @@ public class ReindexJobProgressTracker {
   private final AtomicInteger processedCount;
 
   public ReindexJobProgressTracker(int totalRecords) {
+    this(totalRecords, 0);
+  }
+
+  public ReindexJobProgressTracker(int totalRecords, int processedCount) {
     this.totalRecords = new AtomicInteger(totalRecords);
-    this.processedCount = new AtomicInteger(0);
+    this.processedCount = new AtomicInteger(processedCount);
   }
 
   public synchronized void incrementProcessedCount() {
@@ -18,6 +22,11 @@ public class ReindexJobProgressTracker {
     log.debug("Progress: {} / {} records processed", processedCount, totalRecords);
   }
 
+  public void addProcessedCount(int count) {
+    processedCount.addAndGet(count);
+    log.debug("Progress: {} / {} records processed", processedCount, totalRecords);
+  }
+
   public int getTotalRecords() {
     return totalRecords.intValue();
   }
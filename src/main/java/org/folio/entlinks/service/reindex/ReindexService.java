@@ -7,11 +7,13 @@ import static org.folio.entlinks.domain.entity.ReindexJobStatus.IN_PROGRESS;
 import static org.folio.entlinks.domain.entity.ReindexJobStatus.PENDING_CANCEL;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.entlinks.domain.entity.ReindexJob;
+import org.folio.entlinks.domain.entity.ReindexJobPartition;
 import org.folio.entlinks.domain.entity.ReindexJobResource;
 import org.folio.entlinks.domain.repository.ReindexJobRepository;
 import org.folio.entlinks.exception.ReindexJobNotFoundException;
@@ -63,19 +65,28 @@ public class ReindexService {
   }
 
   @Transactional
-  public void logJobProgress(ReindexJobProgressTracker progressTracker, UUID jobId) {
-    if (!shouldLogJobProgress(progressTracker)) {
-      return;
+  public ReindexJob resumeReindex(UUID jobId) {
+    var reindexJob = getById(jobId);
+    var jobStatus = reindexJob.getJobStatus();
+    if (jobStatus == IDS_PUBLISHED) {
+      throw new IllegalStateException("The job has been finished");
     }
-    var jobOptional = repository.findById(jobId);
-    if (jobOptional.isPresent()) {
-      var reindexJob = jobOptional.get();
-      if (reindexJob.getJobStatus() == PENDING_CANCEL) {
-        throw new IllegalStateException("The job has been cancelled");
-      }
-      reindexJob.setPublished(progressTracker.getProcessedCount());
-      repository.saveAndFlush(reindexJob);
+    if (jobStatus == IN_PROGRESS || jobStatus == PENDING_CANCEL) {
+      throw new IllegalStateException("The job is in progress");
+    }
+    reindexJob.setJobStatus(IN_PROGRESS);
+    return repository.save(reindexJob);
+  }
+
+  @Transactional
+  public void logPartitionsProgress(UUID jobId, List<ReindexJobPartition> partitions, int published) {
+    var reindexJob = repository.findById(jobId).orElseThrow(() -> new ReindexJobNotFoundException(jobId));
+    if (reindexJob.getJobStatus() == PENDING_CANCEL) {
+      throw new IllegalStateException("The job has been cancelled");
     }
+    reindexJob.setPartitions(partitions);
+    reindexJob.setPublished(published);
+    repository.saveAndFlush(reindexJob);
   }
 
   @Transactional
@@ -101,10 +112,6 @@ public class ReindexService {
     repository.save(existingJob);
   }
 
-  private boolean shouldLogJobProgress(ReindexJobProgressTracker progressTracker) {
-    return progressTracker.getProcessedCount() % 1000 == 0;
-  }
-
   private ReindexJob buildInitialJob(ReindexJobResource reindexResourceName) {
     return new ReindexJob()
         .withJobStatus(IN_PROGRESS)
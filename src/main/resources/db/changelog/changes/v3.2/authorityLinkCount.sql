@@ -0,0 +1,207 @@
+DROP TRIGGER IF EXISTS update_authority_link_count_on_insert_delete ON instance_authority_link CASCADE;
+DROP TRIGGER IF EXISTS update_authority_link_count_on_update ON instance_authority_link CASCADE;
+DROP FUNCTION IF EXISTS update_authority_link_count();
+DROP FUNCTION IF EXISTS refresh_authority_link_count(UUID[]);
+
+-- Locks counter rows of the given authorities in id order, missing counters are created with zero.
+-- Link changes and the counters rebuild lock counters before touching links multiplicity, so they don't deadlock.
+CREATE OR REPLACE FUNCTION lock_authority_link_counts(authority_ids UUID[])
+  RETURNS VOID
+  AS
+'
+BEGIN
+  INSERT INTO authority_link_count(authority_id, links_count)
+  SELECT ids.authority_id, 0 FROM unnest(authority_ids) AS ids(authority_id)
+  ORDER BY ids.authority_id
+  ON CONFLICT (authority_id) DO NOTHING;
+
+  PERFORM 1 FROM authority_link_count
+  WHERE authority_id = ANY(authority_ids)
+  ORDER BY authority_id
+  FOR UPDATE;
+END;
+'
+LANGUAGE plpgsql;
+
+-- Applies changes of links number per (authority, instance) pair.
+-- An authority counter changes only when a pair appears or disappears, so an instance linked several times
+-- to the same authority is counted once and no links of the authority are rescanned.
+CREATE OR REPLACE FUNCTION apply_authority_link_deltas(authority_ids UUID[], instance_ids UUID[], deltas INTEGER[])
+  RETURNS VOID
+  AS
+'
+BEGIN
+  IF coalesce(cardinality(authority_ids), 0) = 0 THEN
+    RETURN;
+  END IF;
+
+  PERFORM lock_authority_link_counts(ARRAY(SELECT DISTINCT ids.authority_id
+                                           FROM unnest(authority_ids) AS ids(authority_id)));
+
+  WITH delta AS (
+    SELECT d.authority_id, d.instance_id, sum(d.delta)::INTEGER AS delta
+    FROM unnest(authority_ids, instance_ids, deltas) AS d(authority_id, instance_id, delta)
+    GROUP BY d.authority_id, d.instance_id
+    HAVING sum(d.delta) <> 0
+  ), changed AS (
+    INSERT INTO authority_instance_link_count AS p (authority_id, instance_id, links_count)
+    SELECT delta.authority_id, delta.instance_id, delta.delta FROM delta
+    ORDER BY delta.authority_id, delta.instance_id
+    ON CONFLICT (authority_id, instance_id) DO UPDATE SET links_count = p.links_count + EXCLUDED.links_count
+    RETURNING p.authority_id, p.instance_id, p.links_count
+  ), presence AS (
+    SELECT c.authority_id,
+           sum((c.links_count > 0)::INTEGER - (c.links_count - d.delta > 0)::INTEGER) AS delta
+    FROM changed c
+    JOIN delta d ON d.authority_id = c.authority_id AND d.instance_id = c.instance_id
+    GROUP BY c.authority_id
+  )
+  UPDATE authority_link_count c SET links_count = c.links_count + presence.delta
+  FROM presence
+  WHERE c.authority_id = presence.authority_id AND presence.delta <> 0;
+
+  DELETE FROM authority_instance_link_count p
+  USING unnest(authority_ids, instance_ids) AS d(authority_id, instance_id)
+  WHERE p.authority_id = d.authority_id AND p.instance_id = d.instance_id AND p.links_count <= 0;
+END;
+'
+LANGUAGE plpgsql;
+
+-- Rebuilds counters and links multiplicity of authorities that drifted from actual links.
+-- Counters are locked before the recount, so changes of concurrent transactions are either counted
+-- or applied as deltas after the rebuild is committed.
+CREATE OR REPLACE FUNCTION rebuild_authority_link_counts()
+  RETURNS INTEGER
+  AS
+'
+DECLARE
+  drifted UUID[];
+BEGIN
+  drifted := ARRAY(
+    SELECT coalesce(a.authority_id, p.authority_id)
+    FROM (SELECT authority_id, instance_id, count(*)::INTEGER AS links_count
+          FROM instance_authority_link
+          GROUP BY authority_id, instance_id) a
+    FULL JOIN authority_instance_link_count p ON p.authority_id = a.authority_id AND p.instance_id = a.instance_id
+    WHERE a.links_count IS DISTINCT FROM p.links_count
+    UNION
+    SELECT coalesce(a.authority_id, c.authority_id)
+    FROM (SELECT authority_id, count(DISTINCT instance_id)::INTEGER AS links_count
+          FROM instance_authority_link
+          GROUP BY authority_id) a
+    FULL JOIN authority_link_count c ON c.authority_id = a.authority_id
+    WHERE coalesce(a.links_count, 0) <> coalesce(c.links_count, 0));
+
+  IF cardinality(drifted) = 0 THEN
+    RETURN 0;
+  END IF;
+
+  PERFORM lock_authority_link_counts(drifted);
+
+  DELETE FROM authority_instance_link_count WHERE authority_id = ANY(drifted);
+  INSERT INTO authority_instance_link_count(authority_id, instance_id, links_count)
+  SELECT authority_id, instance_id, count(*)
+  FROM instance_authority_link
+  WHERE authority_id = ANY(drifted)
+  GROUP BY authority_id, instance_id;
+
+  UPDATE authority_link_count c
+  SET links_count = (SELECT count(*) FROM authority_instance_link_count p WHERE p.authority_id = c.authority_id)
+  WHERE c.authority_id = ANY(drifted);
+
+  RETURN cardinality(drifted);
+END;
+'
+LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION update_authority_link_count_on_insert()
+  RETURNS TRIGGER
+  AS
+'
+DECLARE
+  authority_ids UUID[];
+  instance_ids UUID[];
+  deltas INTEGER[];
+BEGIN
+  SELECT array_agg(authority_id), array_agg(instance_id), array_agg(1)
+  INTO authority_ids, instance_ids, deltas
+  FROM new_links;
+
+  PERFORM apply_authority_link_deltas(authority_ids, instance_ids, deltas);
+  RETURN NULL;
+END;
+'
+LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION update_authority_link_count_on_delete()
+  RETURNS TRIGGER
+  AS
+'
+DECLARE
+  authority_ids UUID[];
+  instance_ids UUID[];
+  deltas INTEGER[];
+BEGIN
+  SELECT array_agg(authority_id), array_agg(instance_id), array_agg(-1)
+  INTO authority_ids, instance_ids, deltas
+  FROM old_links;
+
+  PERFORM apply_authority_link_deltas(authority_ids, instance_ids, deltas);
+  RETURN NULL;
+END;
+'
+LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION update_authority_link_count_on_update()
+  RETURNS TRIGGER
+  AS
+'
+DECLARE
+  authority_ids UUID[];
+  instance_ids UUID[];
+  deltas INTEGER[];
+BEGIN
+  SELECT array_agg(moved.authority_id), array_agg(moved.instance_id), array_agg(moved.delta)
+  INTO authority_ids, instance_ids, deltas
+  FROM (SELECT o.authority_id, o.instance_id, -1 AS delta
+        FROM old_links o JOIN new_links n ON n.id = o.id
+        WHERE o.authority_id IS DISTINCT FROM n.authority_id OR o.instance_id IS DISTINCT FROM n.instance_id
+        UNION ALL
+        SELECT n.authority_id, n.instance_id, 1 AS delta
+        FROM old_links o JOIN new_links n ON n.id = o.id
+        WHERE o.authority_id IS DISTINCT FROM n.authority_id OR o.instance_id IS DISTINCT FROM n.instance_id) moved;
+
+  PERFORM apply_authority_link_deltas(authority_ids, instance_ids, deltas);
+  RETURN NULL;
+END;
+'
+LANGUAGE plpgsql;
+
+-- Transition tables are not allowed for triggers with several events or with a column list,
+-- so each event has its own trigger and the update trigger filters changed links itself.
+DROP TRIGGER IF EXISTS update_authority_link_count_on_insert ON instance_authority_link CASCADE;
+CREATE TRIGGER update_authority_link_count_on_insert
+  AFTER INSERT
+  ON instance_authority_link
+  REFERENCING NEW TABLE AS new_links
+  FOR EACH STATEMENT
+  EXECUTE FUNCTION update_authority_link_count_on_insert();
+
+DROP TRIGGER IF EXISTS update_authority_link_count_on_delete ON instance_authority_link CASCADE;
+CREATE TRIGGER update_authority_link_count_on_delete
+  AFTER DELETE
+  ON instance_authority_link
+  REFERENCING OLD TABLE AS old_links
+  FOR EACH STATEMENT
+  EXECUTE FUNCTION update_authority_link_count_on_delete();
+
+DROP TRIGGER IF EXISTS update_authority_link_count_on_update ON instance_authority_link CASCADE;
+CREATE TRIGGER update_authority_link_count_on_update
+  AFTER UPDATE
+  ON instance_authority_link
+  REFERENCING OLD TABLE AS old_links NEW TABLE AS new_links
+  FOR EACH STATEMENT
+  EXECUTE FUNCTION update_authority_link_count_on_update();
+
+-- Fix counters and links multiplicity that drifted while links were counted by previous triggers
+SELECT rebuild_authority_link_counts();
@@ -156,9 +156,8 @@ class AuthorityControllerIT extends IntegrationTestBase {
       .andReturn().getResponse().getContentAsString();
     var collection = objectMapper.readValue(content, AuthorityDtoCollection.class);
     var expectedCollection = new AuthorityDtoCollection(
-      createdEntities.stream().map(authority -> new AuthorityDto().id(authority.getId())).toList(),
-      createdEntities.size()
-    );
+      createdEntities.stream().map(authority -> new AuthorityDto().id(authority.getId())).toList()
+    ).totalRecords(createdEntities.size());
 
     assertEquals(expectedCollection.getTotalRecords(), collection.getTotalRecords());
     assertEquals(new HashSet<>(expectedCollection.getAuthorities()), new HashSet<>(collection.getAuthorities()));
@@ -184,9 +183,8 @@ class AuthorityControllerIT extends IntegrationTestBase {
   void getCollectionOfIdsOnly_positive_authorityArchivesFound() throws Exception {
     var createdEntities = createAuthorityArchives();
     var expectedCollection = new AuthorityDtoCollection(
-      createdEntities.stream().map(archive -> new AuthorityDto().id(archive.getId())).toList(),
-      createdEntities.size()
-    );
+      createdEntities.stream().map(archive -> new AuthorityDto().id(archive.getId())).toList()
+    ).totalRecords(createdEntities.size());
 
     var content = tryGet(authorityEndpoint() + "?deleted={d}&idOnly={io}", true, true)
       .andExpect(status().isOk())
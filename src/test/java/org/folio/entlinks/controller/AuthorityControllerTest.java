@@ -59,13 +59,14 @@ class AuthorityControllerTest {
 
   @Test
   void shouldRetrieveAuthorities() {
-    var collectionDto = new AuthorityDtoCollection(List.of(dto), 1);
+    var collectionDto = new AuthorityDtoCollection(List.of(dto)).totalRecords(1);
     when(authorityServiceDelegate.retrieveAuthorityCollection(anyInt(), anyInt(), anyString(), anyBoolean()))
         .thenReturn(collectionDto);
     var expectedHeader = new HttpHeaders();
     expectedHeader.setContentType(MediaType.APPLICATION_JSON);
 
-    var response = controller.retrieveAuthorities(false, false, 0, 10, CQL_QUERY, List.of(ACCEPT_JSON_HEADER));
+    var response = controller.retrieveAuthorities(false, false, 0, 10, CQL_QUERY, null, null,
+        List.of(ACCEPT_JSON_HEADER));
 
     assertThat(response).isEqualTo(new ResponseEntity<>(collectionDto, expectedHeader, HttpStatus.OK));
     verifyNoInteractions(authorityArchiveServiceDelegate);
@@ -75,11 +76,12 @@ class AuthorityControllerTest {
   void shouldRetrieveAuthoritiesIds() {
     var collectionDto = new AuthorityIdDtoCollection(List.of(
       new AuthorityIdDto().id(dto.getId()),
-      new AuthorityIdDto().id(dto.getId())), 2);
+      new AuthorityIdDto().id(dto.getId()))).totalRecords(2);
     when(authorityServiceDelegate.retrieveAuthorityCollection(anyInt(), anyInt(), anyString(), anyBoolean()))
         .thenReturn(collectionDto);
 
-    var response = controller.retrieveAuthorities(false, true, 0, 10, CQL_QUERY, List.of(ACCEPT_TEXT_HEADER));
+    var response = controller.retrieveAuthorities(false, true, 0, 10, CQL_QUERY, null, null,
+        List.of(ACCEPT_TEXT_HEADER));
 
     assertThat(response.getBody())
         .isEqualTo(dto.getId().toString() + System.lineSeparator() + dto.getId().toString());
@@ -88,13 +90,14 @@ class AuthorityControllerTest {
 
   @Test
   void shouldRetrieveAuthorityArchives() {
-    var collectionDto = new AuthorityDtoCollection(List.of(dto), 1);
+    var collectionDto = new AuthorityDtoCollection(List.of(dto)).totalRecords(1);
     when(authorityArchiveServiceDelegate.retrieveAuthorityArchives(anyInt(), anyInt(), anyString(), anyBoolean()))
         .thenReturn(collectionDto);
     var expectedHeader = new HttpHeaders();
     expectedHeader.setContentType(MediaType.APPLICATION_JSON);
 
-    var response = controller.retrieveAuthorities(true, false, 0, 10, CQL_QUERY, List.of(ACCEPT_JSON_HEADER));
+    var response = controller.retrieveAuthorities(true, false, 0, 10, CQL_QUERY, null, null,
+        List.of(ACCEPT_JSON_HEADER));
 
     assertThat(response).isEqualTo(new ResponseEntity<>(collectionDto, expectedHeader, HttpStatus.OK));
     verifyNoInteractions(authorityServiceDelegate);
@@ -104,21 +107,52 @@ class AuthorityControllerTest {
   void shouldRetrieveAuthorityArchivesIds() {
     var collectionDto = new AuthorityIdDtoCollection(List.of(
       new AuthorityIdDto().id(dto.getId()),
-      new AuthorityIdDto().id(dto.getId())), 1);
+      new AuthorityIdDto().id(dto.getId()))).totalRecords(1);
     when(authorityArchiveServiceDelegate.retrieveAuthorityArchives(anyInt(), anyInt(), anyString(), anyBoolean()))
         .thenReturn(collectionDto);
 
-    var response = controller.retrieveAuthorities(true, true, 0, 10, CQL_QUERY, List.of(ACCEPT_TEXT_HEADER));
+    var response = controller.retrieveAuthorities(true, true, 0, 10, CQL_QUERY, null, null,
+        List.of(ACCEPT_TEXT_HEADER));
 
     assertThat(response.getBody())
         .isEqualTo(dto.getId().toString() + System.lineSeparator() + dto.getId().toString());
     verifyNoInteractions(authorityServiceDelegate);
   }
 
+  @Test
+  void shouldRetrieveAuthoritiesByCursor() {
+    var collectionDto = new AuthorityDtoCollection(List.of(dto)).nextCursor("next");
+    when(authorityServiceDelegate.retrieveAuthorityCollectionByCursor("*", 10, CQL_QUERY, false, "none"))
+        .thenReturn(collectionDto);
+    var expectedHeader = new HttpHeaders();
+    expectedHeader.setContentType(MediaType.APPLICATION_JSON);
+
+    var response = controller.retrieveAuthorities(false, false, 0, 10, CQL_QUERY, "*", "none",
+        List.of(ACCEPT_JSON_HEADER));
+
+    assertThat(response).isEqualTo(new ResponseEntity<>(collectionDto, expectedHeader, HttpStatus.OK));
+    verifyNoInteractions(authorityArchiveServiceDelegate);
+  }
+
+  @Test
+  void shouldRetrieveAuthorityArchivesByCursor() {
+    var collectionDto = new AuthorityDtoCollection(List.of(dto)).totalRecords(1);
+    when(authorityArchiveServiceDelegate.retrieveAuthorityArchivesByCursor("*", 10, CQL_QUERY, false, null))
+        .thenReturn(collectionDto);
+    var expectedHeader = new HttpHeaders();
+    expectedHeader.setContentType(MediaType.APPLICATION_JSON);
+
+    var response = controller.retrieveAuthorities(true, false, 0, 10, CQL_QUERY, "*", null,
+        List.of(ACCEPT_JSON_HEADER));
+
+    assertThat(response).isEqualTo(new ResponseEntity<>(collectionDto, expectedHeader, HttpStatus.OK));
+    verifyNoInteractions(authorityServiceDelegate);
+  }
+
   @Test
   void shouldThrowExceptionWhenPlainTextAcceptHeaderProvidedForAuthorities() {
     var accept = List.of(ACCEPT_TEXT_HEADER);
     assertThrows(AuthoritiesRequestNotSupportedMediaTypeException.class, () ->
-        controller.retrieveAuthorities(false, false, 0, 10, CQL_QUERY, accept));
+        controller.retrieveAuthorities(false, false, 0, 10, CQL_QUERY, null, null, accept));
   }
 }
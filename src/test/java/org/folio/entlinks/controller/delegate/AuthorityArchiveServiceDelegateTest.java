@@ -5,7 +5,11 @@ import static org.folio.entlinks.client.SettingsClient.AuthoritiesExpirationSett
 import static org.folio.entlinks.integration.SettingsService.AUTHORITIES_EXPIRE_SETTING_KEY;
 import static org.folio.entlinks.integration.SettingsService.AUTHORITIES_EXPIRE_SETTING_SCOPE;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -17,7 +21,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Stream;
+import java.util.function.Consumer;
 import org.folio.entlinks.client.SettingsClient;
 import org.folio.entlinks.config.properties.AuthorityArchiveProperties;
 import org.folio.entlinks.controller.converter.AuthorityMapper;
@@ -27,19 +31,25 @@ import org.folio.entlinks.domain.dto.AuthorityIdDtoCollection;
 import org.folio.entlinks.domain.entity.AuthorityArchive;
 import org.folio.entlinks.domain.repository.AuthorityArchiveRepository;
 import org.folio.entlinks.integration.SettingsService;
+import org.folio.entlinks.integration.dto.event.AuthorityDeleteEventSubType;
+import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
 import org.folio.entlinks.service.authority.AuthorityArchiveService;
-import org.folio.entlinks.service.authority.AuthorityDomainEventPublisher;
+import org.folio.entlinks.service.authority.AuthorityDomainEventOutboxService;
 import org.folio.entlinks.service.consortium.propagation.ConsortiumAuthorityArchivePropagationService;
 import org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -60,7 +70,7 @@ class AuthorityArchiveServiceDelegateTest {
   private AuthorityArchiveProperties authorityArchiveProperties;
 
   @Mock
-  private AuthorityDomainEventPublisher eventPublisher;
+  private AuthorityDomainEventOutboxService outboxService;
 
   @Mock
   private ConsortiumAuthorityArchivePropagationService propagationService;
@@ -71,6 +81,9 @@ class AuthorityArchiveServiceDelegateTest {
   @Mock
   private FolioExecutionContext context;
 
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
   @InjectMocks
   private AuthorityArchiveServiceDelegate delegate;
 
@@ -108,42 +121,98 @@ class AuthorityArchiveServiceDelegateTest {
 
   @Test
   void shouldExpireAuthorityArchivesWithDefaultRetentionPeriod() {
-    var archive = new AuthorityArchive();
+    var archive = authorityArchive(10);
     var dto = new AuthorityDto();
-    archive.setUpdatedDate(Timestamp.from(Instant.now().minus(10, ChronoUnit.DAYS)));
     when(authorityMapper.toDto(archive)).thenReturn(dto);
     when(settingsService.getAuthorityExpireSetting()).thenReturn(Optional.empty());
     when(authorityArchiveProperties.getRetentionPeriodInDays()).thenReturn(7);
-    when(authorityArchiveRepository.streamByUpdatedTillDateAndSourcePrefix(any(LocalDateTime.class), anyString()))
-        .thenReturn(Stream.of(archive));
+    when(authorityArchiveProperties.getChunkSize()).thenReturn(2);
+    when(authorityArchiveRepository.findChunkByUpdatedTillDateAndSourcePrefix(any(LocalDateTime.class), anyString(),
+      any(UUID.class), any(Pageable.class))).thenReturn(List.of(archive));
     when(context.getTenantId()).thenReturn(TENANT_ID);
+    mockTransactionTemplate();
 
     delegate.expire();
 
-    verify(service).delete(archive);
-    verify(eventPublisher).publishHardDeleteEvent(dto);
+    verify(service).deleteByIds(List.of(archive.getId()));
+    verifyHardDeleteEvents(dto);
     verify(propagationService)
-        .propagate(archive, ConsortiumPropagationService.PropagationType.DELETE, TENANT_ID);
+        .propagate(List.of(archive), ConsortiumPropagationService.PropagationType.DELETE, TENANT_ID);
   }
 
   @Test
   void shouldExpireAuthorityArchivesWithRetentionPeriodFromSettings() {
-    var archive = new AuthorityArchive();
+    var archive = authorityArchive(2);
     var dto = new AuthorityDto();
     var setting = new SettingsClient.SettingEntry(UUID.randomUUID(), AUTHORITIES_EXPIRE_SETTING_SCOPE,
         AUTHORITIES_EXPIRE_SETTING_KEY, new AuthoritiesExpirationSettingValue(true, 1));
-    archive.setUpdatedDate(Timestamp.from(Instant.now().minus(2, ChronoUnit.DAYS)));
     when(authorityMapper.toDto(archive)).thenReturn(dto);
     when(settingsService.getAuthorityExpireSetting()).thenReturn(Optional.of(setting));
-    when(authorityArchiveRepository.streamByUpdatedTillDateAndSourcePrefix(any(LocalDateTime.class), anyString()))
-        .thenReturn(Stream.of(archive));
+    when(authorityArchiveProperties.getChunkSize()).thenReturn(2);
+    when(authorityArchiveRepository.findChunkByUpdatedTillDateAndSourcePrefix(any(LocalDateTime.class), anyString(),
+      any(UUID.class), any(Pageable.class))).thenReturn(List.of(archive));
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    mockTransactionTemplate();
+
+    delegate.expire();
+
+    verify(service).deleteByIds(List.of(archive.getId()));
+    verifyHardDeleteEvents(dto);
+    verify(propagationService)
+        .propagate(List.of(archive), ConsortiumPropagationService.PropagationType.DELETE, TENANT_ID);
+  }
+
+  @Test
+  void shouldExpireAuthorityArchivesInKeysetOrderedChunks() {
+    var first = authorityArchive(10);
+    var second = authorityArchive(10);
+    var third = authorityArchive(10);
+    when(settingsService.getAuthorityExpireSetting()).thenReturn(Optional.empty());
+    when(authorityArchiveProperties.getRetentionPeriodInDays()).thenReturn(7);
+    when(authorityArchiveProperties.getChunkSize()).thenReturn(2);
+    when(authorityArchiveRepository.findChunkByUpdatedTillDateAndSourcePrefix(any(LocalDateTime.class), anyString(),
+      any(UUID.class), any(Pageable.class))).thenReturn(List.of(first, second), List.of(third));
+    when(authorityMapper.toDto(any(AuthorityArchive.class))).thenReturn(new AuthorityDto());
     when(context.getTenantId()).thenReturn(TENANT_ID);
+    mockTransactionTemplate();
 
     delegate.expire();
 
-    verify(service).delete(archive);
-    verify(eventPublisher).publishHardDeleteEvent(dto);
+    var lastIdCaptor = ArgumentCaptor.forClass(UUID.class);
+    verify(authorityArchiveRepository, times(2)).findChunkByUpdatedTillDateAndSourcePrefix(any(LocalDateTime.class),
+      anyString(), lastIdCaptor.capture(), eq(PageRequest.of(0, 2)));
+    assertThat(lastIdCaptor.getAllValues()).containsExactly(new UUID(0, 0), second.getId());
+    verify(service).deleteByIds(List.of(first.getId(), second.getId()));
+    verify(service).deleteByIds(List.of(third.getId()));
+    verify(outboxService, times(2)).saveEvents(anyList());
     verify(propagationService)
-        .propagate(archive, ConsortiumPropagationService.PropagationType.DELETE, TENANT_ID);
+        .propagate(List.of(first, second), ConsortiumPropagationService.PropagationType.DELETE, TENANT_ID);
+    verify(propagationService)
+        .propagate(List.of(third), ConsortiumPropagationService.PropagationType.DELETE, TENANT_ID);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void verifyHardDeleteEvents(AuthorityDto dto) {
+    var captor = ArgumentCaptor.forClass(List.class);
+    verify(outboxService).saveEvents(captor.capture());
+    assertThat((List<AuthorityDomainEvent>) captor.getValue()).singleElement()
+      .satisfies(event -> {
+        assertThat(event.getDeleteEventSubType()).isEqualTo(AuthorityDeleteEventSubType.HARD_DELETE);
+        assertThat(event.getOldEntity()).isEqualTo(dto);
+      });
+  }
+
+  private void mockTransactionTemplate() {
+    doAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any());
+  }
+
+  private AuthorityArchive authorityArchive(int daysAgo) {
+    var archive = new AuthorityArchive();
+    archive.setId(UUID.randomUUID());
+    archive.setUpdatedDate(Timestamp.from(Instant.now().minus(daysAgo, ChronoUnit.DAYS)));
+    return archive;
   }
 }
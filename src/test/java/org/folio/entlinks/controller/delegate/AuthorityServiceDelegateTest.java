@@ -1,6 +1,7 @@
 package org.folio.entlinks.controller.delegate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entlinks.integration.dto.event.AuthorityDeleteEventSubType.SOFT_DELETE;
 import static org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.PropagationType.CREATE;
 import static org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.PropagationType.DELETE;
 import static org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.PropagationType.UPDATE;
@@ -17,17 +18,28 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.folio.entlinks.controller.converter.AuthorityMapper;
+import org.folio.entlinks.domain.dto.AuthorityBulkRequest;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.dto.AuthorityIdDto;
 import org.folio.entlinks.domain.dto.AuthorityIdDtoCollection;
 import org.folio.entlinks.domain.entity.Authority;
-import org.folio.entlinks.service.authority.AuthorityDomainEventPublisher;
+import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
+import org.folio.entlinks.integration.dto.event.DomainEvent;
+import org.folio.entlinks.integration.dto.event.DomainEventType;
+import org.folio.entlinks.service.authority.AuthorityBulkUpsertResult;
+import org.folio.entlinks.service.authority.AuthorityBulkUpsertService;
+import org.folio.entlinks.service.authority.AuthorityDomainEventOutboxRelay;
+import org.folio.entlinks.service.authority.AuthorityDomainEventOutboxService;
+import org.folio.entlinks.service.authority.AuthorityS3Service;
+import org.folio.entlinks.service.authority.AuthorityS3Service.AuthorityBulkConsumer;
 import org.folio.entlinks.service.authority.AuthorityService;
 import org.folio.entlinks.service.authority.AuthorityUpdateResult;
 import org.folio.entlinks.service.consortium.UserTenantsService;
+import org.folio.entlinks.service.consortium.propagation.ConsortiumAuthorityBulkPropagationService;
 import org.folio.entlinks.service.consortium.propagation.ConsortiumAuthorityPropagationService;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.testing.type.UnitTest;
@@ -40,23 +52,36 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
 class AuthorityServiceDelegateTest {
 
-  private final ArgumentCaptor<AuthorityDto> captor = ArgumentCaptor.forClass(AuthorityDto.class);
+  @SuppressWarnings("unchecked")
+  private final ArgumentCaptor<List<DomainEvent<AuthorityDto>>> captor = ArgumentCaptor.forClass(List.class);
   @Mock
   private AuthorityService service;
   @Mock
+  private AuthorityBulkUpsertService bulkUpsertService;
+  @Mock
   private AuthorityMapper mapper;
   @Mock
-  private AuthorityDomainEventPublisher eventPublisher;
+  private AuthorityDomainEventOutboxService outboxService;
+  @Mock
+  private AuthorityDomainEventOutboxRelay outboxRelay;
+  @Mock
+  private TransactionTemplate transactionTemplate;
   @Mock
   private FolioExecutionContext context;
   @Mock
   private ConsortiumAuthorityPropagationService propagationService;
   @Mock
+  private ConsortiumAuthorityBulkPropagationService bulkPropagationService;
+  @Mock
+  private AuthorityS3Service authorityS3Service;
+  @Mock
   private UserTenantsService userTenantsService;
   @InjectMocks
   private AuthorityServiceDelegate delegate;
@@ -65,6 +90,8 @@ class AuthorityServiceDelegateTest {
   void setUp() {
     lenient().when(context.getTenantId()).thenReturn(TENANT_ID);
     lenient().when(userTenantsService.getCentralTenant(any())).thenReturn(Optional.empty());
+    lenient().when(transactionTemplate.execute(any()))
+      .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
   }
 
   @Test
@@ -104,9 +131,14 @@ class AuthorityServiceDelegateTest {
     var created = delegate.createAuthority(dto);
 
     // then
-    verify(eventPublisher).publishCreateEvent(captor.capture());
+    verify(outboxService).saveEvents(captor.capture());
     assertEquals(expectedDto, created);
-    assertEquals(expectedDto, captor.getValue());
+    assertThat(captor.getValue()).singleElement()
+      .satisfies(event -> {
+        assertEquals(DomainEventType.CREATE, event.getType());
+        assertEquals(id, event.getId());
+        assertEquals(expectedDto, event.getNewEntity());
+      });
     verify(propagationService).propagate(entity, CREATE, TENANT_ID);
   }
 
@@ -127,15 +159,18 @@ class AuthorityServiceDelegateTest {
     when(service.update(eq(modifiedEntity), anyBoolean()))
       .thenReturn(new AuthorityUpdateResult(existingEntity, modifiedEntity));
     doNothing().when(propagationService).propagate(modifiedEntity, UPDATE, TENANT_ID);
-    var captor2 = ArgumentCaptor.forClass(AuthorityDto.class);
 
     // when
     delegate.updateAuthority(id, modificationDto);
 
     // then
-    verify(eventPublisher).publishUpdateEvent(captor.capture(), captor2.capture());
-    assertEquals(oldDto, captor.getValue());
-    assertEquals(newDto, captor2.getValue());
+    verify(outboxService).saveEvents(captor.capture());
+    assertThat(captor.getValue()).singleElement()
+      .satisfies(event -> {
+        assertEquals(DomainEventType.UPDATE, event.getType());
+        assertEquals(oldDto, event.getOldEntity());
+        assertEquals(newDto, event.getNewEntity());
+      });
     verify(service).update(any(Authority.class), anyBoolean());
     verifyNoMoreInteractions(service);
     verify(mapper, times(2)).toDto(any(Authority.class));
@@ -159,12 +194,52 @@ class AuthorityServiceDelegateTest {
     delegate.deleteAuthorityById(id);
 
     // then
-    verify(eventPublisher).publishSoftDeleteEvent(captor.capture());
-    assertEquals(dto, captor.getValue());
+    verify(outboxService).saveEvents(captor.capture());
+    assertThat(captor.getValue()).singleElement()
+      .isInstanceOfSatisfying(AuthorityDomainEvent.class, event -> {
+        assertEquals(DomainEventType.DELETE, event.getType());
+        assertEquals(SOFT_DELETE, event.getDeleteEventSubType());
+        assertEquals(dto, event.getOldEntity());
+      });
     verify(service).deleteById(id);
     verifyNoMoreInteractions(service);
     verify(mapper).toDto(any(Authority.class));
     verify(propagationService).propagate(entity, DELETE, TENANT_ID);
   }
 
+  @Test
+  void shouldUpsertAuthoritiesAndPropagateChunkOnce() {
+    // given
+    var created = new Authority();
+    created.setId(UUID.randomUUID());
+    var updated = new Authority();
+    updated.setId(UUID.randomUUID());
+    var chunk = List.of(created, updated);
+    when(mapper.toDto(any(Authority.class))).thenReturn(new AuthorityDto());
+    when(bulkUpsertService.upsert(chunk)).thenReturn(new AuthorityBulkUpsertResult(List.of(
+      new AuthorityUpdateResult(null, created), new AuthorityUpdateResult(new Authority(updated), updated)), Map.of()));
+    when(authorityS3Service.processAuthorities(any(), any())).thenAnswer(invocation -> {
+      invocation.<AuthorityBulkConsumer>getArgument(1).accept(chunk);
+      return 0;
+    });
+
+    // when
+    var response = delegate.createAuthorities(new AuthorityBulkRequest("records.jsonl"));
+
+    // then
+    assertEquals(0, response.getErrorsNumber());
+    verify(outboxService).saveEvents(captor.capture());
+    assertThat(captor.getValue()).extracting(DomainEvent::getType)
+      .containsExactly(DomainEventType.CREATE, DomainEventType.UPDATE);
+    verify(bulkPropagationService).propagate(chunk, UPDATE, TENANT_ID);
+    verifyNoMoreInteractions(propagationService);
+  }
+
+  @Test
+  void shouldRelayDomainEvents() {
+    delegate.relayDomainEvents();
+
+    verify(outboxRelay).relay();
+  }
+
 }
@@ -26,7 +26,7 @@ import org.folio.entlinks.domain.entity.AuthorityDataStat;
 import org.folio.entlinks.domain.entity.AuthorityDataStatAction;
 import org.folio.entlinks.domain.entity.AuthoritySourceFile;
 import org.folio.entlinks.domain.entity.AuthoritySourceFileCode;
-import org.folio.entlinks.domain.repository.AuthoritySourceFileRepository;
+import org.folio.entlinks.service.authority.AuthoritySourceFileRegistry;
 import org.folio.entlinks.service.links.AuthorityDataStatService;
 import org.folio.spring.client.UsersClient;
 import org.folio.spring.model.ResultList;
@@ -55,7 +55,7 @@ class InstanceAuthorityStatServiceDelegateTest {
   private static final int LIMIT_SIZE = 2;
 
   private @Mock AuthorityDataStatService statService;
-  private @Mock AuthoritySourceFileRepository sourceFileRepository;
+  private @Mock AuthoritySourceFileRegistry sourceFileRegistry;
   private @Mock DataStatsMapper mapper;
   private @Mock UsersClient usersClient;
   private @InjectMocks InstanceAuthorityStatServiceDelegate delegate;
@@ -64,7 +64,7 @@ class InstanceAuthorityStatServiceDelegateTest {
 
   @BeforeEach
   void setUp() {
-    delegate = new InstanceAuthorityStatServiceDelegate(statService, mapper, usersClient, sourceFileRepository);
+    delegate = new InstanceAuthorityStatServiceDelegate(statService, mapper, usersClient, sourceFileRegistry);
     sourceFile = new AuthoritySourceFile();
     sourceFile.setId(TEST_ID);
     sourceFile.setBaseUrl(INPUT_BASE_URL);
@@ -94,7 +94,7 @@ class InstanceAuthorityStatServiceDelegateTest {
   @Test
   void fetchStats() {
     //  WHEN
-    when(sourceFileRepository.findById(any(UUID.class))).thenReturn(Optional.of(sourceFile));
+    when(sourceFileRegistry.findById(any(UUID.class))).thenReturn(Optional.of(sourceFile));
     var authorityChangeStatDtoCollection = delegate
       .fetchAuthorityLinksStats(FROM_DATE, TO_DATE, DATA_STAT_ACTION, LIMIT_SIZE);
 
@@ -137,7 +137,7 @@ class InstanceAuthorityStatServiceDelegateTest {
   @Test
   void fetchStats_whenUpdatedUserIsNull() {
     //  WHEN
-    when(sourceFileRepository.findById(any(UUID.class))).thenReturn(Optional.of(sourceFile));
+    when(sourceFileRegistry.findById(any(UUID.class))).thenReturn(Optional.of(sourceFile));
     when(usersClient.query(anyString())).thenReturn(ResultList.of(0, null));
 
     var authorityChangeStatDtoCollection = delegate
@@ -174,7 +174,7 @@ class InstanceAuthorityStatServiceDelegateTest {
   @Test
   void fetchStats_withoutSourceFile() {
     //  WHEN
-    when(sourceFileRepository.findById(any(UUID.class))).thenReturn(Optional.empty());
+    when(sourceFileRegistry.findById(any(UUID.class))).thenReturn(Optional.empty());
 
     var authorityChangeStatDtoCollection = delegate
       .fetchAuthorityLinksStats(FROM_DATE, TO_DATE, DATA_STAT_ACTION, LIMIT_SIZE);
@@ -0,0 +1,29 @@
+package org.folio.entlinks.domain.entity;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class AuthorityDataStatTest {
+
+  @Test
+  void testIsNew_WhenIdIsAssignedBeforePersist() {
+    var dataStat = AuthorityDataStat.builder().id(UUID.randomUUID()).build();
+    assertTrue(dataStat.isNew());
+
+    var constructedDataStat = new AuthorityDataStat();
+    constructedDataStat.setId(UUID.randomUUID());
+    assertTrue(constructedDataStat.isNew());
+  }
+
+  @Test
+  void testIsNew_WhenPersistedOrLoaded() {
+    var dataStat = AuthorityDataStat.builder().id(UUID.randomUUID()).build();
+    dataStat.markNotNew();
+    assertFalse(dataStat.isNew());
+  }
+}
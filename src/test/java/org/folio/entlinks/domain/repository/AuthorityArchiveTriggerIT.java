@@ -0,0 +1,63 @@
+package org.folio.entlinks.domain.repository;
+
+import static org.folio.support.DatabaseHelper.AUTHORITY_ARCHIVE_TABLE;
+import static org.folio.support.DatabaseHelper.AUTHORITY_TABLE;
+import static org.folio.support.TestDataUtils.AuthorityTestData.authority;
+import static org.folio.support.base.TestConstants.TENANT_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.UUID;
+import org.folio.spring.testing.extension.DatabaseCleanup;
+import org.folio.spring.testing.type.IntegrationTest;
+import org.folio.support.base.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@IntegrationTest
+@DatabaseCleanup(tables = {AUTHORITY_ARCHIVE_TABLE, AUTHORITY_TABLE}, tenants = TENANT_ID)
+class AuthorityArchiveTriggerIT extends IntegrationTestBase {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeAll
+  static void prepare() {
+    setUpTenant();
+  }
+
+  @Test
+  void multiRowSoftDelete_archivesOnlyAuthoritiesSwitchedToDeleted() {
+    var authority1 = saveAuthority(0, false);
+    var authority2 = saveAuthority(1, false);
+    var deleted = saveAuthority(2, true);
+
+    execute("UPDATE %s SET deleted = true, _version = _version + 1 WHERE id IN (?, ?, ?)",
+      authority1, authority2, deleted);
+
+    assertEquals(2, databaseHelper.countRows(AUTHORITY_ARCHIVE_TABLE, TENANT_ID));
+    assertEquals(0, databaseHelper.countRowsWhere(AUTHORITY_ARCHIVE_TABLE, TENANT_ID, "id = '" + deleted + "'"));
+  }
+
+  @Test
+  void update_doesNotArchiveNotDeletedAuthorities() {
+    var authority = saveAuthority(0, false);
+
+    execute("UPDATE %s SET heading = 'updated', _version = _version + 1 WHERE id = ?", authority);
+
+    assertEquals(0, databaseHelper.countRows(AUTHORITY_ARCHIVE_TABLE, TENANT_ID));
+  }
+
+  private UUID saveAuthority(int authorityIdNum, boolean deleted) {
+    var authority = authority(authorityIdNum, 0);
+    authority.setAuthoritySourceFile(null);
+    authority.setDeleted(deleted);
+    databaseHelper.saveAuthority(TENANT_ID, authority);
+    return authority.getId();
+  }
+
+  private void execute(String sql, Object... args) {
+    jdbcTemplate.update(sql.formatted(databaseHelper.getDbPath(TENANT_ID, AUTHORITY_TABLE)), args);
+  }
+}
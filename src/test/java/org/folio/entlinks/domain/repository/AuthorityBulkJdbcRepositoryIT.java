@@ -0,0 +1,121 @@
+package org.folio.entlinks.domain.repository;
+
+import static org.folio.support.DatabaseHelper.AUTHORITY_TABLE;
+import static org.folio.support.TestDataUtils.AuthorityTestData.authority;
+import static org.folio.support.base.TestConstants.TENANT_ID;
+import static org.folio.support.base.TestConstants.USER_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.folio.entlinks.domain.entity.Authority;
+import org.folio.entlinks.domain.entity.AuthorityNote;
+import org.folio.entlinks.domain.entity.HeadingRef;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.spring.testing.extension.DatabaseCleanup;
+import org.folio.spring.testing.type.IntegrationTest;
+import org.folio.support.base.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@IntegrationTest
+@DatabaseCleanup(tables = {AUTHORITY_TABLE}, tenants = TENANT_ID)
+class AuthorityBulkJdbcRepositoryIT extends IntegrationTestBase {
+
+  @Autowired
+  private AuthorityBulkJdbcRepository repository;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+  @Autowired
+  private FolioModuleMetadata moduleMetadata;
+
+  @BeforeAll
+  static void prepare() {
+    setUpTenant();
+  }
+
+  @Test
+  void upsert_positive_insertsNewAuthorityWithLongHeading() {
+    var authority = authority(0, 0);
+    authority.setAuthoritySourceFile(null);
+    authority.setHeading("h".repeat(2500));
+    authority.setSftHeadings(List.of(new HeadingRef("personalName", "sft \"quoted\", heading")));
+    authority.setNotes(List.of(new AuthorityNote(UUID.randomUUID(), "note", false)));
+
+    var rows = inTransaction(() -> repository.upsert(List.of(authority)));
+
+    assertEquals(1, rows.size());
+    var row = rows.get(0);
+    assertTrue(row.isApplied());
+    assertNull(row.existing());
+    assertEquals(authority.getHeading(), row.upserted().getHeading());
+    assertEquals(authority.getSftHeadings(), row.upserted().getSftHeadings());
+    assertEquals(authority.getNotes(), row.upserted().getNotes());
+    assertEquals(UUID.fromString(USER_ID), row.upserted().getCreatedByUserId());
+    assertEquals(1, databaseHelper.countRows(AUTHORITY_TABLE, TENANT_ID));
+  }
+
+  @Test
+  void upsert_positive_updatesExistingAuthorityAndRejectsStaleVersion() {
+    var updated = saveAuthority(0);
+    var stale = saveAuthority(1);
+    inTransaction(() -> repository.upsert(List.of(stale)));
+    updated.setHeading("updatedHeading");
+    stale.setHeading("staleHeading");
+
+    var rows = inTransaction(() -> repository.upsert(List.of(updated, stale)));
+
+    var updatedRow = rows.stream().filter(row -> row.id().equals(updated.getId())).findFirst().orElseThrow();
+    assertTrue(updatedRow.isApplied());
+    assertEquals("updatedHeading", updatedRow.upserted().getHeading());
+    assertEquals(1, updatedRow.upserted().getVersion());
+    assertNotNull(updatedRow.existing());
+    var staleRow = rows.stream().filter(row -> row.id().equals(stale.getId())).findFirst().orElseThrow();
+    assertFalse(staleRow.isApplied());
+    assertEquals(1, staleRow.existing().getVersion());
+    assertEquals(1, databaseHelper.queryAuthorityVersion(TENANT_ID, stale.getId()));
+  }
+
+  @Test
+  void upsert_positive_returnsStoredAuthoritiesForMultiRowUpdate() {
+    var first = saveAuthority(0);
+    var second = saveAuthority(1);
+    var storedHeadings = Map.of(first.getId(), first.getHeading(), second.getId(), second.getHeading());
+    first.setHeading("firstUpdated");
+    second.setHeading("secondUpdated");
+
+    var rows = inTransaction(() -> repository.upsert(List.of(first, second)));
+
+    assertEquals(2, rows.size());
+    for (var row : rows) {
+      assertTrue(row.isApplied());
+      assertNotNull(row.existing());
+      assertEquals(row.id(), row.existing().getId());
+      assertEquals(storedHeadings.get(row.id()), row.existing().getHeading());
+      assertEquals(0, row.existing().getVersion());
+      assertEquals(1, row.upserted().getVersion());
+    }
+  }
+
+  private Authority saveAuthority(int authorityIdNum) {
+    var authority = authority(authorityIdNum, 0);
+    authority.setAuthoritySourceFile(null);
+    databaseHelper.saveAuthority(TENANT_ID, authority);
+    return authority;
+  }
+
+  private <T> T inTransaction(Supplier<T> action) {
+    try (var ignored = new FolioExecutionContextSetter(moduleMetadata, okapiHeaders())) {
+      return transactionTemplate.execute(status -> action.get());
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package org.folio.entlinks.domain.repository;
+
+import static org.folio.support.DatabaseHelper.AUTHORITY_TABLE;
+import static org.folio.support.TestDataUtils.AuthorityTestData.authority;
+import static org.folio.support.base.TestConstants.TENANT_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.spring.testing.extension.DatabaseCleanup;
+import org.folio.spring.testing.type.IntegrationTest;
+import org.folio.support.base.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@IntegrationTest
+@DatabaseCleanup(tables = {AUTHORITY_TABLE}, tenants = TENANT_ID)
+class AuthorityCqlRepositoryIT extends IntegrationTestBase {
+
+  @Autowired
+  private AuthorityRepository repository;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private FolioModuleMetadata moduleMetadata;
+
+  @BeforeAll
+  static void prepare() {
+    setUpTenant();
+  }
+
+  @Test
+  void estimateCountByCql_positive_excludesSoftDeletedAuthorities() {
+    saveAuthority(0, false);
+    saveAuthority(1, false);
+    saveAuthority(2, true);
+    jdbcTemplate.execute("ANALYZE " + databaseHelper.getDbPath(TENANT_ID, AUTHORITY_TABLE));
+
+    try (var ignored = new FolioExecutionContextSetter(moduleMetadata, okapiHeaders())) {
+      assertEquals(2, repository.estimateCountByCql(null));
+    }
+  }
+
+  private void saveAuthority(int authorityIdNum, boolean deleted) {
+    var authority = authority(authorityIdNum, 0);
+    authority.setAuthoritySourceFile(null);
+    authority.setDeleted(deleted);
+    databaseHelper.saveAuthority(TENANT_ID, authority);
+  }
+}
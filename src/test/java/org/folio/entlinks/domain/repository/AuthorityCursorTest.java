@@ -0,0 +1,41 @@
+package org.folio.entlinks.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.UUID;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@UnitTest
+class AuthorityCursorTest {
+
+  @Test
+  void decode_positive_encodedCursorWithSortValue() {
+    var cursor = new AuthorityCursor("2024-01-01T10:00:00.123Z", UUID.randomUUID());
+
+    assertThat(AuthorityCursor.decode(cursor.encode())).isEqualTo(cursor);
+  }
+
+  @Test
+  void decode_positive_encodedCursorWithoutSortValue() {
+    var cursor = new AuthorityCursor(null, UUID.randomUUID());
+
+    assertThat(AuthorityCursor.decode(cursor.encode())).isEqualTo(cursor);
+  }
+
+  @Test
+  void decode_positive_firstPage() {
+    assertThat(AuthorityCursor.decode(AuthorityCursor.FIRST_PAGE)).isNull();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"not base64!", "bm8tc2VwYXJhdG9y", "fG5vdC1hLXV1aWQ"})
+  void decode_negative_malformedCursor(String cursor) {
+    var exception = assertThrows(IllegalArgumentException.class, () -> AuthorityCursor.decode(cursor));
+
+    assertThat(exception.getMessage()).isEqualTo("Invalid cursor: " + cursor);
+  }
+}
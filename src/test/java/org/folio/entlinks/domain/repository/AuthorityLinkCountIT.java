@@ -0,0 +1,151 @@
+package org.folio.entlinks.domain.repository;
+
+import static java.util.UUID.randomUUID;
+import static org.folio.support.DatabaseHelper.AUTHORITY_INSTANCE_LINK_COUNT_TABLE;
+import static org.folio.support.DatabaseHelper.AUTHORITY_LINK_COUNT_TABLE;
+import static org.folio.support.DatabaseHelper.AUTHORITY_TABLE;
+import static org.folio.support.DatabaseHelper.INSTANCE_AUTHORITY_LINK_TABLE;
+import static org.folio.support.TestDataUtils.AuthorityTestData.authority;
+import static org.folio.support.base.TestConstants.TENANT_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.UUID;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.spring.testing.extension.DatabaseCleanup;
+import org.folio.spring.testing.type.IntegrationTest;
+import org.folio.support.base.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@IntegrationTest
+@DatabaseCleanup(tables = {
+  INSTANCE_AUTHORITY_LINK_TABLE,
+  AUTHORITY_INSTANCE_LINK_COUNT_TABLE,
+  AUTHORITY_LINK_COUNT_TABLE,
+  AUTHORITY_TABLE},
+  tenants = TENANT_ID)
+class AuthorityLinkCountIT extends IntegrationTestBase {
+
+  private static final UUID INSTANCE_1 = randomUUID();
+  private static final UUID INSTANCE_2 = randomUUID();
+  private static final UUID INSTANCE_3 = randomUUID();
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private FolioModuleMetadata moduleMetadata;
+
+  private UUID authority1;
+  private UUID authority2;
+
+  @BeforeAll
+  static void prepare() {
+    setUpTenant();
+  }
+
+  @BeforeEach
+  void setUp() {
+    authority1 = saveAuthority(0);
+    authority2 = saveAuthority(1);
+  }
+
+  @Test
+  void multiRowInsert_countsDuplicateInstanceLinksOnce() {
+    execute("INSERT INTO %s (authority_id, instance_id) VALUES (?, ?), (?, ?), (?, ?), (?, ?)",
+      authority1, INSTANCE_1, authority1, INSTANCE_1, authority1, INSTANCE_2, authority2, INSTANCE_1);
+
+    assertEquals(2, linksCount(authority1));
+    assertEquals(1, linksCount(authority2));
+  }
+
+  @Test
+  void multiRowDelete_decrementsDuplicateInstanceLinksOnce() {
+    execute("INSERT INTO %s (authority_id, instance_id) VALUES (?, ?), (?, ?), (?, ?)",
+      authority1, INSTANCE_1, authority1, INSTANCE_1, authority1, INSTANCE_2);
+
+    execute("DELETE FROM %s WHERE authority_id = ? AND instance_id = ?", authority1, INSTANCE_1);
+
+    assertEquals(1, linksCount(authority1));
+  }
+
+  @Test
+  void delete_keepsCountWhileDuplicateInstanceLinkExists() {
+    execute("INSERT INTO %s (authority_id, instance_id) VALUES (?, ?), (?, ?)",
+      authority1, INSTANCE_1, authority1, INSTANCE_1);
+
+    execute("DELETE FROM %s WHERE id = (SELECT min(id) FROM %1$s)");
+
+    assertEquals(1, linksCount(authority1));
+  }
+
+  @Test
+  void update_movesLinksBetweenAuthorities() {
+    execute("INSERT INTO %s (authority_id, instance_id) VALUES (?, ?), (?, ?)",
+      authority1, INSTANCE_1, authority2, INSTANCE_1);
+
+    execute("UPDATE %s SET authority_id = ?, instance_id = ? WHERE authority_id = ?",
+      authority1, INSTANCE_3, authority2);
+    execute("UPDATE %s SET error_cause = 'test' WHERE authority_id = ?", authority1);
+
+    assertEquals(2, linksCount(authority1));
+    assertEquals(0, linksCount(authority2));
+  }
+
+  @Test
+  void delete_removesInstanceMultiplicityWhenLastLinkIsDeleted() {
+    execute("INSERT INTO %s (authority_id, instance_id) VALUES (?, ?), (?, ?)",
+      authority1, INSTANCE_1, authority1, INSTANCE_2);
+
+    execute("DELETE FROM %s WHERE instance_id = ?", INSTANCE_1);
+
+    assertEquals(1, linksCount(authority1));
+    assertEquals(1, databaseHelper.countRows(AUTHORITY_INSTANCE_LINK_COUNT_TABLE, TENANT_ID));
+  }
+
+  @Test
+  void rebuild_fixesDriftedCounters() {
+    execute("INSERT INTO %s (authority_id, instance_id) VALUES (?, ?), (?, ?), (?, ?)",
+      authority1, INSTANCE_1, authority1, INSTANCE_1, authority1, INSTANCE_2);
+    jdbcTemplate.update("UPDATE %s SET links_count = 5"
+      .formatted(databaseHelper.getDbPath(TENANT_ID, AUTHORITY_LINK_COUNT_TABLE)));
+    jdbcTemplate.update("DELETE FROM %s WHERE instance_id = ?"
+      .formatted(databaseHelper.getDbPath(TENANT_ID, AUTHORITY_INSTANCE_LINK_COUNT_TABLE)), INSTANCE_2);
+
+    var rebuilt = rebuildLinkCounts();
+
+    assertEquals(1, rebuilt);
+    assertEquals(2, linksCount(authority1));
+    execute("DELETE FROM %s WHERE instance_id = ?", INSTANCE_2);
+    assertEquals(1, linksCount(authority1));
+  }
+
+  private UUID saveAuthority(int authorityIdNum) {
+    var authority = authority(authorityIdNum, 0);
+    authority.setAuthoritySourceFile(null);
+    databaseHelper.saveAuthority(TENANT_ID, authority);
+    return authority.getId();
+  }
+
+  private void execute(String sql, Object... args) {
+    try (var ignored = new FolioExecutionContextSetter(moduleMetadata, okapiHeaders())) {
+      jdbcTemplate.update(String.format(sql, databaseHelper.getDbPath(TENANT_ID, INSTANCE_AUTHORITY_LINK_TABLE)),
+        args);
+    }
+  }
+
+  private int rebuildLinkCounts() {
+    try (var ignored = new FolioExecutionContextSetter(moduleMetadata, okapiHeaders())) {
+      return jdbcTemplate.queryForObject("SELECT rebuild_authority_link_counts()", Integer.class);
+    }
+  }
+
+  private int linksCount(UUID authorityId) {
+    var sql = "SELECT coalesce(max(links_count), 0) FROM %s WHERE authority_id = ?"
+      .formatted(databaseHelper.getDbPath(TENANT_ID, AUTHORITY_LINK_COUNT_TABLE));
+    return jdbcTemplate.queryForObject(sql, Integer.class, authorityId);
+  }
+}
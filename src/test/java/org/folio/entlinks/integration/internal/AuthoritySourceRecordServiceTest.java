@@ -2,21 +2,30 @@ package org.folio.entlinks.integration.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import lombok.SneakyThrows;
 import org.folio.entlinks.client.SourceStorageClient;
-import org.folio.entlinks.domain.dto.SourceParsedRecord;
-import org.folio.entlinks.domain.dto.SourceRecord;
+import org.folio.entlinks.domain.dto.ExternalIdsHolder;
+import org.folio.entlinks.domain.dto.FetchParsedRecordsBatchRequest;
+import org.folio.entlinks.domain.dto.StrippedParsedRecord;
+import org.folio.entlinks.domain.dto.StrippedParsedRecordCollection;
+import org.folio.entlinks.domain.dto.StrippedParsedRecordParsedRecord;
 import org.folio.entlinks.exception.FolioIntegrationException;
 import org.folio.entlinks.integration.dto.AuthoritySourceRecord;
+import org.folio.entlinks.service.links.InstanceAuthorityLinkingRulesService;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.marc4j.marc.VariableField;
+import org.marc4j.marc.Subfield;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -26,114 +35,92 @@ class AuthoritySourceRecordServiceTest {
 
   private static final String VALID_SOURCE_CONTENT = """
     {
-      "content": {
-        "fields": [
-          {
-            "001": "393893"
-          },
-          {
-            "005": "20141107001016.0"
-          },
-          {
-            "010": {
-              "ind1": " ",
-              "ind2": " ",
-              "subfields": [
-                {
-                  "a": "  2001000234"
-                }
-              ]
-            }
+      "fields": [
+        {
+          "100": {
+            "ind1": "1",
+            "ind2": " ",
+            "subfields": [
+              {
+                "a": "Lansing, John"
+              },
+              {
+                "d": "1950-"
+              }
+            ]
           }
-        ],
-        "leader": "06059cz  a2201201n  4500"
-      }
-    }
-    """;
-
-  private static final String INVALID_SOURCE_CONTENT = """
-    {
-      "content": {
-        "fields": [
-          {
-            "qwert": {
-              "ind1": " ",
-              "ind2": " "
-            }
-          }
-        ]
-      }
+        }
+      ],
+      "leader": "06059cz  a2201201n  4500"
     }
     """;
 
   private final ObjectMapper mapper = new ObjectMapper();
 
   private @Mock SourceStorageClient sourceStorageClient;
+  private @Mock InstanceAuthorityLinkingRulesService linkingRulesService;
 
   private AuthoritySourceRecordService service;
 
   @BeforeEach
   void setUp() {
-    service = new AuthoritySourceRecordService(sourceStorageClient, mapper);
+    service = new AuthoritySourceRecordService(sourceStorageClient, linkingRulesService);
   }
 
   @Test
   @SneakyThrows
-  void getAuthoritySourceRecordById_positive() {
+  void getAuthoritySourceRecordsByIds_positive() {
     var authorityId = UUID.randomUUID();
-    var snapshotId = UUID.randomUUID();
-    var sourceRecord = new SourceRecord()
-      .recordId(authorityId)
-      .snapshotId(snapshotId)
-      .parsedRecord(mapper.readValue(VALID_SOURCE_CONTENT, SourceParsedRecord.class));
-
-    when(sourceStorageClient.getMarcAuthorityById(authorityId)).thenReturn(sourceRecord);
-
-    var actual = service.getAuthoritySourceRecordById(authorityId);
-
-    assertThat(actual)
-      .extracting(AuthoritySourceRecord::id, AuthoritySourceRecord::snapshotId)
-      .contains(authorityId, snapshotId);
-
-    assertThat(actual.content().getDataFields())
-      .hasSize(1)
-      .extracting(VariableField::getTag)
-      .contains("010");
-
-    assertThat(actual.content().getControlFields())
-      .hasSize(2)
-      .extracting(VariableField::getTag)
-      .contains("001", "005");
+    var parsedRecord = new StrippedParsedRecord()
+      .externalIdsHolder(new ExternalIdsHolder().authorityId(authorityId))
+      .parsedRecord(mapper.readValue("{\"content\": " + VALID_SOURCE_CONTENT + "}",
+        StrippedParsedRecordParsedRecord.class));
+    var fetchRequest = new FetchParsedRecordsBatchRequest();
+
+    when(linkingRulesService.getMinAuthorityField()).thenReturn("100");
+    when(linkingRulesService.getMaxAuthorityField()).thenReturn("155");
+    when(sourceStorageClient.buildBatchFetchRequestForAuthority(Set.of(authorityId), "100", "155"))
+      .thenReturn(fetchRequest);
+    when(sourceStorageClient.fetchParsedRecordsInBatch(fetchRequest))
+      .thenReturn(new StrippedParsedRecordCollection().records(List.of(parsedRecord)));
+
+    var actual = service.getAuthoritySourceRecordsByIds(Set.of(authorityId));
+
+    assertThat(actual).containsOnlyKeys(authorityId);
+    var sourceRecord = actual.get(authorityId);
+    assertThat(sourceRecord).extracting(AuthoritySourceRecord::id).isEqualTo(authorityId);
+    assertThat(sourceRecord.content().getLeader().marshal()).isEqualTo("06059cz  a2201201n  4500");
+    assertThat(sourceRecord.content().getDataFields()).hasSize(1);
+    var dataField = sourceRecord.content().getDataFields().get(0);
+    assertThat(dataField.getTag()).isEqualTo("100");
+    assertThat(dataField.getIndicator1()).isEqualTo('1');
+    assertThat(dataField.getIndicator2()).isEqualTo(' ');
+    assertThat(dataField.getSubfields())
+      .extracting(Subfield::getCode, Subfield::getData)
+      .containsExactly(
+        tuple('a', "Lansing, John"),
+        tuple('d', "1950-"));
   }
 
   @Test
-  @SneakyThrows
-  void getAuthoritySourceRecordById_negative_clientException() {
-    var authorityId = UUID.randomUUID();
-    var cause = new IllegalArgumentException("test");
+  void getAuthoritySourceRecordsByIds_positive_emptyIds() {
+    var actual = service.getAuthoritySourceRecordsByIds(Set.of());
 
-    when(sourceStorageClient.getMarcAuthorityById(authorityId)).thenThrow(cause);
-
-    assertThatThrownBy(() -> service.getAuthoritySourceRecordById(authorityId))
-      .isInstanceOf(FolioIntegrationException.class)
-      .hasCauseExactlyInstanceOf(cause.getClass())
-      .hasMessage("Failed to fetch source record [id: %s]", authorityId);
+    assertThat(actual).isEmpty();
+    verifyNoInteractions(sourceStorageClient);
   }
 
   @Test
-  @SneakyThrows
-  void getAuthoritySourceRecordById_negative_recordParseException() {
+  void getAuthoritySourceRecordsByIds_negative_clientException() {
     var authorityId = UUID.randomUUID();
-    var snapshotId = UUID.randomUUID();
-    var sourceRecord = new SourceRecord()
-      .recordId(authorityId)
-      .snapshotId(snapshotId)
-      .parsedRecord(mapper.readValue(INVALID_SOURCE_CONTENT, SourceParsedRecord.class));
+    var cause = new IllegalArgumentException("test");
 
-    when(sourceStorageClient.getMarcAuthorityById(authorityId)).thenReturn(sourceRecord);
+    when(sourceStorageClient.fetchParsedRecordsInBatch(any())).thenThrow(cause);
 
-    assertThatThrownBy(() -> service.getAuthoritySourceRecordById(authorityId))
+    var ids = Set.of(authorityId);
+    assertThatThrownBy(() -> service.getAuthoritySourceRecordsByIds(ids))
       .isInstanceOf(FolioIntegrationException.class)
-      .hasMessage("Failed to get content of source record");
+      .hasCauseExactlyInstanceOf(cause.getClass())
+      .hasMessage("Failed to fetch source records [ids: [%s]]", authorityId);
   }
 }
@@ -1,5 +1,7 @@
 package org.folio.entlinks.integration.internal;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -7,6 +9,7 @@ import static org.mockito.Mockito.when;
 import java.util.List;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
 import org.folio.entlinks.integration.kafka.EventProducer;
+import org.folio.entlinks.integration.kafka.EventSendFailure;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingRulesService;
 import org.folio.rspec.domain.dto.DefinitionType;
 import org.folio.rspec.domain.dto.Family;
@@ -77,4 +80,17 @@ class MarcSpecificationUpdateServiceTest {
     // Assert
     verify(eventProducer).sendMessages(argThat(events -> events.size() == 1));
   }
+
+  @Test
+  void sendSpecificationRequests_ShouldThrowWhenRequestsNotSent() {
+    // Arrange
+    var rule = new InstanceAuthorityLinkingRule();
+    rule.setBibField("100");
+    when(linkingRulesService.getLinkingRules()).thenReturn(List.of(rule));
+    when(eventProducer.sendMessages(anyList()))
+      .thenReturn(List.of(new EventSendFailure<>(null, null, new IllegalStateException("test"))));
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, () -> service.sendSpecificationRequests());
+  }
 }
@@ -94,6 +94,15 @@ class AuthorityChangeFilterStrategyTest {
     assertFalse(actual);
   }
 
+  @Test
+  void shouldFilterEvent_whenValueIsNotDecoded() {
+    mockConsumerRecord(null);
+
+    var actual = filterStrategy.filter(consumerRecord);
+
+    assertTrue(actual);
+  }
+
   @ValueSource(strings = {"REINDEX", "CREATE"})
   @ParameterizedTest
   void shouldFilterEvent_whenTypeIsNotSupported(String type) {
@@ -0,0 +1,112 @@
+package org.folio.entlinks.integration.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entlinks.integration.kafka.AuthorityDomainEventDeserializer.DOMAIN_EVENT_TYPE_HEADER;
+import static org.folio.support.base.TestConstants.TENANT_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.folio.entlinks.domain.dto.AuthorityDto;
+import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
+import org.folio.entlinks.integration.dto.event.DomainEventType;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class AuthorityDomainEventDeserializerTest {
+
+  private static final String TOPIC = "topic";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Mock
+  private Deserializer<AuthorityDomainEvent> delegate;
+
+  private AuthorityDomainEventDeserializer deserializer;
+
+  @BeforeEach
+  void setUp() {
+    deserializer = new AuthorityDomainEventDeserializer(delegate, objectMapper.getFactory());
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = DomainEventType.class, names = {"CREATE", "REINDEX"})
+  void shouldSkipDecodingByEventTypeHeader(DomainEventType type) throws Exception {
+    var event = new AuthorityDomainEvent(UUID.randomUUID(), null, authority("new"), type, TENANT_ID);
+
+    var actual = deserializer.deserialize(TOPIC, headers(type), objectMapper.writeValueAsBytes(event));
+
+    assertThat(actual).isNull();
+    verifyNoInteractions(delegate);
+  }
+
+  @Test
+  void shouldSkipDecodingWhenOldAndNewPayloadsAreSame() throws Exception {
+    var authority = authority("same");
+    var event = new AuthorityDomainEvent(UUID.randomUUID(), authority, authority, DomainEventType.UPDATE, TENANT_ID);
+
+    var actual = deserializer.deserialize(TOPIC, headers(DomainEventType.UPDATE),
+      objectMapper.writeValueAsBytes(event));
+
+    assertThat(actual).isNull();
+    verifyNoInteractions(delegate);
+  }
+
+  @Test
+  void shouldDecodeUpdateEventWithChanges() throws Exception {
+    var event = new AuthorityDomainEvent(UUID.randomUUID(), authority("old"), authority("new"),
+      DomainEventType.UPDATE, TENANT_ID);
+    var headers = headers(DomainEventType.UPDATE);
+    var data = objectMapper.writeValueAsBytes(event);
+    when(delegate.deserialize(TOPIC, headers, data)).thenReturn(event);
+
+    var actual = deserializer.deserialize(TOPIC, headers, data);
+
+    assertThat(actual).isEqualTo(event);
+  }
+
+  @Test
+  void shouldDecodeEventWithoutTypeHeader() throws Exception {
+    var event = AuthorityDomainEvent.softDeleteEvent(UUID.randomUUID(), authority("old"), TENANT_ID);
+    var headers = new RecordHeaders();
+    var data = objectMapper.writeValueAsBytes(event);
+    when(delegate.deserialize(TOPIC, headers, data)).thenReturn(event);
+
+    var actual = deserializer.deserialize(TOPIC, headers, data);
+
+    assertThat(actual).isEqualTo(event);
+  }
+
+  @Test
+  void shouldPassMalformedPayloadToDelegate() {
+    var data = "{\"old\": {".getBytes(UTF_8);
+
+    deserializer.deserialize(TOPIC, new RecordHeaders(), data);
+
+    verify(delegate).deserialize(any(), any(RecordHeaders.class), any(byte[].class));
+  }
+
+  private RecordHeaders headers(DomainEventType type) {
+    var headers = new RecordHeaders();
+    headers.add(DOMAIN_EVENT_TYPE_HEADER, type.name().getBytes(UTF_8));
+    return headers;
+  }
+
+  private AuthorityDto authority(String naturalId) {
+    return new AuthorityDto().id(UUID.randomUUID()).naturalId(naturalId).personalName("name");
+  }
+}
@@ -4,13 +4,17 @@ import static java.util.Collections.singletonList;
 import static org.folio.support.MockingTestUtils.mockBatchFailedHandling;
 import static org.folio.support.MockingTestUtils.mockBatchSuccessHandling;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.entlinks.config.properties.AuthorityEventsProperties;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.dto.Metadata;
 import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
@@ -26,7 +30,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +47,11 @@ class AuthorityEventListenerTest {
   @Mock
   private MessageBatchProcessor messageBatchProcessor;
 
+  @Spy
+  private AuthorityEventsProperties properties = new AuthorityEventsProperties();
+  @Spy
+  private TaskExecutor tenantExecutor = new SyncTaskExecutor();
+
   @Mock
   private ConsumerRecord<String, AuthorityDomainEvent> consumerRecord;
 
@@ -105,4 +118,46 @@ class AuthorityEventListenerTest {
     verify(instanceAuthorityLinkUpdateService, never()).handleAuthoritiesChanges(singletonList(event));
   }
 
+  @Test
+  void shouldHandleEventsOfDifferentTenantsInParallel_whenTenantParallelismEnabled() {
+    var parallelProperties = new AuthorityEventsProperties();
+    parallelProperties.setTenantParallelism(true);
+    var parallelExecutor = new ThreadPoolTaskExecutor();
+    parallelExecutor.setCorePoolSize(2);
+    parallelExecutor.initialize();
+    var parallelListener = new AuthorityEventListener(instanceAuthorityLinkUpdateService, executionService,
+      messageBatchProcessor, parallelProperties, parallelExecutor);
+
+    var firstTenantEvents = List.of(tenantEvent("tenant1"), tenantEvent("tenant1"));
+    var secondTenantEvent = tenantEvent("tenant2");
+    mockBatchSuccessHandling(messageBatchProcessor);
+
+    try {
+      parallelListener.handleEvents(List.of(
+        consumerRecord(firstTenantEvents.get(0)), consumerRecord(secondTenantEvent),
+        consumerRecord(firstTenantEvents.get(1))));
+    } finally {
+      parallelExecutor.shutdown();
+    }
+
+    verify(executionService).executeSystemUserScoped(eq("tenant1"), any());
+    verify(executionService).executeSystemUserScoped(eq("tenant2"), any());
+    verify(instanceAuthorityLinkUpdateService).handleAuthoritiesChanges(firstTenantEvents);
+    verify(instanceAuthorityLinkUpdateService).handleAuthoritiesChanges(singletonList(secondTenantEvent));
+  }
+
+  private AuthorityDomainEvent tenantEvent(String tenant) {
+    var authId = UUID.randomUUID();
+    var event = TestDataUtils.authorityEvent("UPDATE", new AuthorityDto().id(authId), new AuthorityDto().id(authId));
+    event.setTenant(tenant);
+    return event;
+  }
+
+  @SuppressWarnings("unchecked")
+  private ConsumerRecord<String, AuthorityDomainEvent> consumerRecord(AuthorityDomainEvent event) {
+    var value = (ConsumerRecord<String, AuthorityDomainEvent>) mock(ConsumerRecord.class);
+    when(value.key()).thenReturn(event.getId().toString());
+    when(value.value()).thenReturn(event);
+    return value;
+  }
 }
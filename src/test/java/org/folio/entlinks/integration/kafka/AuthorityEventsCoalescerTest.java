@@ -0,0 +1,94 @@
+package org.folio.entlinks.integration.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.support.base.TestConstants.TENANT_ID;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.folio.entlinks.domain.dto.AuthorityDto;
+import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
+import org.folio.entlinks.integration.dto.event.DomainEventType;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class AuthorityEventsCoalescerTest {
+
+  private final UUID authorityId = UUID.randomUUID();
+
+  @Test
+  void shouldMergeRepeatedUpdatesIntoNetChange() {
+    var otherEvent = update(UUID.randomUUID(), "a", "b");
+    var records = List.of(
+      consumerRecord(update(authorityId, "v1", "v2"), 0),
+      consumerRecord(otherEvent, 1),
+      consumerRecord(update(authorityId, "v2", "v3"), 2),
+      consumerRecord(update(authorityId, "v3", "v4"), 3));
+
+    var actual = AuthorityEventsCoalescer.coalesce(records, 0);
+
+    assertThat(actual).hasSize(2);
+    assertThat(actual.get(0).getId()).isEqualTo(authorityId);
+    assertThat(actual.get(0).getOldEntity().getNaturalId()).isEqualTo("v1");
+    assertThat(actual.get(0).getNewEntity().getNaturalId()).isEqualTo("v4");
+    assertThat(actual.get(1)).isSameAs(otherEvent);
+  }
+
+  @Test
+  void shouldDropMergedUpdatesWithoutNetChange() {
+    var records = List.of(
+      consumerRecord(update(authorityId, "v1", "v2"), 0),
+      consumerRecord(update(authorityId, "v2", "v1"), 1));
+
+    var actual = AuthorityEventsCoalescer.coalesce(records, 0);
+
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  void shouldNotMergeUpdatesAcrossDeleteEvent() {
+    var deleteEvent = AuthorityDomainEvent.softDeleteEvent(authorityId, authority("v2"), TENANT_ID);
+    var records = List.of(
+      consumerRecord(update(authorityId, "v1", "v2"), 0),
+      consumerRecord(deleteEvent, 1),
+      consumerRecord(update(authorityId, "v2", "v3"), 2));
+
+    var actual = AuthorityEventsCoalescer.coalesce(records, 0);
+
+    assertThat(actual).hasSize(3);
+    assertThat(actual.get(1)).isSameAs(deleteEvent);
+    assertThat(actual.get(2).getOldEntity().getNaturalId()).isEqualTo("v2");
+  }
+
+  @Test
+  void shouldNotMergeUpdatesOutsideOfWindow() {
+    var records = List.of(
+      consumerRecord(update(authorityId, "v1", "v2"), 0),
+      consumerRecord(update(authorityId, "v2", "v3"), 100),
+      consumerRecord(update(authorityId, "v3", "v4"), 1000));
+
+    var actual = AuthorityEventsCoalescer.coalesce(records, 500);
+
+    assertThat(actual).hasSize(2);
+    assertThat(actual.get(0).getNewEntity().getNaturalId()).isEqualTo("v3");
+    assertThat(actual.get(1).getOldEntity().getNaturalId()).isEqualTo("v3");
+  }
+
+  private AuthorityDomainEvent update(UUID id, String oldNaturalId, String newNaturalId) {
+    return new AuthorityDomainEvent(id, authority(oldNaturalId), authority(newNaturalId), DomainEventType.UPDATE,
+      TENANT_ID);
+  }
+
+  private AuthorityDto authority(String naturalId) {
+    return new AuthorityDto().id(authorityId).naturalId(naturalId);
+  }
+
+  private ConsumerRecord<String, AuthorityDomainEvent> consumerRecord(AuthorityDomainEvent event, long timestamp) {
+    return new ConsumerRecord<>("topic", 0, timestamp, timestamp, TimestampType.CREATE_TIME, 0, 0,
+      event.getId().toString(), event, new RecordHeaders(), Optional.empty());
+  }
+}
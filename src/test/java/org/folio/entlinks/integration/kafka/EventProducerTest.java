@@ -1,11 +1,17 @@
 package org.folio.entlinks.integration.kafka;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.integration.dto.event.DomainEvent;
@@ -61,4 +67,43 @@ class EventProducerTest {
     assertEquals(expectedTopicName, capturedRecord.topic());
     assertEquals(domainEvent, capturedRecord.value());
   }
+
+  @Test
+  void shouldSendMessagesAndReturnFailedOnes() {
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    var failure = new IllegalStateException("broker is not available");
+    when(template.send(any(ProducerRecord.class)))
+      .thenReturn(CompletableFuture.completedFuture(null))
+      .thenReturn(CompletableFuture.failedFuture(failure));
+    var sent = DomainEvent.createEvent(UUID.randomUUID(), new AuthorityDto(), TENANT_ID);
+    var failed = DomainEvent.createEvent(UUID.randomUUID(), new AuthorityDto(), TENANT_ID);
+
+    var failures = eventProducer.sendMessages(List.of(sent, failed));
+
+    verify(template, times(2)).send(any(ProducerRecord.class));
+    verify(template).flush();
+    assertThat(failures).hasSize(1);
+    assertEquals(failed, failures.get(0).event());
+    assertEquals(failure, failures.get(0).cause());
+  }
+
+  @Test
+  void shouldResolveContextHeadersOncePerBatch() {
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(context.getOkapiHeaders()).thenReturn(Map.of("x-okapi-tenant", List.of(TENANT_ID)));
+    when(template.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+    var batch = eventProducer.batch();
+    batch.send("key1", DomainEvent.createEvent(UUID.randomUUID(), new AuthorityDto(), TENANT_ID), "h", "v");
+    batch.send("key2", DomainEvent.createEvent(UUID.randomUUID(), new AuthorityDto(), TENANT_ID));
+    var failures = batch.flush();
+
+    var captor = ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(template, times(2)).send(captor.capture());
+    verify(context).getOkapiHeaders();
+    assertThat(failures).isEmpty();
+    assertEquals(2, batch.getSentCount());
+    assertThat(captor.getAllValues().get(0).headers().lastHeader("h")).isNotNull();
+    assertThat(captor.getAllValues().get(1).headers().lastHeader("x-okapi-tenant")).isNotNull();
+  }
 }
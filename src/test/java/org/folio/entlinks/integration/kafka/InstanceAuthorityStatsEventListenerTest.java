@@ -48,7 +48,7 @@ class InstanceAuthorityStatsEventListenerTest {
     });
   }
 
-  // Test that multiple tenants processed in different batches and jobIds in different sub-batches
+  // Test that multiple tenants processed in different batches
   @Test
   void shouldHandleEvent_positive() {
     var tenant1 = randomAlphabetic(10);
@@ -71,11 +71,9 @@ class InstanceAuthorityStatsEventListenerTest {
       .consumeBatchWithFallback(any(), any(), any(), any());
 
     verify(dataStatService)
-      .updateForReports(job1Id, singletonList(reports.get(0)));
+      .updateForReports(List.of(reports.get(0), reports.get(1)));
     verify(dataStatService)
-      .updateForReports(job2Id, singletonList(reports.get(1)));
-    verify(dataStatService)
-      .updateForReports(job1Id, List.of(reports.get(2), reports.get(3)));
+      .updateForReports(List.of(reports.get(2), reports.get(3)));
   }
 
   @Test
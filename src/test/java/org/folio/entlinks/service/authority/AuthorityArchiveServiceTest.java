@@ -1,7 +1,11 @@
 package org.folio.entlinks.service.authority;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.UUID;
 import org.folio.entlinks.domain.entity.AuthorityArchive;
 import org.folio.entlinks.domain.repository.AuthorityArchiveRepository;
 import org.folio.spring.testing.type.UnitTest;
@@ -29,4 +33,14 @@ class AuthorityArchiveServiceTest {
 
     verify(repository).delete(archive);
   }
+
+  @Test
+  void shouldDeleteAuthorityArchivesByIds() {
+    var ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+    when(repository.deleteAllByIds(ids.toArray(UUID[]::new))).thenReturn(2);
+
+    var deleted = service.deleteByIds(ids);
+
+    assertEquals(2, deleted);
+  }
 }
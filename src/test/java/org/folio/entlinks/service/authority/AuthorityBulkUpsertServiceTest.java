@@ -0,0 +1,88 @@
+package org.folio.entlinks.service.authority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import org.folio.entlinks.config.properties.AuthorityBulkProperties;
+import org.folio.entlinks.domain.entity.Authority;
+import org.folio.entlinks.domain.repository.AuthorityBulkJdbcRepository;
+import org.folio.entlinks.domain.repository.AuthorityBulkJdbcRepository.UpsertRow;
+import org.folio.entlinks.exception.AuthorityBatchProcessingException;
+import org.folio.entlinks.exception.OptimisticLockingException;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class AuthorityBulkUpsertServiceTest {
+
+  private final AuthorityBulkProperties bulkProperties = new AuthorityBulkProperties();
+
+  @Mock
+  private AuthorityService authorityService;
+  @Mock
+  private AuthorityBulkJdbcRepository bulkRepository;
+
+  private AuthorityBulkUpsertService bulkUpsertService;
+
+  @BeforeEach
+  void setUp() {
+    bulkUpsertService = new AuthorityBulkUpsertService(authorityService, bulkRepository, bulkProperties);
+  }
+
+  @Test
+  void upsert_positive_copyDisabled_upsertsWithAuthorityService() {
+    var authorities = List.of(authority(UUID.randomUUID(), 0));
+    var updateResults = List.of(new AuthorityUpdateResult(null, authorities.get(0)));
+    when(authorityService.upsert(authorities)).thenReturn(updateResults);
+
+    var result = bulkUpsertService.upsert(authorities);
+
+    assertThat(result.updateResults()).isEqualTo(updateResults);
+    assertThat(result.rejected()).isEmpty();
+    verifyNoInteractions(bulkRepository);
+  }
+
+  @Test
+  void upsert_positive_copyEnabled_rejectsNotAppliedAuthoritiesOneByOne() {
+    bulkProperties.setCopyEnabled(true);
+    var created = authority(UUID.randomUUID(), 0);
+    var updated = authority(UUID.randomUUID(), 1);
+    var outdated = authority(UUID.randomUUID(), 1);
+    var deleted = authority(UUID.randomUUID(), 1);
+    deleted.setDeleted(true);
+    var authorities = List.of(created, updated, outdated, deleted);
+    when(bulkRepository.upsert(authorities)).thenReturn(List.of(
+      new UpsertRow(created.getId(), 0, null, created),
+      new UpsertRow(updated.getId(), 1, authority(updated.getId(), 1), authority(updated.getId(), 2)),
+      new UpsertRow(outdated.getId(), 1, authority(outdated.getId(), 3), null),
+      new UpsertRow(deleted.getId(), 1, deleted, null)));
+
+    var result = bulkUpsertService.upsert(authorities);
+
+    assertThat(result.updateResults())
+      .extracting(updateResult -> updateResult.newEntity().getId())
+      .containsExactly(created.getId(), updated.getId());
+    assertThat(result.updateResults().get(0).oldEntity()).isNull();
+    assertThat(result.updateResults().get(1).oldEntity().getVersion()).isEqualTo(1);
+    assertThat(result.rejected()).containsOnlyKeys(outdated.getId(), deleted.getId());
+    assertThat(result.rejected().get(outdated.getId())).isInstanceOf(OptimisticLockingException.class)
+      .hasMessageContaining("Stored _version is 3, _version of request is 1");
+    assertThat(result.rejected().get(deleted.getId())).isInstanceOf(AuthorityBatchProcessingException.class);
+    verifyNoInteractions(authorityService);
+  }
+
+  private Authority authority(UUID id, int version) {
+    var authority = new Authority();
+    authority.setId(id);
+    authority.setVersion(version);
+    return authority;
+  }
+}
@@ -0,0 +1,135 @@
+package org.folio.entlinks.service.authority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.support.base.TestConstants.TENANT_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
+import lombok.SneakyThrows;
+import org.folio.entlinks.config.properties.AuthorityOutboxProperties;
+import org.folio.entlinks.domain.dto.AuthorityDto;
+import org.folio.entlinks.domain.repository.AuthorityDomainEventOutboxJdbcRepository;
+import org.folio.entlinks.domain.repository.AuthorityDomainEventOutboxJdbcRepository.OutboxEvent;
+import org.folio.entlinks.integration.dto.event.AuthorityDeleteEventSubType;
+import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
+import org.folio.entlinks.integration.dto.event.DomainEvent;
+import org.folio.entlinks.integration.kafka.EventSendFailure;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class AuthorityDomainEventOutboxRelayTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final AuthorityOutboxProperties outboxProperties = new AuthorityOutboxProperties();
+
+  @Mock
+  private AuthorityDomainEventOutboxJdbcRepository repository;
+  @Mock
+  private AuthorityDomainEventPublisher eventPublisher;
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  private AuthorityDomainEventOutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    relay = new AuthorityDomainEventOutboxRelay(repository, eventPublisher, outboxProperties, transactionTemplate,
+      objectMapper);
+    when(transactionTemplate.execute(any()))
+      .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void relay_positive_sendsEventsInOrderAndRemovesThem() {
+    var createEvent = DomainEvent.createEvent(UUID.randomUUID(), new AuthorityDto(), TENANT_ID);
+    var deleteEvent = AuthorityDomainEvent.softDeleteEvent(UUID.randomUUID(), new AuthorityDto(), TENANT_ID);
+    when(repository.tryLock()).thenReturn(true);
+    when(repository.findFirst(outboxProperties.getBatchSize()))
+      .thenReturn(List.of(outboxEvent(1L, createEvent), outboxEvent(2L, deleteEvent)));
+    when(eventPublisher.publishEvents(anyList())).thenReturn(List.of());
+
+    var relayed = relay.relay();
+
+    assertThat(relayed).isEqualTo(2);
+    var captor = ArgumentCaptor.forClass(List.class);
+    verify(eventPublisher).publishEvents(captor.capture());
+    List<DomainEvent<?>> published = captor.getValue();
+    assertThat(published).extracting(DomainEvent::getId).containsExactly(createEvent.getId(), deleteEvent.getId());
+    assertThat(published.get(1)).isInstanceOfSatisfying(AuthorityDomainEvent.class,
+      event -> assertThat(event.getDeleteEventSubType()).isEqualTo(AuthorityDeleteEventSubType.SOFT_DELETE));
+    verify(repository).deleteByIds(List.of(1L, 2L));
+  }
+
+  @Test
+  void relay_positive_relaysEventsStoredWhileLastBatchWasSent() {
+    var firstEvent = DomainEvent.createEvent(UUID.randomUUID(), new AuthorityDto(), TENANT_ID);
+    var secondEvent = DomainEvent.createEvent(UUID.randomUUID(), new AuthorityDto(), TENANT_ID);
+    when(repository.tryLock()).thenReturn(true);
+    when(repository.findFirst(outboxProperties.getBatchSize()))
+      .thenReturn(List.of(outboxEvent(1L, firstEvent)), List.of(outboxEvent(2L, secondEvent)));
+    when(repository.hasEvents()).thenReturn(true, false);
+    when(eventPublisher.publishEvents(anyList())).thenReturn(List.of());
+
+    var relayed = relay.relay();
+
+    assertThat(relayed).isEqualTo(2);
+    verify(repository).deleteByIds(List.of(1L));
+    verify(repository).deleteByIds(List.of(2L));
+  }
+
+  @Test
+  void relay_negative_keepsEventsStartingFromFirstFailed() {
+    var events = List.of(
+      DomainEvent.createEvent(UUID.randomUUID(), new AuthorityDto(), TENANT_ID),
+      DomainEvent.createEvent(UUID.randomUUID(), new AuthorityDto(), TENANT_ID),
+      DomainEvent.createEvent(UUID.randomUUID(), new AuthorityDto(), TENANT_ID));
+    var outboxEvents = List.of(
+      outboxEvent(1L, events.get(0)), outboxEvent(2L, events.get(1)), outboxEvent(3L, events.get(2)));
+    when(repository.tryLock()).thenReturn(true);
+    when(repository.findFirst(outboxProperties.getBatchSize())).thenReturn(outboxEvents);
+    when(eventPublisher.publishEvents(anyList())).thenAnswer(invocation -> {
+      List<DomainEvent<?>> published = invocation.getArgument(0);
+      return List.of(new EventSendFailure<>(published.get(1).getId().toString(), published.get(1),
+        new IllegalStateException("test")));
+    });
+
+    var relayed = relay.relay();
+
+    assertThat(relayed).isEqualTo(1);
+    verify(repository).deleteByIds(List.of(1L));
+  }
+
+  @Test
+  void relay_negative_outboxIsLockedByAnotherRelay() {
+    when(repository.tryLock()).thenReturn(false);
+
+    var relayed = relay.relay();
+
+    assertThat(relayed).isZero();
+    verify(repository, never()).findFirst(anyInt());
+    verify(repository, never()).hasEvents();
+    verify(eventPublisher, never()).publishEvents(anyList());
+  }
+
+  @SneakyThrows
+  private OutboxEvent outboxEvent(long id, DomainEvent<?> event) {
+    return new OutboxEvent(id, event.getId(), event.getType(), objectMapper.writeValueAsString(event));
+  }
+}
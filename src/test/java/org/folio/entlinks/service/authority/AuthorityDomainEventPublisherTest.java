@@ -1,21 +1,20 @@
 package org.folio.entlinks.service.authority;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.UUID;
 import org.folio.entlinks.domain.dto.AuthorityDto;
-import org.folio.entlinks.integration.dto.event.AuthorityDeleteEventSubType;
-import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
 import org.folio.entlinks.integration.dto.event.DomainEvent;
 import org.folio.entlinks.integration.dto.event.DomainEventType;
 import org.folio.entlinks.integration.kafka.EventProducer;
 import org.folio.entlinks.service.reindex.ReindexContext;
-import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,147 +33,33 @@ class AuthorityDomainEventPublisherTest {
   @Mock
   private EventProducer<DomainEvent<?>> eventProducer;
 
-  @Mock
-  private FolioExecutionContext folioExecutionContext;
-
   @InjectMocks
   private AuthorityDomainEventPublisher eventPublisher;
 
   private final ArgumentCaptor<DomainEvent> captor = ArgumentCaptor.forClass(DomainEvent.class);
 
   @Test
-  void shouldNotSendCreatedEventWhenIdIsNull() {
-    // when
-    eventPublisher.publishCreateEvent(new AuthorityDto());
-
-    // then
-    verifyNoInteractions(eventProducer);
-  }
-
-  @Test
-  void shouldSendCreatedEvent() {
-    // given
-    var dto = new AuthorityDto().id(UUID.randomUUID()).source("source");
-    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
-
-    // when
-    eventPublisher.publishCreateEvent(dto);
-
-    // then
-    verify(eventProducer).sendMessage(eq(dto.getId().toString()), captor.capture(), eq(DOMAIN_EVENT_TYPE_HEADER),
-        eq(DomainEventType.CREATE));
-    assertEquals(dto, captor.getValue().getNewEntity());
-    assertEquals(TENANT_ID, captor.getValue().getTenant());
-  }
-
-  @Test
-  void shouldNotSendUpdatedEventWhenIdIsNull() {
-    // when
-    eventPublisher.publishUpdateEvent(new AuthorityDto(), new AuthorityDto());
-
-    // then
-    verifyNoInteractions(eventProducer);
-  }
-
-  @Test
-  void shouldSendUpdatedEvent() {
-    // given
-    var id = UUID.randomUUID();
-    var oldDto = new AuthorityDto().id(id).source("sourceOld");
-    var newDto = new AuthorityDto().id(id).source("sourceNew");
-    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
-
-    // when
-    eventPublisher.publishUpdateEvent(oldDto, newDto);
-
-    // then
-    verify(eventProducer).sendMessage(eq(oldDto.getId().toString()), captor.capture(), eq(DOMAIN_EVENT_TYPE_HEADER),
-        eq(DomainEventType.UPDATE));
-    assertEquals(newDto, captor.getValue().getNewEntity());
-    assertEquals(oldDto, captor.getValue().getOldEntity());
-    assertEquals(TENANT_ID, captor.getValue().getTenant());
-  }
-
-  @Test
-  void shouldNotSendSoftDeletedEventWhenIdIsNull() {
-    // when
-    eventPublisher.publishSoftDeleteEvent(new AuthorityDto());
-
-    // then
-    verifyNoInteractions(eventProducer);
-  }
-
-  @Test
-  void shouldSendSoftDeletedEvent() {
-    // given
-    var dto = new AuthorityDto().id(UUID.randomUUID()).source("source");
-    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
-    var deleteEventCaptor = ArgumentCaptor.forClass(AuthorityDomainEvent.class);
-
-    // when
-    eventPublisher.publishSoftDeleteEvent(dto);
-
-    // then
-    verify(eventProducer).sendMessage(eq(dto.getId().toString()), deleteEventCaptor.capture(),
-        eq(DOMAIN_EVENT_TYPE_HEADER), eq(DomainEventType.DELETE));
-    assertEquals(dto, deleteEventCaptor.getValue().getOldEntity());
-    assertEquals(AuthorityDeleteEventSubType.SOFT_DELETE, deleteEventCaptor.getValue().getDeleteEventSubType());
-    assertEquals(TENANT_ID, deleteEventCaptor.getValue().getTenant());
-  }
-
-  @Test
-  void shouldNotSendHardDeletedEventWhenIdIsNull() {
-    // when
-    eventPublisher.publishHardDeleteEvent(new AuthorityDto());
-
-    // then
-    verifyNoInteractions(eventProducer);
-  }
-
-  @Test
-  void shouldSendHardDeletedEvent() {
+  void shouldSendReindexEventsInBatch() {
     // given
-    var dto = new AuthorityDto().id(UUID.randomUUID()).source("source");
-    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
-    var deleteEventCaptor = ArgumentCaptor.forClass(AuthorityDomainEvent.class);
-
-    // when
-    eventPublisher.publishHardDeleteEvent(dto);
-
-    // then
-    verify(eventProducer).sendMessage(eq(dto.getId().toString()), deleteEventCaptor.capture(),
-        eq(DOMAIN_EVENT_TYPE_HEADER), eq(DomainEventType.DELETE));
-    assertEquals(dto, deleteEventCaptor.getValue().getOldEntity());
-    assertEquals(AuthorityDeleteEventSubType.HARD_DELETE, deleteEventCaptor.getValue().getDeleteEventSubType());
-    assertEquals(TENANT_ID, deleteEventCaptor.getValue().getTenant());
-  }
-
-  @Test
-  void shouldNotSendReindexEventWhenIdIsNull() {
-    // when
+    var jobId = UUID.randomUUID();
     var context = mock(ReindexContext.class);
-    eventPublisher.publishReindexEvent(new AuthorityDto(), context);
-
-    // then
-    verifyNoInteractions(eventProducer);
-  }
-
-  @Test
-  void shouldSendReindexEvent() {
-    // given
-    var id = UUID.randomUUID();
-    var context = mock(ReindexContext.class);
-    var dto = new AuthorityDto().id(id).source("source");
+    var dto = new AuthorityDto().id(UUID.randomUUID()).source("source");
     when(context.getTenantId()).thenReturn(TENANT_ID);
-    when(context.getJobId()).thenReturn(id);
+    when(context.getJobId()).thenReturn(jobId);
+    @SuppressWarnings("unchecked")
+    EventProducer<DomainEvent<?>>.Batch batch = mock(EventProducer.Batch.class);
+    when(eventProducer.batch()).thenReturn(batch);
+    when(batch.flush()).thenReturn(List.of());
 
     // when
-    eventPublisher.publishReindexEvent(dto, context);
+    var failures = eventPublisher.publishReindexEvents(List.of(dto, new AuthorityDto()), context);
 
     // then
-    verify(eventProducer).sendMessage(eq(dto.getId().toString()), captor.capture(),
-        eq("reindex-job-id"), eq(id), eq(DOMAIN_EVENT_TYPE_HEADER), eq(DomainEventType.REINDEX));
+    assertTrue(failures.isEmpty());
+    verify(batch).send(eq(dto.getId().toString()), captor.capture(),
+        eq("reindex-job-id"), eq(jobId), eq(DOMAIN_EVENT_TYPE_HEADER), eq(DomainEventType.REINDEX));
+    verify(batch).flush();
+    verifyNoMoreInteractions(batch);
     assertEquals(dto, captor.getValue().getNewEntity());
-    assertEquals(TENANT_ID, captor.getValue().getTenant());
   }
 }
@@ -1,21 +1,32 @@
 package org.folio.entlinks.service.authority;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Consumer;
+import org.folio.entlinks.config.properties.AuthorityBulkProperties;
 import org.folio.entlinks.controller.converter.AuthorityMapperImpl;
+import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.entity.Authority;
+import org.folio.entlinks.exception.OptimisticLockingException;
+import org.folio.entlinks.service.authority.AuthorityS3Service.AuthorityBulkConsumer;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,12 +44,14 @@ class AuthorityS3ServiceTest {
   @Mock
   private AuthorityMapperImpl mapper;
   @Mock
-  private Consumer<List<Authority>> bulkConsumer;
+  private AuthorityBulkConsumer bulkConsumer;
+  private AuthorityBulkProperties bulkProperties;
   private AuthorityS3Service authorityS3Service;
 
   @BeforeEach
   void setUp() {
-    authorityS3Service = new AuthorityS3Service(s3Client, new ObjectMapper(), mapper);
+    bulkProperties = new AuthorityBulkProperties();
+    authorityS3Service = new AuthorityS3Service(s3Client, new ObjectMapper(), mapper, bulkProperties);
   }
 
   @Test
@@ -46,7 +59,7 @@ class AuthorityS3ServiceTest {
     // Arrange
     AuthoritiesBulkContext bulkContext = mock(AuthoritiesBulkContext.class);
     var authorityJson = "{\"id\": \"" + AUTHORITY_UUID + "\", \"personalName\": \"Test Authority\"}";
-    when(s3Client.readFile(any())).thenReturn(List.of(authorityJson));
+    mockReadFile(List.of(authorityJson));
     when(mapper.toEntity(any())).thenCallRealMethod();
 
     // Act
@@ -69,7 +82,7 @@ class AuthorityS3ServiceTest {
     var bulkContext = spy(new AuthoritiesBulkContext("test"));
     var authoritiesJson = List.of("{\"id\": \"" + AUTHORITY_UUID + "\", \"personalName\": \"Test Authority 1\"}",
       "{\"id\": \"invalidId\", \"personalName\": \"Test Authority 2\"}");
-    when(s3Client.readFile(any())).thenReturn(authoritiesJson);
+    mockReadFile(authoritiesJson);
     when(mapper.toEntity(any())).thenCallRealMethod();
 
     // Act
@@ -87,4 +100,94 @@ class AuthorityS3ServiceTest {
     verify(s3Client).uploadErrorFiles(any());
   }
 
+  @Test
+  void processAuthorities_multipleChunks_eachChunkConsumedSeparately() throws IOException {
+    // Arrange
+    bulkProperties.setChunkSize(1);
+    AuthoritiesBulkContext bulkContext = mock(AuthoritiesBulkContext.class);
+    var secondUuid = UUID.randomUUID().toString();
+    var authoritiesJson = List.of("{\"id\": \"" + AUTHORITY_UUID + "\", \"personalName\": \"Test Authority 1\"}",
+      "{\"id\": \"" + secondUuid + "\", \"personalName\": \"Test Authority 2\"}");
+    mockReadFile(authoritiesJson);
+    when(mapper.toEntity(any())).thenCallRealMethod();
+
+    // Act
+    int errorCount = authorityS3Service.processAuthorities(bulkContext, bulkConsumer);
+
+    // Assert
+    assertEquals(0, errorCount);
+    verify(s3Client).readFile(any(), eq(1), any());
+    verify(bulkConsumer, times(2)).accept(any());
+    verify(bulkContext).deleteLocalFiles();
+    verify(s3Client, never()).uploadErrorFiles(any());
+  }
+
+  @Test
+  void processAuthorities_failedBatch_isolatesFailedAuthorityByBisection() throws IOException {
+    // Arrange
+    var bulkContext = spy(new AuthoritiesBulkContext("test"));
+    var ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    var failedId = ids.get(1);
+    mockReadFile(ids.stream()
+      .map(id -> "{\"id\": \"" + id + "\", \"personalName\": \"Test Authority\"}")
+      .toList());
+    when(mapper.toEntity(any())).thenCallRealMethod();
+    when(mapper.toDto(any())).thenReturn(new AuthorityDto().id(failedId));
+    var consumedBatches = new ArrayList<List<UUID>>();
+    AuthorityBulkConsumer failingConsumer = authorities -> {
+      var batchIds = authorities.stream().map(Authority::getId).toList();
+      consumedBatches.add(batchIds);
+      if (batchIds.contains(failedId)) {
+        throw new IllegalStateException("test");
+      }
+      return Map.of();
+    };
+
+    // Act
+    int errorCount = authorityS3Service.processAuthorities(bulkContext, failingConsumer);
+
+    // Assert
+    assertEquals(1, errorCount);
+    assertThat(consumedBatches).containsExactly(ids, ids.subList(0, 2), List.of(ids.get(0)), List.of(failedId),
+      ids.subList(2, 4));
+    verify(s3Client).uploadErrorFiles(any());
+  }
+
+  @Test
+  void processAuthorities_rejectedAuthority_recordedWithoutSplittingBatch() throws IOException {
+    // Arrange
+    var bulkContext = spy(new AuthoritiesBulkContext("test"));
+    var ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    var rejectedId = ids.get(1);
+    mockReadFile(ids.stream()
+      .map(id -> "{\"id\": \"" + id + "\", \"personalName\": \"Test Authority\"}")
+      .toList());
+    when(mapper.toEntity(any())).thenCallRealMethod();
+    when(mapper.toDto(any())).thenReturn(new AuthorityDto().id(rejectedId));
+    var consumedBatches = new ArrayList<List<UUID>>();
+    AuthorityBulkConsumer rejectingConsumer = authorities -> {
+      consumedBatches.add(authorities.stream().map(Authority::getId).toList());
+      return Map.of(rejectedId, OptimisticLockingException.optimisticLockingOnUpdate(rejectedId, 2, 1));
+    };
+
+    // Act
+    int errorCount = authorityS3Service.processAuthorities(bulkContext, rejectingConsumer);
+
+    // Assert
+    assertEquals(1, errorCount);
+    assertThat(consumedBatches).containsExactly(ids);
+    verify(s3Client).uploadErrorFiles(any());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void mockReadFile(List<String> lines) {
+    doAnswer(invocation -> {
+      var chunkSize = invocation.getArgument(1, Integer.class);
+      var chunkConsumer = invocation.getArgument(2, Consumer.class);
+      for (int i = 0; i < lines.size(); i += chunkSize) {
+        chunkConsumer.accept(lines.subList(i, Math.min(i + chunkSize, lines.size())));
+      }
+      return null;
+    }).when(s3Client).readFile(any(), anyInt(), any());
+  }
 }
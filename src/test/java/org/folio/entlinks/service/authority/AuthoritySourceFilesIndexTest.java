@@ -0,0 +1,58 @@
+package org.folio.entlinks.service.authority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import org.folio.entlinks.domain.entity.AuthoritySourceFile;
+import org.folio.entlinks.domain.entity.AuthoritySourceFileCode;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class AuthoritySourceFilesIndexTest {
+
+  private final AuthoritySourceFile shortCodeFile = sourceFile("short", "n");
+  private final AuthoritySourceFile longCodeFile = sourceFile("long", "nb", "sh");
+  private final AuthoritySourceFilesIndex index = new AuthoritySourceFilesIndex(List.of(shortCodeFile, longCodeFile));
+
+  @Test
+  void shouldFindSourceFileByLongestMatchingCode() {
+    assertThat(index.findByCodeAsPrefixFor("nb123")).get()
+      .extracting(AuthoritySourceFile::getName).isEqualTo("long");
+    assertThat(index.findByCodeAsPrefixFor("n123")).get()
+      .extracting(AuthoritySourceFile::getName).isEqualTo("short");
+    assertThat(index.findByCodeAsPrefixFor("sh")).get()
+      .extracting(AuthoritySourceFile::getName).isEqualTo("long");
+  }
+
+  @Test
+  void shouldNotFindSourceFileWithoutMatchingCode() {
+    assertThat(index.findByCodeAsPrefixFor("s123")).isEmpty();
+    assertThat(index.findByCodeAsPrefixFor("")).isEmpty();
+    assertThat(index.findByCodeAsPrefixFor(null)).isEmpty();
+  }
+
+  @Test
+  void shouldFindSourceFileSnapshotById() {
+    var actual = index.findById(longCodeFile.getId());
+
+    assertThat(actual).get()
+      .isNotSameAs(longCodeFile)
+      .extracting(AuthoritySourceFile::getName).isEqualTo("long");
+    assertThat(index.findById(UUID.randomUUID())).isEmpty();
+    assertThat(index.size()).isEqualTo(2);
+  }
+
+  private AuthoritySourceFile sourceFile(String name, String... codes) {
+    var sourceFile = new AuthoritySourceFile();
+    sourceFile.setId(UUID.randomUUID());
+    sourceFile.setName(name);
+    for (var code : codes) {
+      var sourceFileCode = new AuthoritySourceFileCode();
+      sourceFileCode.setCode(code);
+      sourceFile.addCode(sourceFileCode);
+    }
+    return sourceFile;
+  }
+}
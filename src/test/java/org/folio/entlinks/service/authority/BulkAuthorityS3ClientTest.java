@@ -3,16 +3,19 @@ package org.folio.entlinks.service.authority;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import org.folio.s3.client.FolioS3Client;
 import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -24,11 +27,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class BulkAuthorityS3ClientTest {
 
   private static final String AUTHORITY_UUID = "58949d4b-2da2-43ce-b12b-319dd22f5990";
+  private static final int RETRY_COUNT = 3;
   @Mock
   private FolioS3Client s3Client;
-  @InjectMocks
   private BulkAuthorityS3Client client;
 
+  @BeforeEach
+  void setUp() {
+    client = new BulkAuthorityS3Client(s3Client, RETRY_COUNT, 1);
+  }
+
   @Test
   void readFile_ReturnsListOfStringAuthority() {
     // Arrange
@@ -38,14 +46,28 @@ class BulkAuthorityS3ClientTest {
     when(s3Client.read(remoteFileName)).thenReturn(inputStream);
 
     // Act
-    var resultList = client.readFile(remoteFileName);
+    var resultList = readFile(remoteFileName, 10);
 
     // Assert
     assertEquals(1, resultList.size());
-    var stringAuthority = resultList.get(0);
+    var stringAuthority = resultList.get(0).get(0);
     assertThat(stringAuthority).contains(AUTHORITY_UUID, "Test Authority");
   }
 
+  @Test
+  void readFile_SplitsLinesIntoChunks() {
+    // Arrange
+    var remoteFileName = "test-file";
+    var inputStream = new ByteArrayInputStream("1\n2\n3\n4\n5".getBytes());
+    when(s3Client.read(remoteFileName)).thenReturn(inputStream);
+
+    // Act
+    var resultList = readFile(remoteFileName, 2);
+
+    // Assert
+    assertThat(resultList).containsExactly(List.of("1", "2"), List.of("3", "4"), List.of("5"));
+  }
+
   @Test
   void readFile_ReturnsEmptyListWhenFileIsEmpty() {
     // Arrange
@@ -54,7 +76,7 @@ class BulkAuthorityS3ClientTest {
     when(s3Client.read(remoteFileName)).thenReturn(inputStream);
 
     // Act
-    var resultList = client.readFile(remoteFileName);
+    var resultList = readFile(remoteFileName, 10);
 
     // Assert
     assertThat(resultList).isEmpty();
@@ -69,8 +91,24 @@ class BulkAuthorityS3ClientTest {
     });
 
     // Act & Assert
-    var exception = assertThrows(IllegalStateException.class, () -> client.readFile(remoteFileName));
+    var exception = assertThrows(IllegalStateException.class, () -> readFile(remoteFileName, 10));
     assertThat(exception).hasMessageContaining("Error reading file: " + remoteFileName);
+    verify(s3Client, times(RETRY_COUNT)).read(remoteFileName);
+  }
+
+  @Test
+  void readFile_RetriesOpeningFileOnTransientError() {
+    // Arrange
+    var remoteFileName = "test-file";
+    when(s3Client.read(remoteFileName))
+      .thenThrow(new IllegalStateException("Transient error"))
+      .thenReturn(new ByteArrayInputStream("1\n2".getBytes()));
+
+    // Act
+    var resultList = readFile(remoteFileName, 10);
+
+    // Assert
+    assertThat(resultList).containsExactly(List.of("1", "2"));
   }
 
   @Test
@@ -87,4 +125,9 @@ class BulkAuthorityS3ClientTest {
     verify(s3Client).upload(bulkContext.getLocalErrorsFilePath(), bulkContext.getErrorsFilePath());
   }
 
+  private List<List<String>> readFile(String remoteFileName, int chunkSize) {
+    var chunks = new ArrayList<List<String>>();
+    client.readFile(remoteFileName, chunkSize, chunks::add);
+    return chunks;
+  }
 }
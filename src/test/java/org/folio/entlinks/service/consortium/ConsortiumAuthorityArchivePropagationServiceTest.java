@@ -1,7 +1,5 @@
 package org.folio.entlinks.service.consortium;
 
-import static org.assertj.core.api.Assertions.assertThat;
-import static org.folio.support.base.TestConstants.AUTHORITY_CONSORTIUM_SOURCE;
 import static org.folio.support.base.TestConstants.TENANT_ID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -49,28 +47,29 @@ class ConsortiumAuthorityArchivePropagationServiceTest {
     archive.setId(UUID.randomUUID());
     doMocks();
 
-    propagationService.propagate(archive, ConsortiumAuthorityPropagationService.PropagationType.DELETE, TENANT_ID);
+    propagationService.propagate(List.of(archive), ConsortiumAuthorityPropagationService.PropagationType.DELETE,
+        TENANT_ID);
 
-    assertThat(archive.getSource()).isEqualTo(AUTHORITY_CONSORTIUM_SOURCE);
     verify(tenantsService).getConsortiumTenants(TENANT_ID);
     verify(executionService, times(3)).executeAsyncSystemUserScoped(any(), any());
-    verify(authorityArchiveService, times(3)).delete(archive);
+    verify(authorityArchiveService, times(3)).deleteByIds(List.of(archive.getId()));
   }
 
   @Test
   void testPropagateIllegalPropagationType() {
     var archive = authorityArchive();
     archive.setId(UUID.randomUUID());
+    var archives = List.of(archive);
 
     doMocks();
 
     var exception = assertThrows(IllegalArgumentException.class,
-        () -> propagationService.propagate(archive, ConsortiumAuthorityPropagationService.PropagationType.CREATE,
+        () -> propagationService.propagate(archives, ConsortiumAuthorityPropagationService.PropagationType.CREATE,
             TENANT_ID));
     assertEquals("Propagation type 'CREATE' is not supported for authority archives.", exception.getMessage());
 
     exception = assertThrows(IllegalArgumentException.class,
-        () -> propagationService.propagate(archive, ConsortiumAuthorityPropagationService.PropagationType.UPDATE,
+        () -> propagationService.propagate(archives, ConsortiumAuthorityPropagationService.PropagationType.UPDATE,
             TENANT_ID));
     assertEquals("Propagation type 'UPDATE' is not supported for authority archives.", exception.getMessage());
   }
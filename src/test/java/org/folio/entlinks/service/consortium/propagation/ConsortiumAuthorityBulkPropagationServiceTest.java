@@ -0,0 +1,117 @@
+package org.folio.entlinks.service.consortium.propagation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.PropagationType.DELETE;
+import static org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.PropagationType.UPDATE;
+import static org.folio.support.base.TestConstants.TENANT_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.folio.entlinks.domain.entity.Authority;
+import org.folio.entlinks.exception.OptimisticLockingException;
+import org.folio.entlinks.service.authority.AuthorityService;
+import org.folio.entlinks.service.consortium.ConsortiumTenantsService;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ConsortiumAuthorityBulkPropagationServiceTest {
+
+  private @Mock AuthorityService authorityService;
+  private @Mock ConsortiumTenantsService tenantsService;
+  private @Mock SystemUserScopedExecutionService executionService;
+  private @InjectMocks ConsortiumAuthorityBulkPropagationService propagationService;
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testPropagateUpsertsChunkOncePerTenant() {
+    var authority = new Authority();
+    authority.setId(UUID.randomUUID());
+    authority.setSource("MARC");
+    var authorities = List.of(authority);
+
+    doMocks();
+    propagationService.propagate(authorities, UPDATE, TENANT_ID);
+
+    verify(tenantsService).getConsortiumTenants(TENANT_ID);
+    verify(executionService, times(3)).executeAsyncSystemUserScoped(any(), any());
+    var captor = ArgumentCaptor.forClass(List.class);
+    verify(authorityService, times(3)).upsert(captor.capture());
+    assertThat(captor.getAllValues()).allSatisfy(shadowCopies -> assertThat((List<Authority>) shadowCopies)
+      .singleElement()
+      .isNotSameAs(authority)
+      .satisfies(shadowCopy -> {
+        assertEquals(authority.getId(), shadowCopy.getId());
+        assertEquals("CONSORTIUM-MARC", shadowCopy.getSource());
+      }));
+    assertEquals("MARC", authority.getSource());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testPropagateUpsertsRestOfChunkWhenAuthorityFails() {
+    var authorities = Stream.generate(() -> {
+      var authority = new Authority();
+      authority.setId(UUID.randomUUID());
+      authority.setSource("MARC");
+      return authority;
+    }).limit(4).toList();
+    var failedId = authorities.get(2).getId();
+
+    when(tenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(List.of("t1"));
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArgument(1)).run();
+      return null;
+    }).when(executionService).executeAsyncSystemUserScoped(any(), any());
+    var upserted = new ArrayList<UUID>();
+    when(authorityService.upsert(any())).thenAnswer(invocation -> {
+      var shadowCopies = (List<Authority>) invocation.getArgument(0);
+      if (shadowCopies.stream().anyMatch(shadowCopy -> shadowCopy.getId().equals(failedId))) {
+        throw OptimisticLockingException.optimisticLockingOnUpdate(failedId, 1, 0);
+      }
+      shadowCopies.forEach(shadowCopy -> upserted.add(shadowCopy.getId()));
+      return List.of();
+    });
+
+    propagationService.propagate(authorities, UPDATE, TENANT_ID);
+
+    assertThat(upserted).containsExactlyInAnyOrder(authorities.get(0).getId(), authorities.get(1).getId(),
+      authorities.get(3).getId());
+  }
+
+  @Test
+  void testPropagateIllegalPropagationType() {
+    List<Authority> authorities = List.of(new Authority());
+
+    doMocks();
+
+    var exception = assertThrows(IllegalArgumentException.class,
+      () -> propagationService.propagate(authorities, DELETE, TENANT_ID));
+
+    assertEquals("Propagation type 'DELETE' is not supported for bulk authorities.", exception.getMessage());
+  }
+
+  private void doMocks() {
+    when(tenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(List.of("t1", "t2", "t3"));
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArgument(1)).run();
+      return null;
+    }).when(executionService).executeAsyncSystemUserScoped(any(), any());
+  }
+}
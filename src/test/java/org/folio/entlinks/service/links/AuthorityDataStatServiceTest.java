@@ -1,31 +1,31 @@
 package org.folio.entlinks.service.links;
 
-import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus.ACTUAL;
 import static org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus.ERROR;
 import static org.folio.support.TestDataUtils.reports;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Consumer;
-import org.assertj.core.api.SoftAssertions;
 import org.folio.entlinks.domain.dto.LinkUpdateReport;
+import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.entity.AuthorityDataStat;
-import org.folio.entlinks.domain.entity.AuthorityDataStatStatus;
-import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
-import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
 import org.folio.entlinks.domain.repository.AuthorityDataStatRepository;
+import org.folio.entlinks.domain.repository.InstanceLinkJdbcRepository;
+import org.folio.entlinks.domain.repository.InstanceLinkJdbcRepository.LinkStatusUpdate;
 import org.folio.spring.testing.type.UnitTest;
-import org.folio.support.TestDataUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -41,26 +41,21 @@ class AuthorityDataStatServiceTest {
 
   private static final String REPORT_ERROR = "error";
 
-  private final Timestamp testStartTime = new Timestamp(System.currentTimeMillis());
-
   @Mock
   private AuthorityDataStatRepository statRepository;
   @Mock
   private InstanceAuthorityLinkingService linkingService;
+  @Mock
+  private InstanceLinkJdbcRepository linkJdbcRepository;
   @InjectMocks
   private AuthorityDataStatService service;
 
   @Captor
-  private ArgumentCaptor<List<InstanceAuthorityLink>> linksCaptor;
-  @Captor
-  private ArgumentCaptor<AuthorityDataStat> dataStatCaptor;
+  private ArgumentCaptor<Collection<LinkStatusUpdate>> linkUpdatesCaptor;
 
   @BeforeEach
   void prepareMocks() {
-    when(linkingService.getLinksByIds(anyList()))
-      .thenReturn(emptyList());
-    when(statRepository.findById(any()))
-      .thenReturn(Optional.of(new AuthorityDataStat()));
+    lenient().when(statRepository.incrementLinksCounters(any(), anyInt(), anyInt(), anyBoolean())).thenReturn(1);
   }
 
   @Test
@@ -68,19 +63,13 @@ class AuthorityDataStatServiceTest {
     var jobId = UUID.randomUUID();
     var reports = reports(jobId);
 
-    when(linkingService.getLinksByIds(anyList())).thenReturn(TestDataUtils.links(2, REPORT_ERROR));
-
-    service.updateForReports(jobId, reports);
-
-    verify(linkingService).saveAll(eq(reports.get(0).getInstanceId()), linksCaptor.capture());
-    var links = linksCaptor.getValue();
-    assertThat(links)
-      .anySatisfy(linkAsserter(ACTUAL, null));
+    service.updateForReports(reports);
 
-    verify(linkingService).saveAll(eq(reports.get(1).getInstanceId()), linksCaptor.capture());
-    links = linksCaptor.getValue();
-    assertThat(links)
-      .anySatisfy(linkAsserter(ACTUAL, null));
+    verify(linkJdbcRepository).updateStatuses(linkUpdatesCaptor.capture());
+    assertThat(linkUpdatesCaptor.getValue())
+      .hasSize(4)
+      .containsAll(linkUpdates(reports.get(0), new LinkStatusUpdate(null, ACTUAL, null)))
+      .containsAll(linkUpdates(reports.get(1), new LinkStatusUpdate(null, ACTUAL, null)));
   }
 
   @Test
@@ -88,124 +77,64 @@ class AuthorityDataStatServiceTest {
     var jobId = UUID.randomUUID();
     var reports = reports(jobId, LinkUpdateReport.StatusEnum.FAIL, REPORT_ERROR);
 
-    when(linkingService.getLinksByIds(anyList())).thenReturn(TestDataUtils.links(2));
+    service.updateForReports(reports);
 
-    service.updateForReports(jobId, reports);
-
-    verify(linkingService).saveAll(eq(reports.get(0).getInstanceId()), linksCaptor.capture());
-    var links = linksCaptor.getValue();
-    assertThat(links)
-      .anySatisfy(linkAsserter(ERROR, REPORT_ERROR));
-
-    verify(linkingService).saveAll(eq(reports.get(1).getInstanceId()), linksCaptor.capture());
-    links = linksCaptor.getValue();
-    assertThat(links)
-      .anySatisfy(linkAsserter(ERROR, REPORT_ERROR));
+    verify(linkJdbcRepository).updateStatuses(linkUpdatesCaptor.capture());
+    assertThat(linkUpdatesCaptor.getValue())
+      .hasSize(4)
+      .containsAll(linkUpdates(reports.get(0), new LinkStatusUpdate(null, ERROR, REPORT_ERROR)))
+      .containsAll(linkUpdates(reports.get(1), new LinkStatusUpdate(null, ERROR, REPORT_ERROR)));
   }
 
   @Test
-  void updateForReports_positive_updateStatsData_inProgress() {
+  void updateForReports_positive_updateLinksOfAuthority_whenReportHasNoLinkIds() {
     var jobId = UUID.randomUUID();
-    var failReports = reports(jobId, LinkUpdateReport.StatusEnum.FAIL, REPORT_ERROR);
-    var successReports = reports(jobId);
-    var reports = new LinkedList<>(successReports);
-    reports.addAll(failReports);
-
-    mockDataStat(reports.size() + 1);
-
-    service.updateForReports(jobId, reports);
+    var authorityId = UUID.randomUUID();
+    var report = new LinkUpdateReport().jobId(jobId).status(LinkUpdateReport.StatusEnum.FAIL).failCause(REPORT_ERROR);
+    when(statRepository.findById(jobId)).thenReturn(Optional.of(AuthorityDataStat.builder()
+      .authority(Authority.builder().id(authorityId).build())
+      .build()));
 
-    verify(statRepository).save(dataStatCaptor.capture());
-    var dataStat = dataStatCaptor.getValue();
+    service.updateForReports(List.of(report));
 
-    assertDataStat(dataStat,
-      successReports.size(), failReports.size(), AuthorityDataStatStatus.IN_PROGRESS, null);
+    verify(linkingService).updateStatus(authorityId, ERROR, REPORT_ERROR);
+    verify(statRepository).incrementLinksCounters(jobId, 0, 0, true);
   }
 
   @Test
-  void updateForReports_positive_updateStatsData_completeSuccess() {
-    var jobId = UUID.randomUUID();
-    var reports = reports(jobId);
-
-    mockDataStat(reports.size());
-
-    service.updateForReports(jobId, reports);
-
-    verify(statRepository).save(dataStatCaptor.capture());
-    var dataStat = dataStatCaptor.getValue();
-
-    assertDataStat(dataStat, reports.size(), 0, AuthorityDataStatStatus.COMPLETED_SUCCESS, null);
-  }
-
-  @Test
-  void updateForReports_positive_updateStatsData_completeWithErrors() {
+  void updateForReports_positive_incrementStatsCountersPerJob() {
     var jobId = UUID.randomUUID();
+    var otherJobId = UUID.randomUUID();
     var failReports = reports(jobId, LinkUpdateReport.StatusEnum.FAIL, REPORT_ERROR);
     var successReports = reports(jobId);
     var reports = new LinkedList<>(successReports);
     reports.addAll(failReports);
+    reports.addAll(reports(otherJobId));
 
-    mockDataStat(reports.size());
-
-    service.updateForReports(jobId, reports);
+    service.updateForReports(reports);
 
-    verify(statRepository).save(dataStatCaptor.capture());
-    var dataStat = dataStatCaptor.getValue();
-
-    assertDataStat(dataStat,
-      successReports.size(), failReports.size(), AuthorityDataStatStatus.COMPLETED_WITH_ERRORS, REPORT_ERROR);
+    verify(linkJdbcRepository).updateStatuses(linkUpdatesCaptor.capture());
+    assertThat(linkUpdatesCaptor.getValue()).hasSize(12);
+    verify(statRepository).incrementLinksCounters(jobId, successReports.size(), failReports.size(), false);
+    verify(statRepository).incrementLinksCounters(otherJobId, 2, 0, false);
+    verify(statRepository).completeIfAllProcessed(eq(jobId), any(), eq(REPORT_ERROR));
+    verify(statRepository).completeIfAllProcessed(eq(otherJobId), any(), isNull());
   }
 
   @Test
-  void updateForReports_positive_updateStatsData_completeFail() {
+  void updateForReports_negative_skipCompletionWhenNoStatsFound() {
     var jobId = UUID.randomUUID();
-    var reports = reports(jobId, LinkUpdateReport.StatusEnum.FAIL, REPORT_ERROR);
-
-    mockDataStat(reports.size());
-
-    service.updateForReports(jobId, reports);
-
-    verify(statRepository).save(dataStatCaptor.capture());
-    var dataStat = dataStatCaptor.getValue();
-
-    assertDataStat(dataStat, 0, reports.size(), AuthorityDataStatStatus.FAILED, REPORT_ERROR);
-  }
+    var reports = reports(jobId);
+    when(statRepository.incrementLinksCounters(any(), anyInt(), anyInt(), anyBoolean())).thenReturn(0);
 
-  private Consumer<InstanceAuthorityLink> linkAsserter(InstanceAuthorityLinkStatus status, String errorCause) {
-    return link -> {
-      assertThat(link.getStatus()).isEqualTo(status);
-      assertThat(link.getErrorCause()).isEqualTo(errorCause);
-    };
-  }
+    service.updateForReports(reports);
 
-  private void assertDataStat(AuthorityDataStat dataStat, int updated, int failed, AuthorityDataStatStatus status,
-                              String failCause) {
-    var softAssertions = new SoftAssertions();
-
-    softAssertions.assertThat(dataStat.getLbUpdated())
-      .isEqualTo(updated);
-    softAssertions.assertThat(dataStat.getLbFailed())
-      .isEqualTo(failed);
-    softAssertions.assertThat(dataStat.getFailCause()).isEqualTo(failCause);
-    softAssertions.assertThat(dataStat.getStatus())
-      .isEqualTo(status);
-    if (status.equals(AuthorityDataStatStatus.IN_PROGRESS)) {
-      softAssertions.assertThat(dataStat.getCompletedAt())
-        .isNull();
-    } else {
-      softAssertions.assertThat(dataStat.getCompletedAt())
-        .isAfter(testStartTime);
-    }
-
-    softAssertions.assertAll();
+    verify(statRepository, never()).completeIfAllProcessed(any(), any(), any());
   }
 
-  private void mockDataStat(int lbTotal) {
-    when(statRepository.findById(any()))
-      .thenReturn(Optional.of(AuthorityDataStat.builder()
-        .status(AuthorityDataStatStatus.IN_PROGRESS)
-        .lbTotal(lbTotal)
-        .build()));
+  private List<LinkStatusUpdate> linkUpdates(LinkUpdateReport report, LinkStatusUpdate template) {
+    return report.getLinkIds().stream()
+      .map(linkId -> new LinkStatusUpdate(linkId.longValue(), template.status(), template.errorCause()))
+      .toList();
   }
-
 }
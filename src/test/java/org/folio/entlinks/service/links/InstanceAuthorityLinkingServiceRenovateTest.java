@@ -30,12 +30,12 @@ import org.folio.entlinks.domain.dto.StrippedParsedRecordCollection;
 import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.domain.repository.AuthorityRepository;
-import org.folio.entlinks.domain.repository.AuthoritySourceFileCodeRepository;
 import org.folio.entlinks.domain.repository.InstanceLinkRepository;
 import org.folio.entlinks.exception.DeletedLinkingAuthorityException;
 import org.folio.entlinks.exception.RequestBodyValidationException;
 import org.folio.entlinks.integration.kafka.EventProducer;
 import org.folio.entlinks.service.authority.AuthorityService;
+import org.folio.entlinks.service.authority.AuthoritySourceFileRegistry;
 import org.folio.spring.testing.type.UnitTest;
 import org.folio.support.TestDataUtils;
 import org.folio.support.TestDataUtils.Link;
@@ -57,9 +57,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class InstanceAuthorityLinkingServiceRenovateTest {
 
-  private final AuthoritySourceFileCodeRepository sourceFileCodeRepository =
-      mock(AuthoritySourceFileCodeRepository.class);
-  private final RenovateLinksService renovateLinksService = spy(new RenovateLinksService(sourceFileCodeRepository));
+  private final AuthoritySourceFileRegistry sourceFileRegistry = mock(AuthoritySourceFileRegistry.class);
+  private final RenovateLinksService renovateLinksService = spy(new RenovateLinksService(sourceFileRegistry));
 
   @Mock
   private InstanceLinkRepository instanceLinkRepository;
@@ -107,24 +107,6 @@ class InstanceAuthorityLinkingServiceTest {
       .containsOnly(Link.TAGS[0], Link.TAGS[1]);
   }
 
-  @Test
-  void getLinksByIds_positive_foundWhenExist() {
-    var links = links(2);
-    var ids = links.stream()
-      .map(link -> link.getId().intValue())
-      .toList();
-    var longIds = links.stream()
-      .map(InstanceAuthorityLink::getId)
-      .toList();
-
-    when(instanceLinkRepository.findAllById(longIds)).thenReturn(links);
-
-    var result = service.getLinksByIds(ids);
-
-    assertThat(result)
-      .containsOnly(links.get(0), links.get(1));
-  }
-
   @Test
   void updateLinks_positive_saveIncomingLinks_whenAnyExist() {
     final var instanceId = randomUUID();
@@ -302,23 +284,22 @@ class InstanceAuthorityLinkingServiceTest {
   }
 
   @Test
-  void deleteByAuthorityIdIn_positive() {
-    var authorityId = randomUUID();
-    var authorityIds = Set.of(authorityId);
+  void verifyLinkCounts_positive() {
+    when(instanceLinkRepository.rebuildLinkCounts()).thenReturn(2);
 
-    service.deleteByAuthorityIdIn(authorityIds);
+    service.verifyLinkCounts();
 
-    verify(instanceLinkRepository).deleteByAuthorityIds(authorityIds);
+    verify(instanceLinkRepository).rebuildLinkCounts();
   }
 
   @Test
-  void saveAll_positive() {
-    var instanceId = UUID.randomUUID();
-    var links = links(2);
+  void deleteByAuthorityIdIn_positive() {
+    var authorityId = randomUUID();
+    var authorityIds = Set.of(authorityId);
 
-    service.saveAll(instanceId, links);
+    service.deleteByAuthorityIdIn(authorityIds);
 
-    verify(instanceLinkRepository).saveAll(links);
+    verify(instanceLinkRepository).deleteByAuthorityIds(authorityIds);
   }
 
   @Test
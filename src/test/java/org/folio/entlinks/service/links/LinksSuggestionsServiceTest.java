@@ -10,12 +10,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.folio.entlinks.domain.dto.LinkDetails;
@@ -28,7 +31,7 @@ import org.folio.entlinks.integration.dto.AuthorityParsedContent;
 import org.folio.entlinks.integration.dto.FieldParsedContent;
 import org.folio.entlinks.integration.dto.ParsedSubfield;
 import org.folio.entlinks.integration.dto.SourceParsedContent;
-import org.folio.entlinks.service.authority.AuthoritySourceFileService;
+import org.folio.entlinks.service.authority.AuthoritySourceFileRegistry;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,7 +54,8 @@ class LinksSuggestionsServiceTest {
   private static final String SOURCE_FILE_NAME = "sourceFileName";
 
   private @Spy AuthorityRuleValidationService authorityRuleValidationService;
-  private @Mock AuthoritySourceFileService authoritySourceFileService;
+  private @Mock AuthoritySourceFileRegistry sourceFileRegistry;
+  private @Mock InstanceAuthorityLinkingRulesService linkingRulesService;
   private @InjectMocks LinksSuggestionsService linksSuggestionsService;
 
   private AuthoritySourceFile authoritySourceFile;
@@ -75,7 +79,7 @@ class LinksSuggestionsServiceTest {
     var rules = getMapRule("100", "100");
     var bib = getBibParsedRecordContent("100", null);
     var authority = getAuthorityParsedRecordContent("100");
-    when(authoritySourceFileService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
+    when(sourceFileRegistry.findById(SOURCE_FILE_ID)).thenReturn(Optional.of(authoritySourceFile));
 
     linksSuggestionsService
       .fillLinkDetailsWithSuggestedAuthorities(List.of(bib), List.of(authority), rules, linkingMatchSubfield, false);
@@ -104,7 +108,7 @@ class LinksSuggestionsServiceTest {
     var authority = getAuthorityParsedRecordContent(UUID.randomUUID(), "130", Map.of("a", "test"));
     var secondAuthority = getAuthorityParsedRecordContent(authorityId, "110", Map.of("a", "test"));
     var thirdAuthority = getAuthorityParsedRecordContent(UUID.randomUUID(), "111", Map.of("a", "test"));
-    when(authoritySourceFileService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
+    when(sourceFileRegistry.findById(SOURCE_FILE_ID)).thenReturn(Optional.of(authoritySourceFile));
 
     linksSuggestionsService
       .fillLinkDetailsWithSuggestedAuthorities(List.of(bib), List.of(authority, secondAuthority, thirdAuthority),
@@ -132,7 +136,7 @@ class LinksSuggestionsServiceTest {
     initialBibSubfields.put("c", "c value");
     var bib = getBibParsedRecordContent("100", initialBibSubfields, null);
     var authority = getAuthorityParsedRecordContent("100");
-    when(authoritySourceFileService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
+    when(sourceFileRegistry.findById(SOURCE_FILE_ID)).thenReturn(Optional.of(authoritySourceFile));
 
     linksSuggestionsService
       .fillLinkDetailsWithSuggestedAuthorities(List.of(bib), List.of(authority), rules, linkingMatchSubfield, false);
@@ -160,7 +164,7 @@ class LinksSuggestionsServiceTest {
     initialBibSubfields.put("b", "b value");
     var bib = getBibParsedRecordContent("100", initialBibSubfields, null);
     var authority = getAuthorityParsedRecordContent("100");
-    when(authoritySourceFileService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
+    when(sourceFileRegistry.findById(SOURCE_FILE_ID)).thenReturn(Optional.of(authoritySourceFile));
 
     linksSuggestionsService
       .fillLinkDetailsWithSuggestedAuthorities(List.of(bib), List.of(authority), rules, linkingMatchSubfield, false);
@@ -185,7 +189,7 @@ class LinksSuggestionsServiceTest {
     var rules = getMapRule("100", "100");
     var bib = getBibParsedRecordContent("100", getActualLinksDetails());
     var authority = getAuthorityParsedRecordContent("100");
-    when(authoritySourceFileService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
+    when(sourceFileRegistry.findById(SOURCE_FILE_ID)).thenReturn(Optional.of(authoritySourceFile));
 
     linksSuggestionsService
       .fillLinkDetailsWithSuggestedAuthorities(List.of(bib), List.of(authority), rules, linkingMatchSubfield, false);
@@ -283,7 +287,7 @@ class LinksSuggestionsServiceTest {
     disableAutoLinkingFeature(rules.get("100"));
     var bib = getBibParsedRecordContent("100", getActualLinksDetails());
     var authority = getAuthorityParsedRecordContent("100");
-    when(authoritySourceFileService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
+    when(sourceFileRegistry.findById(SOURCE_FILE_ID)).thenReturn(Optional.of(authoritySourceFile));
 
     linksSuggestionsService
       .fillLinkDetailsWithSuggestedAuthorities(List.of(bib), List.of(authority), rules, linkingMatchSubfield, true);
@@ -314,6 +318,23 @@ class LinksSuggestionsServiceTest {
     assertEquals("test", bibs.get(1).getFields().get(0).getLinkDetails().getErrorCause());
   }
 
+  @Test
+  void fillLinkDetailsWithSuggestedAuthorities_shouldValidateAuthorityOncePerRule_forMultipleBibs() {
+    var rules = getMapRule("100", "100");
+    var firstBib = getBibParsedRecordContent("100", null);
+    var secondBib = getBibParsedRecordContent("100", null);
+    var authority = getAuthorityParsedRecordContent("100");
+    var otherAuthority = new AuthorityParsedContent(UUID.randomUUID(), "n0000", "", List.of(), SOURCE_FILE_ID);
+    when(sourceFileRegistry.findById(SOURCE_FILE_ID)).thenReturn(Optional.of(authoritySourceFile));
+
+    linksSuggestionsService.fillLinkDetailsWithSuggestedAuthorities(List.of(firstBib, secondBib),
+      List.of(otherAuthority, authority), rules, NATURAL_ID_SUBFIELD_CODE, false);
+
+    assertEquals(AUTHORITY_ID, firstBib.getFields().get(0).getLinkDetails().getAuthorityId());
+    assertEquals(AUTHORITY_ID, secondBib.getFields().get(0).getLinkDetails().getAuthorityId());
+    verify(authorityRuleValidationService).validateAuthorityFields(any(), any());
+  }
+
   @Test
   void shouldFillErrorDetailsWithDisabledAutoLinking() {
     var field = new FieldParsedContent("100", "//", "//",
@@ -0,0 +1,84 @@
+package org.folio.entlinks.service.links.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entlinks.service.links.model.CompiledLinkingRule.NO_VIOLATION;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.folio.entlinks.domain.dto.SubfieldModification;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class CompiledLinkingRuleTest {
+
+  @Test
+  void compile_positive_controlledSubfieldsAndModifications() {
+    var rule = rule(new char[] {'a', 'd', 't'}, List.of(new SubfieldModification().source("t").target("a")), null);
+
+    var actual = CompiledLinkingRule.compile(rule);
+
+    assertThat(actual.getRule()).isSameAs(rule);
+    assertThat(actual.isControlled('a')).isTrue();
+    assertThat(actual.isControlled('t')).isTrue();
+    assertThat(actual.isControlled('b')).isFalse();
+    assertThat(actual.isControlled('\u00e4')).isFalse();
+    assertThat(actual.getControlledCodesCount()).isEqualTo(3);
+    assertThat(actual.getControlledCode(2)).isEqualTo('t');
+    assertThat(actual.translate('t')).isEqualTo('a');
+    assertThat(actual.translate('d')).isEqualTo('d');
+    assertThat(actual.translate('\u00e4')).isEqualTo('\u00e4');
+    assertThat(actual.isModificationSource('t')).isTrue();
+    assertThat(actual.isModificationTarget('a')).isTrue();
+    assertThat(actual.isModificationTarget('t')).isFalse();
+    assertThat(actual.getModificationsCount()).isEqualTo(1);
+  }
+
+  @Test
+  void findSubfieldsExistenceViolation_positive() {
+    var validations = new LinkedHashMap<String, Boolean>();
+    validations.put("a", true);
+    validations.put("t", false);
+    var actual = CompiledLinkingRule.compile(rule(new char[] {'a'}, null, validations));
+
+    assertThat(actual.hasSubfieldsExistenceValidations()).isTrue();
+    assertThat(actual.findSubfieldsExistenceViolation(mask('a', 'd'))).isEqualTo(NO_VIOLATION);
+    assertThat(actual.findSubfieldsExistenceViolation(mask('d'))).isEqualTo('a');
+    assertThat(actual.findSubfieldsExistenceViolation(mask('a', 't'))).isEqualTo('t');
+    assertThat(actual.isSubfieldRequired('a')).isTrue();
+    assertThat(actual.isSubfieldRequired('t')).isFalse();
+  }
+
+  @Test
+  void resolve_positive_compilesMissingRule() {
+    var rule = rule(new char[] {'a'}, null, null);
+    rule.setId(1);
+    var compiled = CompiledLinkingRule.compile(rule);
+
+    assertThat(CompiledLinkingRule.resolve(Map.of(1, compiled), rule)).isSameAs(compiled);
+    assertThat(CompiledLinkingRule.resolve(Map.of(), rule))
+      .isNotSameAs(compiled)
+      .satisfies(actual -> assertThat(actual.hasSubfieldsExistenceValidations()).isFalse());
+  }
+
+  private InstanceAuthorityLinkingRule rule(char[] authoritySubfields, List<SubfieldModification> modifications,
+                                            Map<String, Boolean> existenceValidations) {
+    var rule = new InstanceAuthorityLinkingRule();
+    rule.setBibField("240");
+    rule.setAuthorityField("100");
+    rule.setAuthoritySubfields(authoritySubfields);
+    rule.setSubfieldModifications(modifications);
+    rule.setSubfieldsExistenceValidations(existenceValidations);
+    return rule;
+  }
+
+  private SubfieldCodeMask mask(char... codes) {
+    var mask = new SubfieldCodeMask();
+    for (var code : codes) {
+      mask.add(code);
+    }
+    return mask;
+  }
+}
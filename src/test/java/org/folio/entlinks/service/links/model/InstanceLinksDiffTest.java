@@ -0,0 +1,77 @@
+package org.folio.entlinks.service.links.model;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.support.TestDataUtils.links;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.folio.entlinks.domain.entity.Authority;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
+import org.folio.spring.testing.type.UnitTest;
+import org.folio.support.TestDataUtils.Link;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class InstanceLinksDiffTest {
+
+  @Test
+  void of_positive_splitsLinksIntoCreateUpdateAndDelete() {
+    var instanceId = randomUUID();
+    var existedLinks = links(instanceId, Link.of(0, 0), Link.of(1, 1), Link.of(2, 2));
+    var incomingLinks = links(instanceId, Link.of(0, 0, "newNaturalId"), Link.of(1, 2), Link.of(2, 2));
+
+    var diff = InstanceLinksDiff.of(existedLinks, incomingLinks);
+
+    assertThat(diff.linksToCreate()).containsExactly(incomingLinks.get(1));
+    assertThat(diff.linksToDelete()).containsExactly(existedLinks.get(1));
+    assertThat(diff.linksToUpdate()).containsExactly(
+      new InstanceLinksDiff.LinkUpdate(existedLinks.get(0), incomingLinks.get(0)),
+      new InstanceLinksDiff.LinkUpdate(existedLinks.get(2), incomingLinks.get(2)));
+  }
+
+  @Test
+  void of_positive_pairsExistedLinkWithFirstMatchingIncomingLink() {
+    var instanceId = randomUUID();
+    var existedLinks = links(instanceId, Link.of(0, 0));
+    var incomingLinks = links(instanceId, Link.of(0, 0, "first"), Link.of(0, 0, "second"));
+
+    var diff = InstanceLinksDiff.of(existedLinks, incomingLinks);
+
+    assertThat(diff.linksToCreate()).isEmpty();
+    assertThat(diff.linksToDelete()).isEmpty();
+    assertThat(diff.linksToUpdate()).singleElement()
+      .extracting(linkUpdate -> linkUpdate.incomingLink().getAuthority().getNaturalId())
+      .isEqualTo("first");
+  }
+
+  @Test
+  void of_positive_handlesLargeNumberOfLinks() {
+    var instanceId = randomUUID();
+    var existedLinks = generateLinks(instanceId, 0, 5_000);
+    var incomingLinks = generateLinks(instanceId, 2_500, 7_500);
+
+    var diff = InstanceLinksDiff.of(existedLinks, incomingLinks);
+
+    assertThat(diff.linksToDelete()).hasSize(2_500);
+    assertThat(diff.linksToUpdate()).hasSize(2_500);
+    assertThat(diff.linksToCreate()).hasSize(2_500);
+  }
+
+  private List<InstanceAuthorityLink> generateLinks(UUID instanceId, int from, int to) {
+    var linkingRule = InstanceAuthorityLinkingRule.builder().id(1).build();
+    return IntStream.range(from, to)
+      .mapToObj(i -> {
+        var authority = new Authority();
+        authority.setId(new UUID(0, i));
+        return InstanceAuthorityLink.builder()
+          .instanceId(instanceId)
+          .authority(authority)
+          .linkingRule(linkingRule)
+          .build();
+      })
+      .toList();
+  }
+}
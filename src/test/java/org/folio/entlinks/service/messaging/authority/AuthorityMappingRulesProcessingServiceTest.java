@@ -1,7 +1,9 @@
 package org.folio.entlinks.service.messaging.authority;
 
 import static java.util.Collections.emptyList;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -25,15 +27,30 @@ class AuthorityMappingRulesProcessingServiceTest {
 
   @Test
   @SneakyThrows
-  void getTagByAuthorityChange_positive() {
+  void getFieldTagRelations_positive() {
     when(mappingRulesService.getFieldTargetsMappingRelations()).thenReturn(Map.of(
-      "100", List.of("corporateName", "personalName"),
+      "100", List.of("personalName", "personalNameTitle", "notChangeField"),
+      "110", List.of("corporateName"),
       "200", emptyList()
     ));
 
-    var actual = service.getTagByAuthorityChangeField(AuthorityChangeField.PERSONAL_NAME);
+    var actual = service.getFieldTagRelations();
 
-    assertEquals("100", actual);
+    assertThat(actual)
+      .containsOnly(
+        entry(AuthorityChangeField.PERSONAL_NAME, "100"),
+        entry(AuthorityChangeField.PERSONAL_NAME_TITLE, "100"),
+        entry(AuthorityChangeField.CORPORATE_NAME, "110"))
+      .isUnmodifiable();
+  }
+
+  @Test
+  void getFieldTagRelations_positive_noMappingRules() {
+    when(mappingRulesService.getFieldTargetsMappingRelations()).thenReturn(emptyMap());
+
+    var actual = service.getFieldTagRelations();
+
+    assertThat(actual).isEmpty();
   }
 
 }
@@ -1,11 +1,14 @@
 package org.folio.entlinks.service.messaging.authority;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.support.base.TestConstants.TENANT_ID;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -20,6 +23,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.folio.entlinks.config.properties.ConsortiumFanOutProperties;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.integration.dto.AuthoritySourceRecord;
@@ -28,6 +34,7 @@ import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
 import org.folio.entlinks.integration.dto.event.DomainEventType;
 import org.folio.entlinks.integration.internal.AuthoritySourceRecordService;
 import org.folio.entlinks.integration.kafka.EventProducer;
+import org.folio.entlinks.integration.kafka.EventSendFailure;
 import org.folio.entlinks.service.consortium.ConsortiumTenantsService;
 import org.folio.entlinks.service.links.AuthorityDataStatService;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingService;
@@ -44,15 +51,18 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
 class InstanceAuthorityLinkUpdateServiceTest {
 
-  private @Captor ArgumentCaptor<List<LinksChangeEvent>> eventCaptor;
+  private @Captor ArgumentCaptor<LinksChangeEvent> eventCaptor;
   private @Captor ArgumentCaptor<List<AuthorityChangeHolder>> changeHolderCaptor;
 
   private @Mock EventProducer<LinksChangeEvent> eventProducer;
+  private @Mock EventProducer<LinksChangeEvent>.Batch batch;
   private @Mock AuthorityDataStatService authorityDataStatService;
 
   private @Mock AuthorityChangeHandler updateHandler;
@@ -70,10 +80,12 @@ class InstanceAuthorityLinkUpdateServiceTest {
   void setUp() {
     when(updateHandler.supportedAuthorityChangeType()).thenReturn(AuthorityChangeType.UPDATE);
     when(deleteHandler.supportedAuthorityChangeType()).thenReturn(AuthorityChangeType.DELETE);
+    lenient().when(eventProducer.batch()).thenReturn(batch);
 
     service = new InstanceAuthorityLinkUpdateService(authorityDataStatService,
       mappingRulesProcessingService, linkingService, eventProducer, List.of(updateHandler, deleteHandler),
-      sourceRecordService, consortiumTenantsService, folioExecutionContext, executionService);
+      sourceRecordService, consortiumTenantsService, folioExecutionContext, executionService,
+      new ConsortiumFanOutProperties(), new SyncTaskExecutor());
   }
 
   @Test
@@ -86,12 +98,12 @@ class InstanceAuthorityLinkUpdateServiceTest {
 
     var expected = new LinksChangeEvent().type(LinksChangeEvent.TypeEnum.UPDATE);
     when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
-    when(sourceRecordService.getAuthoritySourceRecordById(any())).thenReturn(sourceRecord);
-    when(updateHandler.handle(changeHolderCaptor.capture())).thenReturn(List.of(expected));
+    when(sourceRecordService.getAuthoritySourceRecordsByIds(Set.of(id))).thenReturn(Map.of(id, sourceRecord));
+    mockHandle(updateHandler, expected);
 
     service.handleAuthoritiesChanges(authorityEvents);
 
-    verify(eventProducer).sendMessages(eventCaptor.capture());
+    verify(batch).send(isNull(), eventCaptor.capture());
     verify(authorityDataStatService).createInBatch(anyList());
     verifyNoMoreInteractions(authorityDataStatService);
 
@@ -101,7 +113,7 @@ class InstanceAuthorityLinkUpdateServiceTest {
       .isNotEmpty()
       .allMatch(changeHolder -> changeHolder.getSourceRecord() == sourceRecord);
 
-    var messages = eventCaptor.getValue();
+    var messages = eventCaptor.getAllValues();
     assertThat(messages).hasSize(1);
     assertThat(messages.get(0).getType()).isEqualTo(LinksChangeEvent.TypeEnum.UPDATE);
   }
@@ -117,11 +129,11 @@ class InstanceAuthorityLinkUpdateServiceTest {
 
     var expected = new LinksChangeEvent().type(LinksChangeEvent.TypeEnum.UPDATE);
     when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
-    when(updateHandler.handle(changeHolderCaptor.capture())).thenReturn(List.of(expected));
+    mockHandle(updateHandler, expected);
 
     service.handleAuthoritiesChanges(authorityEvents);
 
-    verify(eventProducer).sendMessages(eventCaptor.capture());
+    verify(batch).send(isNull(), eventCaptor.capture());
     verify(authorityDataStatService).createInBatch(anyList());
     verifyNoMoreInteractions(authorityDataStatService);
 
@@ -131,7 +143,7 @@ class InstanceAuthorityLinkUpdateServiceTest {
       .isNotEmpty()
       .allMatch(changeHolder -> changeHolder.getSourceRecord() == null);
 
-    var messages = eventCaptor.getValue();
+    var messages = eventCaptor.getAllValues();
     assertThat(messages).hasSize(1);
     assertThat(messages.get(0).getType()).isEqualTo(LinksChangeEvent.TypeEnum.UPDATE);
   }
@@ -146,7 +158,7 @@ class InstanceAuthorityLinkUpdateServiceTest {
 
     service.handleAuthoritiesChanges(authorityEvents);
 
-    verify(eventProducer, never()).sendMessages(eventCaptor.capture());
+    verify(batch, never()).send(any(), any());
     verify(authorityDataStatService).createInBatch(anyList());
     verifyNoMoreInteractions(authorityDataStatService);
     verifyNoInteractions(sourceRecordService);
@@ -162,15 +174,15 @@ class InstanceAuthorityLinkUpdateServiceTest {
     var changeEvent = new LinksChangeEvent().type(LinksChangeEvent.TypeEnum.DELETE);
 
     when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
-    when(deleteHandler.handle(any())).thenReturn(List.of(changeEvent));
+    mockHandle(deleteHandler, changeEvent);
 
     service.handleAuthoritiesChanges(authorityEvents);
 
-    verify(eventProducer).sendMessages(eventCaptor.capture());
+    verify(batch).send(isNull(), eventCaptor.capture());
     verify(authorityDataStatService).createInBatch(anyList());
     verifyNoInteractions(sourceRecordService);
 
-    var messages = eventCaptor.getValue();
+    var messages = eventCaptor.getAllValues();
     assertThat(messages).hasSize(1);
     assertThat(messages.get(0).getType()).isEqualTo(LinksChangeEvent.TypeEnum.DELETE);
   }
@@ -188,7 +200,7 @@ class InstanceAuthorityLinkUpdateServiceTest {
     );
     var changeEvent = new LinksChangeEvent().type(LinksChangeEvent.TypeEnum.DELETE);
     when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
-    when(deleteHandler.handle(changeHolderCaptor.capture())).thenReturn(List.of(changeEvent));
+    mockHandle(deleteHandler, changeEvent);
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
 
     service.handleAuthoritiesChanges(authorityEvents);
@@ -196,17 +208,36 @@ class InstanceAuthorityLinkUpdateServiceTest {
     verify(updateHandler).supportedAuthorityChangeType();
     verify(deleteHandler).supportedAuthorityChangeType();
     verifyNoMoreInteractions(updateHandler);
-    verify(eventProducer, times(1)).sendMessages(eventCaptor.capture());
+    verify(batch, times(1)).send(isNull(), eventCaptor.capture());
     var changeHolders = changeHolderCaptor.getAllValues().stream().flatMap(Collection::stream).toList();
     assertThat(changeHolders)
         .hasSize(1)
         .extracting(AuthorityChangeHolder::getNumberOfLinks)
         .containsExactlyInAnyOrder(1);
-    var messages = eventCaptor.getAllValues().stream().flatMap(Collection::stream).toList();
+    var messages = eventCaptor.getAllValues();
     assertThat(messages).hasSize(1);
     assertThat(messages.get(0).getType()).isEqualTo(LinksChangeEvent.TypeEnum.DELETE);
   }
 
+  @Test
+  void handleAuthoritiesChanges_negative_shouldFailWhenEventsNotSent() {
+    final var id = UUID.randomUUID();
+    final var authorityEvents = List.of(
+      new AuthorityDomainEvent(id, null, new AuthorityDto().naturalId("new").personalName("test"),
+        DomainEventType.UPDATE, TENANT_ID));
+    var expected = new LinksChangeEvent().type(LinksChangeEvent.TypeEnum.UPDATE);
+    when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
+    when(sourceRecordService.getAuthoritySourceRecordsByIds(Set.of(id)))
+      .thenReturn(Map.of(id, new AuthoritySourceRecord(null, null, null)));
+    mockHandle(updateHandler, expected);
+    when(batch.getSentCount()).thenReturn(1);
+    when(batch.flush()).thenReturn(List.of(new EventSendFailure<>(null, expected, new IllegalStateException())));
+
+    assertThatThrownBy(() -> service.handleAuthoritiesChanges(authorityEvents))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageContaining("Failed to send 1 of 1 UPDATE links change events");
+  }
+
   @Test
   void handleAuthoritiesChanges_positive_updateEventOnConsortiumCentralTenant() {
     final var id = UUID.randomUUID();
@@ -221,19 +252,20 @@ class InstanceAuthorityLinkUpdateServiceTest {
       .thenReturn(Map.of(id, 1))
       .thenReturn(Map.of(id, 2))
       .thenReturn(Map.of(id, 3));
-    when(sourceRecordService.getAuthoritySourceRecordById(any())).thenReturn(sourceRecord);
-    when(updateHandler.handle(changeHolderCaptor.capture())).thenReturn(List.of(expected));
+    when(sourceRecordService.getAuthoritySourceRecordsByIds(Set.of(id))).thenReturn(Map.of(id, sourceRecord));
+    mockHandle(updateHandler, expected);
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
     when(consortiumTenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(memberTenants);
     mockExecutionService();
 
     service.handleAuthoritiesChanges(authorityEvents);
 
-    verify(eventProducer, times(3)).sendMessages(eventCaptor.capture());
+    verify(batch, times(3)).send(isNull(), eventCaptor.capture());
+    verify(batch, times(3)).flush();
     verify(executionService).executeSystemUserScoped(eq(memberTenants.get(0)), any());
     verify(executionService).executeSystemUserScoped(eq(memberTenants.get(1)), any());
 
-    var messages = eventCaptor.getAllValues().stream().flatMap(Collection::stream).toList();
+    var messages = eventCaptor.getAllValues();
     assertThat(messages).hasSize(3);
     assertThat(messages.get(0).getType()).isEqualTo(LinksChangeEvent.TypeEnum.UPDATE);
 
@@ -247,6 +279,78 @@ class InstanceAuthorityLinkUpdateServiceTest {
     verify(authorityDataStatService, times(3)).createInBatch(anyList());
   }
 
+  @Test
+  void handleAuthoritiesChanges_negative_shouldFailWhenConsortiumMemberTenantFailed() {
+    final var id = UUID.randomUUID();
+    final var authorityEvents = List.of(
+      new AuthorityDomainEvent(id, null, new AuthorityDto().naturalId("new").personalName("test"),
+        DomainEventType.UPDATE, TENANT_ID));
+    final var memberTenants = List.of("tenant1", "tenant2");
+
+    when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
+    when(sourceRecordService.getAuthoritySourceRecordsByIds(Set.of(id)))
+      .thenReturn(Map.of(id, new AuthoritySourceRecord(null, null, null)));
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(consortiumTenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(memberTenants);
+    doAnswer(invocationOnMock -> {
+      throw new IllegalStateException("member failure");
+    }).when(executionService).executeSystemUserScoped(eq(memberTenants.get(0)), any());
+    doAnswer(invocationOnMock -> ((Callable<?>) invocationOnMock.getArgument(1)).call())
+      .when(executionService).executeSystemUserScoped(eq(memberTenants.get(1)), any());
+
+    assertThatThrownBy(() -> service.handleAuthoritiesChanges(authorityEvents))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Authority changes are not applied to shadow copies [tenants: [tenant1]]");
+
+    verify(executionService).executeSystemUserScoped(eq(memberTenants.get(1)), any());
+    verify(authorityDataStatService, times(2)).createInBatch(anyList());
+  }
+
+  @Test
+  void handleAuthoritiesChanges_positive_shouldNotInterruptTimedOutConsortiumMemberTenant() {
+    final var id = UUID.randomUUID();
+    final var authorityEvents = List.of(
+      new AuthorityDomainEvent(id, null, new AuthorityDto().naturalId("new").personalName("test"),
+        DomainEventType.UPDATE, TENANT_ID));
+    final var completed = new AtomicBoolean();
+    var fanOutProperties = new ConsortiumFanOutProperties();
+    fanOutProperties.setTenantTimeoutMs(10);
+    var memberTenantsExecutor = new ThreadPoolTaskExecutor();
+    memberTenantsExecutor.initialize();
+    service = new InstanceAuthorityLinkUpdateService(authorityDataStatService,
+      mappingRulesProcessingService, linkingService, eventProducer, List.of(updateHandler, deleteHandler),
+      sourceRecordService, consortiumTenantsService, folioExecutionContext, executionService, fanOutProperties,
+      memberTenantsExecutor);
+
+    when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
+    when(sourceRecordService.getAuthoritySourceRecordsByIds(Set.of(id)))
+      .thenReturn(Map.of(id, new AuthoritySourceRecord(null, null, null)));
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(consortiumTenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(List.of("tenant1"));
+    doAnswer(invocationOnMock -> {
+      Thread.sleep(200);
+      completed.set(true);
+      return null;
+    }).when(executionService).executeSystemUserScoped(eq("tenant1"), any());
+
+    try {
+      service.handleAuthoritiesChanges(authorityEvents);
+    } finally {
+      memberTenantsExecutor.shutdown();
+    }
+
+    assertThat(completed).isTrue();
+    verify(authorityDataStatService).createInBatch(anyList());
+  }
+
+  private void mockHandle(AuthorityChangeHandler handler, LinksChangeEvent event) {
+    doAnswer(invocationOnMock -> {
+      Consumer<LinksChangeEvent> eventConsumer = invocationOnMock.getArgument(1);
+      eventConsumer.accept(event);
+      return null;
+    }).when(handler).handle(changeHolderCaptor.capture(), any());
+  }
+
   @SuppressWarnings("unchecked")
   private void mockExecutionService() {
     doAnswer(invocationOnMock -> ((Callable<Object>) invocationOnMock.getArgument(1)).call())
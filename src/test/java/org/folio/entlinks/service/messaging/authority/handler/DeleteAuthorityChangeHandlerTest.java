@@ -11,8 +11,9 @@ import static org.folio.support.base.TestConstants.TENANT_ID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -29,6 +30,7 @@ import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.dto.ChangeTarget;
 import org.folio.entlinks.domain.dto.ChangeTargetLink;
 import org.folio.entlinks.domain.dto.LinksChangeEvent;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
 import org.folio.entlinks.integration.dto.event.DomainEventType;
 import org.folio.entlinks.service.authority.AuthorityService;
@@ -43,8 +45,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -91,19 +91,19 @@ class DeleteAuthorityChangeHandlerTest {
 
     doNothing().when(linkingService).deleteByAuthorityIdIn(anySet());
     when(properties.getNumPartitions()).thenReturn(1);
-    when(linkingService.getLinksByAuthorityId(eq(id1), any())).thenReturn(
-      new PageImpl<>(List.of(link1.toEntity(instanceId1)), Pageable.ofSize(1), 2)
-    ).thenReturn(
-      new PageImpl<>(List.of(link2.toEntity(instanceId2)))
-    );
-    when(linkingService.getLinksByAuthorityId(eq(id2), any())).thenReturn(
-      new PageImpl<>(List.of(link3.toEntity(instanceId3)))
-    );
+    when(linkingService.getLinksByAuthorityIdAfter(id1, 0L, 1)).thenReturn(
+      List.of(linkEntity(1L, link1, instanceId1)));
+    when(linkingService.getLinksByAuthorityIdAfter(id1, 1L, 1)).thenReturn(
+      List.of(linkEntity(2L, link2, instanceId2)));
+    when(linkingService.getLinksByAuthorityIdAfter(id2, 0L, 1)).thenReturn(
+      List.of(linkEntity(3L, link3, instanceId3)));
 
     var actual = handler.handle(events);
 
     verify(linkingService).deleteByAuthorityIdIn(Set.of(id1, id2));
-    verify(linkingService, times(3)).getLinksByAuthorityId(any(UUID.class), any(Pageable.class));
+    verify(linkingService).getLinksByAuthorityIdAfter(id1, 2L, 1);
+    verify(linkingService).getLinksByAuthorityIdAfter(id2, 3L, 1);
+    verify(linkingService, times(5)).getLinksByAuthorityIdAfter(any(UUID.class), anyLong(), anyInt());
 
     assertThat(actual)
       .hasSize(3)
@@ -133,13 +133,13 @@ class DeleteAuthorityChangeHandlerTest {
     var link = TestDataUtils.Link.of(1, 1);
     var instanceId = UUID.randomUUID();
     doNothing().when(linkingService).deleteByAuthorityIdIn(Set.of(id));
-    when(properties.getNumPartitions()).thenReturn(1);
-    when(linkingService.getLinksByAuthorityId(eq(id), any())).thenReturn(
-        new PageImpl<>(List.of(link.toEntity(instanceId)), Pageable.ofSize(1), 1));
+    when(properties.getNumPartitions()).thenReturn(2);
+    when(linkingService.getLinksByAuthorityIdAfter(id, 0L, 2)).thenReturn(
+        List.of(linkEntity(1L, link, instanceId)));
 
     var actual = handler.handle(authorityEvents);
 
-    verify(linkingService).getLinksByAuthorityId(eq(id), any());
+    verify(linkingService).getLinksByAuthorityIdAfter(id, 0L, 2);
     verify(linkingService).deleteByAuthorityIdIn(Set.of(id));
     assertThat(actual)
         .hasSize(1)
@@ -166,4 +166,10 @@ class DeleteAuthorityChangeHandlerTest {
     return new ChangeTarget().field(link.tag()).links(
       Collections.singletonList(new ChangeTargetLink().instanceId(instanceId)));
   }
+
+  private InstanceAuthorityLink linkEntity(Long id, TestDataUtils.Link link, UUID instanceId) {
+    var entity = link.toEntity(instanceId);
+    entity.setId(id);
+    return entity;
+  }
 }
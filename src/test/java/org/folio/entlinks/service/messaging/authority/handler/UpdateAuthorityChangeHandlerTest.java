@@ -8,8 +8,6 @@ import static org.folio.entlinks.service.messaging.authority.model.AuthorityChan
 import static org.folio.entlinks.service.messaging.authority.model.AuthorityChangeField.PERSONAL_NAME;
 import static org.folio.support.base.TestConstants.TENANT_ID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,14 +23,13 @@ import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
-import org.folio.entlinks.domain.repository.AuthoritySourceFileRepository;
 import org.folio.entlinks.integration.dto.AuthoritySourceRecord;
 import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
 import org.folio.entlinks.integration.dto.event.DomainEventType;
 import org.folio.entlinks.integration.kafka.EventProducer;
+import org.folio.entlinks.service.authority.AuthoritySourceFileRegistry;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingRulesService;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingService;
-import org.folio.entlinks.service.messaging.authority.AuthorityMappingRulesProcessingService;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChange;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeHolder;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeType;
@@ -46,20 +43,17 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
 class UpdateAuthorityChangeHandlerTest {
 
-  private @Mock AuthorityMappingRulesProcessingService mappingRulesProcessingService;
   private @Mock InstanceAuthorityLinkingRulesService linkingRulesService;
   private @Mock EventProducer<LinkUpdateReport> linksUpdateKafkaTemplate;
   private @Mock FolioExecutionContext context;
   private @Mock InstanceAuthorityLinkingService linkingService;
   private @Mock InstanceAuthorityChangeProperties instanceAuthorityChangeProperties;
-  private @Mock AuthoritySourceFileRepository sourceFileRepository;
+  private @Mock AuthoritySourceFileRegistry sourceFileRegistry;
   private @InjectMocks UpdateAuthorityChangeHandler handler;
 
   @Captor
@@ -88,13 +82,11 @@ class UpdateAuthorityChangeHandlerTest {
     expected.setTenant(context.getTenantId());
     expected.setStatus(LinkUpdateReport.StatusEnum.FAIL);
 
-    when(mappingRulesProcessingService.getTagByAuthorityChangeField(any())).thenReturn("notExistingTag");
-
     var changes = Map.of(
       PERSONAL_NAME, new AuthorityChange(PERSONAL_NAME, "new", "old")
     );
     var event = new AuthorityDomainEvent(id, null, null, DomainEventType.UPDATE, null);
-    var changeHolder = new AuthorityChangeHolder(event, changes, emptyMap(), 1);
+    var changeHolder = new AuthorityChangeHolder(event, changes, Map.of(PERSONAL_NAME, "notExistingTag"), 1);
     changeHolder.setSourceRecord(new AuthoritySourceRecord(id, UUID.randomUUID(), new RecordImpl()));
     handler.handle(List.of(changeHolder));
 
@@ -111,11 +103,11 @@ class UpdateAuthorityChangeHandlerTest {
     var authority = Authority.builder().id(authorityId).build();
 
     when(instanceAuthorityChangeProperties.getNumPartitions()).thenReturn(2);
-    when(linkingService.getLinksByAuthorityId(eq(authorityId), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+    when(linkingService.getLinksByAuthorityIdAfter(authorityId, 0L, 2)).thenReturn(List.of(
       new InstanceAuthorityLink(1L, authority, instanceId,
         new InstanceAuthorityLinkingRule(1, "100", "100", new char[] {'a'}, null, null, true),
         InstanceAuthorityLinkStatus.ACTUAL, null)
-    )));
+    ));
 
     var changeHolder = new AuthorityChangeHolder(new AuthorityDomainEvent(authorityId,
       new AuthorityDto().naturalId("n1010101").sourceFileId(UUID.randomUUID()),
@@ -0,0 +1,60 @@
+package org.folio.entlinks.service.messaging.authority.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entlinks.service.messaging.authority.model.AuthorityChangeField.NATURAL_ID;
+import static org.folio.entlinks.service.messaging.authority.model.AuthorityChangeField.PERSONAL_NAME;
+import static org.folio.entlinks.service.messaging.authority.model.AuthorityChangeField.PERSONAL_NAME_TITLE;
+
+import java.util.EnumMap;
+import java.util.UUID;
+import org.folio.entlinks.domain.dto.AuthorityDto;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class AuthorityChangeDifferTest {
+
+  @Test
+  void getChanges_positive_noDifference() {
+    var newAuthority = new AuthorityDto().personalName("name").naturalId("n1");
+    var oldAuthority = new AuthorityDto().personalName("name").naturalId("n1");
+
+    var actual = AuthorityChangeDiffer.getChanges(newAuthority, oldAuthority);
+
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  void getChanges_positive_headingTypeAndNaturalIdChanged() {
+    var newAuthority = new AuthorityDto().personalNameTitle("title").naturalId("n2");
+    var oldAuthority = new AuthorityDto().personalName("name").naturalId("n1");
+
+    var actual = AuthorityChangeDiffer.getChanges(newAuthority, oldAuthority);
+
+    assertThat(actual)
+      .isInstanceOf(EnumMap.class)
+      .containsOnlyKeys(PERSONAL_NAME, PERSONAL_NAME_TITLE, NATURAL_ID)
+      .containsEntry(PERSONAL_NAME, new AuthorityChange(PERSONAL_NAME, null, "name"))
+      .containsEntry(PERSONAL_NAME_TITLE, new AuthorityChange(PERSONAL_NAME_TITLE, "title", null))
+      .containsEntry(NATURAL_ID, new AuthorityChange(NATURAL_ID, "n2", "n1"));
+  }
+
+  @Test
+  void getChanges_positive_notSupportedFieldsIgnored() {
+    var newAuthority = new AuthorityDto().personalName("name").sourceFileId(UUID.randomUUID()).version(2);
+    var oldAuthority = new AuthorityDto().personalName("name").sourceFileId(UUID.randomUUID()).version(1);
+
+    var actual = AuthorityChangeDiffer.getChanges(newAuthority, oldAuthority);
+
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  void getChanges_positive_oldAuthorityIsNull() {
+    var newAuthority = new AuthorityDto().personalName("name");
+
+    var actual = AuthorityChangeDiffer.getChanges(newAuthority, null);
+
+    assertThat(actual).containsOnlyKeys(PERSONAL_NAME);
+  }
+}
@@ -8,6 +8,7 @@ import org.folio.entlinks.domain.dto.FieldChange;
 import org.folio.entlinks.domain.dto.SubfieldChange;
 import org.folio.entlinks.domain.dto.SubfieldModification;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
+import org.folio.entlinks.service.links.model.CompiledLinkingRule;
 import org.junit.jupiter.api.Test;
 import org.marc4j.marc.impl.DataFieldImpl;
 import org.marc4j.marc.impl.SubfieldImpl;
@@ -36,7 +37,7 @@ class FieldChangeHolderTest {
     linkingRule.setAuthoritySubfields(new char[] {'f', 'g', 'h', 'k', 'l', 'm', 'n', 't'});
     linkingRule.setSubfieldModifications(List.of(new SubfieldModification().source("t").target("a")));
 
-    var fieldChangeHolder = new FieldChangeHolder(dataField, linkingRule);
+    var fieldChangeHolder = new FieldChangeHolder(dataField, CompiledLinkingRule.compile(linkingRule));
 
     var actual = fieldChangeHolder.toFieldChange();
 
@@ -67,7 +68,7 @@ class FieldChangeHolderTest {
     linkingRule.setBibField("240");
     linkingRule.setAuthoritySubfields(new char[] {'a', 'g', 'h', 'k'});
 
-    var fieldChangeHolder = new FieldChangeHolder(dataField, linkingRule);
+    var fieldChangeHolder = new FieldChangeHolder(dataField, CompiledLinkingRule.compile(linkingRule));
     fieldChangeHolder.addExtraSubfieldChange(valueChange("0", "0-data"));
 
     var actual = fieldChangeHolder.toFieldChange();
@@ -95,7 +96,7 @@ class FieldChangeHolderTest {
     linkingRule.setBibField("240");
     linkingRule.setAuthoritySubfields(new char[] {'a', 'g', 'h', 'k'});
 
-    var fieldChangeHolder = new FieldChangeHolder(dataField, linkingRule);
+    var fieldChangeHolder = new FieldChangeHolder(dataField, CompiledLinkingRule.compile(linkingRule));
     fieldChangeHolder.addExtraSubfieldChange(null);
 
     var actual = fieldChangeHolder.toFieldChange();
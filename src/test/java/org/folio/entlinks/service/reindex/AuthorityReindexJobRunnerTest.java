@@ -1,27 +1,45 @@
 package org.folio.entlinks.service.reindex;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
-import java.util.stream.Stream;
+import org.folio.entlinks.config.properties.ReindexProperties;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.entity.ReindexJob;
+import org.folio.entlinks.domain.entity.ReindexJobPartition;
 import org.folio.entlinks.domain.entity.ReindexJobResource;
+import org.folio.entlinks.integration.dto.event.DomainEvent;
+import org.folio.entlinks.integration.kafka.EventSendFailure;
 import org.folio.entlinks.service.authority.AuthorityDomainEventPublisher;
 import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 
+@UnitTest
 @ExtendWith(MockitoExtension.class)
 class AuthorityReindexJobRunnerTest {
 
@@ -37,40 +55,146 @@ class AuthorityReindexJobRunnerTest {
   @Mock
   private ReindexService reindexService;
 
+  @Spy
+  private ReindexProperties reindexProperties = new ReindexProperties();
+
+  @Spy
+  private TaskExecutor reindexTaskExecutor = new SyncTaskExecutor();
+
   @InjectMocks
   private AuthorityReindexJobRunner jobRunner;
 
+  @BeforeEach
+  void setUp() {
+    reindexProperties.setPartitions(1);
+    reindexProperties.setWorkers(1);
+    reindexProperties.setBatchSize(10);
+  }
+
   @Test
   void shouldInitiateReindexJob() {
-    var id = UUID.randomUUID();
-    var expectedDto = new AuthorityDto();
-    expectedDto.setId(id);
-    expectedDto.setPersonalName("personal_name");
-    expectedDto.setSource("source");
-    expectedDto.setVersion(1);
-    expectedDto.setSourceFileId(id);
-    expectedDto.setNaturalId("10");
-    expectedDto.setSubjectHeadings("a");
+    var expectedDto = authorityDto(UUID.randomUUID());
 
     when(jdbcTemplate.queryForObject(any(), eq(Integer.class))).thenReturn(1);
-    when(jdbcTemplate.queryForStream(anyString(), any())).thenReturn(Stream.of(expectedDto));
-    var authorityCaptor = ArgumentCaptor.forClass(AuthorityDto.class);
-    var progressCaptor = ArgumentCaptor.forClass(ReindexJobProgressTracker.class);
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+      .thenReturn(List.of(expectedDto));
+    var partitionsCaptor = ArgumentCaptor.forClass(List.class);
     var jobIdCaptor = ArgumentCaptor.forClass(UUID.class);
 
     var reindexJob = new ReindexJob().withResourceName(ReindexJobResource.AUTHORITY).withId(UUID.randomUUID());
 
     jobRunner.startReindex(reindexJob);
 
-    verify(eventPublisher).publishReindexEvent(authorityCaptor.capture(), any(ReindexContext.class));
-    verify(reindexService).logJobProgress(progressCaptor.capture(), jobIdCaptor.capture());
-    var dto = authorityCaptor.getValue();
-    assertEquals(expectedDto, dto);
-    assertEquals(reindexJob.getId(), jobIdCaptor.getValue());
-    var progressTracker = progressCaptor.getValue();
-    assertEquals(1, progressTracker.getProcessedCount());
-    assertEquals(1, progressTracker.getTotalRecords());
-    verify(reindexService).logJobSuccess(jobIdCaptor.capture());
+    verify(eventPublisher).publishReindexEvents(eq(List.of(expectedDto)), any(ReindexContext.class));
+    verify(reindexService).logPartitionsProgress(jobIdCaptor.capture(), partitionsCaptor.capture(), eq(1));
     assertEquals(reindexJob.getId(), jobIdCaptor.getValue());
+    assertThat(partitionsCaptor.getValue())
+      .containsExactly(new ReindexJobPartition(0, new UUID(0, 0), null, expectedDto.getId(), 1, true));
+    verify(reindexService).logJobSuccess(reindexJob.getId());
+  }
+
+  @Test
+  void shouldResumeReindexJobFromPartitionCheckpoints() {
+    var lastId = UUID.randomUUID();
+    var expectedDto = authorityDto(UUID.randomUUID());
+    var partitions = new ArrayList<>(AuthorityReindexJobRunner.splitPartitions(2));
+    partitions.get(0).setCompleted(true);
+    partitions.get(0).setPublished(5);
+    partitions.get(1).setLastId(lastId);
+    partitions.get(1).setPublished(3);
+    var reindexJob = new ReindexJob().withResourceName(ReindexJobResource.AUTHORITY).withId(UUID.randomUUID())
+      .withPartitions(partitions);
+
+    when(jdbcTemplate.queryForObject(any(), eq(Integer.class))).thenReturn(9);
+    var queryCaptor = ArgumentCaptor.forClass(String.class);
+    when(jdbcTemplate.query(queryCaptor.capture(), any(RowMapper.class), eq(lastId), eq(10)))
+      .thenReturn(List.of(expectedDto));
+
+    jobRunner.startReindex(reindexJob);
+
+    assertThat(queryCaptor.getValue()).contains("id > ?").doesNotContain("id < ?");
+    verify(eventPublisher).publishReindexEvents(eq(List.of(expectedDto)), any(ReindexContext.class));
+    verify(reindexService).logPartitionsProgress(eq(reindexJob.getId()), anyList(), eq(9));
+    verify(reindexService).logJobSuccess(reindexJob.getId());
+  }
+
+  @Test
+  void shouldStoreCheckpointsOncePerIntervalAndOnPartitionCompletion() {
+    reindexProperties.setBatchSize(1);
+    reindexProperties.setCheckpointIntervalMs(60_000);
+    var firstDto = authorityDto(UUID.randomUUID());
+    var secondDto = authorityDto(UUID.randomUUID());
+    when(jdbcTemplate.queryForObject(any(), eq(Integer.class))).thenReturn(2);
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+      .thenReturn(List.of(firstDto), List.of(secondDto), List.of());
+    var reindexJob = new ReindexJob().withResourceName(ReindexJobResource.AUTHORITY).withId(UUID.randomUUID());
+
+    jobRunner.startReindex(reindexJob);
+
+    verify(reindexService, times(2)).logPartitionsProgress(eq(reindexJob.getId()), anyList(), anyInt());
+    verify(reindexService).logPartitionsProgress(eq(reindexJob.getId()), anyList(), eq(1));
+    verify(reindexService).logPartitionsProgress(eq(reindexJob.getId()), anyList(), eq(2));
+    verify(reindexService).logJobSuccess(reindexJob.getId());
+  }
+
+  @Test
+  void shouldFailReindexJobWhenPartitionFailed() {
+    var expectedDto = authorityDto(UUID.randomUUID());
+    when(jdbcTemplate.queryForObject(any(), eq(Integer.class))).thenReturn(1);
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+      .thenReturn(List.of(expectedDto));
+    doThrow(new IllegalStateException("The job has been cancelled"))
+      .when(reindexService).logPartitionsProgress(any(), anyList(), anyInt());
+    var reindexJob = new ReindexJob().withResourceName(ReindexJobResource.AUTHORITY).withId(UUID.randomUUID());
+
+    jobRunner.startReindex(reindexJob);
+
+    verify(reindexService).logJobFailed(reindexJob.getId());
+    verify(reindexService, never()).logJobSuccess(any());
+  }
+
+  @Test
+  void shouldFailReindexJobWhenEventsNotPublished() {
+    var expectedDto = authorityDto(UUID.randomUUID());
+    when(jdbcTemplate.queryForObject(any(), eq(Integer.class))).thenReturn(1);
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+      .thenReturn(List.of(expectedDto));
+    when(eventPublisher.publishReindexEvents(anyList(), any(ReindexContext.class)))
+      .thenReturn(List.of(
+        new EventSendFailure<DomainEvent<?>>(expectedDto.getId().toString(), null, new RuntimeException())));
+    var reindexJob = new ReindexJob().withResourceName(ReindexJobResource.AUTHORITY).withId(UUID.randomUUID());
+
+    jobRunner.startReindex(reindexJob);
+
+    verify(reindexService, never()).logPartitionsProgress(any(), anyList(), anyInt());
+    verify(reindexService).logJobFailed(reindexJob.getId());
+  }
+
+  @Test
+  void shouldSplitUuidSpaceIntoPartitions() {
+    var partitions = AuthorityReindexJobRunner.splitPartitions(4);
+
+    assertThat(partitions).extracting(ReindexJobPartition::getLowerBound).containsExactly(
+      UUID.fromString("00000000-0000-0000-0000-000000000000"),
+      UUID.fromString("40000000-0000-0000-0000-000000000000"),
+      UUID.fromString("80000000-0000-0000-0000-000000000000"),
+      UUID.fromString("c0000000-0000-0000-0000-000000000000"));
+    assertThat(partitions).extracting(ReindexJobPartition::getUpperBound).containsExactly(
+      UUID.fromString("40000000-0000-0000-0000-000000000000"),
+      UUID.fromString("80000000-0000-0000-0000-000000000000"),
+      UUID.fromString("c0000000-0000-0000-0000-000000000000"),
+      null);
+  }
+
+  private AuthorityDto authorityDto(UUID id) {
+    var dto = new AuthorityDto();
+    dto.setId(id);
+    dto.setPersonalName("personal_name");
+    dto.setSource("source");
+    dto.setVersion(1);
+    dto.setSourceFileId(id);
+    dto.setNaturalId("10");
+    dto.setSubjectHeadings("a");
+    return dto;
   }
 }
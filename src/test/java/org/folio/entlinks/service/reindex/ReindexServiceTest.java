@@ -5,9 +5,7 @@ import static org.folio.entlinks.domain.entity.ReindexJobStatus.IDS_PUBLISHED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -15,6 +13,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.folio.entlinks.domain.entity.ReindexJob;
+import org.folio.entlinks.domain.entity.ReindexJobPartition;
 import org.folio.entlinks.domain.entity.ReindexJobResource;
 import org.folio.entlinks.domain.entity.ReindexJobStatus;
 import org.folio.entlinks.domain.repository.ReindexJobRepository;
@@ -90,42 +89,53 @@ class ReindexServiceTest {
   }
 
   @Test
-  void shouldNotLogProgressOnlyForEvery1000Events() {
-    var tracker = new ReindexJobProgressTracker(1500);
-    tracker.incrementProcessedCount();
-    tracker.incrementProcessedCount();
+  void shouldNotLogPartitionsProgressForCancelledJob() {
+    var job = new ReindexJob().withJobStatus(ReindexJobStatus.PENDING_CANCEL);
+    when(repository.findById(any(UUID.class))).thenReturn(Optional.of(job));
+    var id = UUID.randomUUID();
+    var partitions = List.<ReindexJobPartition>of();
 
-    service.logJobProgress(tracker, UUID.randomUUID());
+    var thrown = assertThrows(IllegalStateException.class, () -> service.logPartitionsProgress(id, partitions, 1000));
 
-    verifyNoInteractions(repository);
+    assertThat(thrown.getMessage()).containsOnlyOnce("The job has been cancelled");
   }
 
   @Test
-  void shouldNotLogProgressForCancelledJob() {
-    var tracker = mock(ReindexJobProgressTracker.class);
-    when(tracker.getProcessedCount()).thenReturn(1000);
-    var job = new ReindexJob().withJobStatus(ReindexJobStatus.PENDING_CANCEL);
+  void shouldLogPartitionsProgress() {
+    var job = new ReindexJob().withJobStatus(ReindexJobStatus.IN_PROGRESS);
     when(repository.findById(any(UUID.class))).thenReturn(Optional.of(job));
+    when(repository.saveAndFlush(any(ReindexJob.class))).thenReturn(job);
     var id = UUID.randomUUID();
+    var partition = new ReindexJobPartition(0, new UUID(0, 0), null, UUID.randomUUID(), 1000, false);
 
-    var thrown = assertThrows(IllegalStateException.class, () -> service.logJobProgress(tracker, id));
+    service.logPartitionsProgress(id, List.of(partition), 1000);
 
-    assertThat(thrown.getMessage()).containsOnlyOnce("The job has been cancelled");
+    var captor = ArgumentCaptor.forClass(ReindexJob.class);
+    verify(repository).saveAndFlush(captor.capture());
+    assertThat(captor.getValue().getPublished()).isEqualTo(1000);
+    assertThat(captor.getValue().getPartitions()).containsExactly(partition);
   }
 
   @Test
-  void shouldLogProgressForCancelledJob() {
-    var tracker = mock(ReindexJobProgressTracker.class);
-    when(tracker.getProcessedCount()).thenReturn(1000);
+  void shouldResumeFailedReindexJob() {
+    var job = new ReindexJob().withJobStatus(ReindexJobStatus.ID_PUBLISHING_FAILED);
+    when(repository.findById(any(UUID.class))).thenReturn(Optional.of(job));
+    when(repository.save(any(ReindexJob.class))).thenReturn(job);
+
+    var resumed = service.resumeReindex(UUID.randomUUID());
+
+    assertThat(resumed.getJobStatus()).isEqualTo(ReindexJobStatus.IN_PROGRESS);
+  }
+
+  @Test
+  void shouldThrowIllegalStateExceptionForResumeWhenJobInProgress() {
     var job = new ReindexJob().withJobStatus(ReindexJobStatus.IN_PROGRESS);
     when(repository.findById(any(UUID.class))).thenReturn(Optional.of(job));
-    when(repository.saveAndFlush(any(ReindexJob.class))).thenReturn(job);
     var id = UUID.randomUUID();
 
-    service.logJobProgress(tracker, id);
+    var thrown = assertThrows(IllegalStateException.class, () -> service.resumeReindex(id));
 
-    verify(repository).findById(any(UUID.class));
-    verify(repository).saveAndFlush(any(ReindexJob.class));
+    assertThat(thrown.getMessage()).containsOnlyOnce("The job is in progress");
   }
 
   @Test
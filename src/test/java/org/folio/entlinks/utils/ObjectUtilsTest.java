@@ -2,8 +2,6 @@ package org.folio.entlinks.utils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import lombok.SneakyThrows;
-import lombok.Value;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 
@@ -11,44 +9,12 @@ import org.junit.jupiter.api.Test;
 class ObjectUtilsTest {
 
   @Test
-  @SneakyThrows
-  void getDifference_positive_noDifference() {
-    var t1 = new TestClass("b1", "b2");
-    var t2 = new TestClass("b1", "b2");
-
-    var actual = ObjectUtils.getDifference(t1, t2);
-
-    assertThat(actual).isEmpty();
-  }
-
-  @Test
-  @SneakyThrows
-  void getDifference_positive_oneFieldDifferent() {
-    var t1 = new TestClass("b1", "b2");
-    var t2 = new TestClass("c1", "b2");
-
-    var actual = ObjectUtils.getDifference(t1, t2);
-
-    assertThat(actual).containsExactly(new ObjectUtils.Difference("A1", "b1", "c1"));
+  void isOneOfEquals_positive_valueMatched() {
+    assertThat(ObjectUtils.isOneOfEquals("b", "a", "b")).isTrue();
   }
 
   @Test
-  @SneakyThrows
-  void getDifference_positive_allFieldsDifferent() {
-    var t1 = new TestClass("b1", "b2");
-    var t2 = new TestClass("c1", "c2");
-
-    var actual = ObjectUtils.getDifference(t1, t2);
-
-    assertThat(actual).containsExactlyInAnyOrder(
-      new ObjectUtils.Difference("A1", "b1", "c1"),
-      new ObjectUtils.Difference("A2", "b2", "c2"));
-  }
-
-  @Value
-  static class TestClass {
-
-    String a1;
-    String a2;
+  void isOneOfEquals_negative_noValueMatched() {
+    assertThat(ObjectUtils.isOneOfEquals("c", "a", null)).isFalse();
   }
 }
@@ -19,6 +19,8 @@ public class DatabaseHelper {
 
   public static final String AUTHORITY_DATA_STAT_TABLE = "authority_data_stat";
   public static final String INSTANCE_AUTHORITY_LINK_TABLE = "instance_authority_link";
+  public static final String AUTHORITY_LINK_COUNT_TABLE = "authority_link_count";
+  public static final String AUTHORITY_INSTANCE_LINK_COUNT_TABLE = "authority_instance_link_count";
   public static final String AUTHORITY_NOTE_TYPE_TABLE = "authority_note_type";
   public static final String AUTHORITY_SOURCE_FILE_TABLE = "authority_source_file";
   public static final String AUTHORITY_SOURCE_FILE_SOURCE_TYPE = "authority_source_file_source";